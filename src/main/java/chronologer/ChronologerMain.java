@@ -1,14 +1,15 @@
 package chronologer;
 
 import chronologer.exception.ChronologerException;
+import chronologer.exception.MyLogger;
 import chronologer.storage.ChronologerStateList;
+import chronologer.storage.DurabilityPolicy;
 import chronologer.ui.UiManager;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import chronologer.ui.Ui;
 import chronologer.storage.Storage;
 import chronologer.task.TaskList;
-import org.apache.commons.lang3.SerializationUtils;
 
 import java.io.File;
 import java.io.Serializable;
@@ -32,6 +33,9 @@ public class ChronologerMain extends Application implements Serializable {
     public File version2 = new File(version2Path);
     public File version3 = new File(version3Path);
     public ChronologerStateList history;
+    private static final String CLASS_NAME = "chronologer.ChronologerMain";
+    private static final String LOG_NAME = "StorageErrors";
+    private static MyLogger logger = new MyLogger(CLASS_NAME, LOG_NAME);
 
     /**
      * Constructs the ChronologerMain object.
@@ -39,16 +43,39 @@ public class ChronologerMain extends Application implements Serializable {
     public ChronologerMain() {
         ui = new UiManager(this);
         try {
-            this.storage = new Storage(file);
+            this.storage = new Storage(file, true);
+            storage.setDurabilityPolicy(DurabilityPolicy.GROUP_COMMIT);
+            storage.startBackgroundSaves();
             this.history = new ChronologerStateList(version1, version2, version3);
             this.tasks = storage.loadFile(file);
-            history.addState(SerializationUtils.clone(tasks.getTasks()));
+            archiveOldTasks();
+            history.addState(tasks.getTasks());
         } catch (ChronologerException e) {
             this.tasks = new TaskList(new ArrayList<>());
-            history.addState(SerializationUtils.clone(tasks.getTasks()));
+            history.addState(tasks.getTasks());
         }
+        loadAvailability();
     }
 
+    //@@author fauzt
+    private void loadAvailability() {
+        try {
+            tasks.setAvailability(storage.loadAvailability());
+        } catch (ChronologerException e) {
+            // Free slots are then searched at any hour until the availability is set again.
+        }
+    }
+
+    private void archiveOldTasks() {
+        try {
+            storage.archiveTasks(tasks);
+        } catch (ChronologerException e) {
+            // The tasks simply stay in the task list until the next start.
+            logger.writeLog(e.toString(), CLASS_NAME);
+        }
+    }
+    //@@author
+
     @Override
     public void start(Stage primaryStage) {
         ui.start(primaryStage);
@@ -56,5 +83,10 @@ public class ChronologerMain extends Application implements Serializable {
 
     @Override
     public void stop() {
+        try {
+            storage.flush();
+        } catch (ChronologerException e) {
+            logger.writeLog(e.toString(), CLASS_NAME);
+        }
     }
 }
\ No newline at end of file
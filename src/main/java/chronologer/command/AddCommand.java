@@ -126,7 +126,7 @@ public class AddCommand extends Command {
 
         tasks.add(task);
         history.addState(tasks.getTasks());
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
         UiMessageHandler.outputMessage("Got it! I've added this task:" + "\n  " + task.toString() + "\nNow you have "
                 + tasks.getSize() + " task(s) in the list.");
 
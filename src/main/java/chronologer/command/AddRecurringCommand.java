@@ -56,7 +56,7 @@ public class AddRecurringCommand extends AddCommand {
             }
         }
         history.addState(tasks.getTasks());
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
         UiMessageHandler.outputMessage(
                 "Got it! I've added this task" + "\nNow you have " + tasks.getSize() + " task(s) in the list.");
     }
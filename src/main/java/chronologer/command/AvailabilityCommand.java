@@ -0,0 +1,50 @@
+package chronologer.command;
+
+import chronologer.exception.ChronologerException;
+import chronologer.storage.ChronologerStateList;
+import chronologer.storage.Storage;
+import chronologer.task.Availability;
+import chronologer.task.TaskList;
+import chronologer.ui.UiMessageHandler;
+
+import java.util.function.UnaryOperator;
+
+//@@author fauzt
+/**
+ * Shows or changes the hours the user is available, which free slots are searched within.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class AvailabilityCommand extends Command {
+
+    private static final String AVAILABILITY = "Your available hours:\n";
+
+    private final UnaryOperator<Availability> change;
+
+    /**
+     * Creates a command applying the given change to the hours the user is available.
+     *
+     * @param change The change to apply, or null to show the available hours as they are.
+     */
+    public AvailabilityCommand(UnaryOperator<Availability> change) {
+        this.change = change;
+    }
+
+    /**
+     * Applies the change, saves the available hours to persistent storage and shows them.
+     *
+     * @param tasks   Holds the list of all the tasks the user has.
+     * @param storage Allows the saving of the file to persistent storage.
+     * @param history Allows the history features to be done.
+     * @throws ChronologerException If errors occur in storage component.
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        if (change != null) {
+            tasks.setAvailability(change.apply(tasks.getAvailability()));
+            storage.saveAvailability(tasks.getAvailability());
+        }
+        UiMessageHandler.outputMessage(AVAILABILITY + tasks.getAvailability().toString());
+    }
+}
@@ -18,7 +18,7 @@ public class ClearCommand extends Command {
         ArrayList<Task> emptyTasks = new ArrayList<>();
         tasks.updateListOfTasks(emptyTasks);
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
         UiMessageHandler.outputMessage(CLEAR_MESSAGE);
     }
 }
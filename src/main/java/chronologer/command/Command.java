@@ -19,6 +19,7 @@ import java.util.ArrayList;
 public abstract class Command {
     private static final String LOG_NAME = "CommandErrors";
     MyLogger logger = new MyLogger(this.getClass().getName(), LOG_NAME);
+    private Long idOfTask;
 
     /**
      * Checks if the index of a Task provided by the user is within the TaskList.
@@ -34,6 +35,40 @@ public abstract class Command {
         return true;
     }
 
+    //@@author fauzt
+    /**
+     * Makes this command act on the task holding the given id instead of the task at the index it was given.
+     *
+     * @param idOfTask The id of the task to act on.
+     * @return This command.
+     */
+    public Command forTaskWithId(long idOfTask) {
+        this.idOfTask = idOfTask;
+        return this;
+    }
+
+    /**
+     * Finds the current position of the task this command acts on. Commands given an id look the task up by
+     * its id, so they act on the same task however the list was reordered since it was last displayed.
+     *
+     * @param tasks       Holds the list of all the tasks the user has.
+     * @param indexOfTask The index this command was given.
+     * @return The index of the task in the list.
+     * @throws ChronologerException If no task in the list holds the id.
+     */
+    Integer locateTask(TaskList tasks, Integer indexOfTask) throws ChronologerException {
+        if (idOfTask == null) {
+            return indexOfTask;
+        }
+        int position = tasks.indexOfId(idOfTask);
+        if (position < 0) {
+            logger.writeLog(ChronologerException.missingTaskId(), this.getClass().getName(), "#" + idOfTask);
+            throw new ChronologerException(ChronologerException.missingTaskId());
+        }
+        return position;
+    }
+    //@@author
+
     /**
      * Checks if the index of a Task provided by the user is within the TaskList.
      *
@@ -48,6 +83,25 @@ public abstract class Command {
         UiMessageHandler.outputMessage(title + "\n" + requiredList);
     }
 
+    //@@author fauzt
+    /**
+     * Outputs the tasks like {@link #outputRequiredList(ArrayList, String)}, with the id of each task after its
+     * number, so that a task found in a filtered list can still be addressed as # followed by its id.
+     */
+    void outputRequiredListWithIds(ArrayList<Task> tasks, String title) {
+        StringBuilder requiredList = new StringBuilder(title).append("\n");
+        int i = 1;
+        for (Task task : tasks) {
+            appendWithId(requiredList, i++, task);
+        }
+        UiMessageHandler.outputMessage(requiredList.toString());
+    }
+
+    static void appendWithId(StringBuilder output, int number, Task task) {
+        output.append(number).append(".#").append(task.getId()).append(" ").append(task.toString()).append("\n");
+    }
+    //@@author
+
     /**
      * Contracts all Command type classes to have their own respective execute
      * methods.
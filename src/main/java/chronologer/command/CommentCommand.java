@@ -39,10 +39,11 @@ public class CommentCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        indexOfTask = locateTask(tasks, indexOfTask);
         if (isIndexValid(indexOfTask, tasks.getSize())) {
             Task taskToEdit = tasks.editTaskComment(indexOfTask, comment);
             history.addState((tasks.getTasks()));
-            storage.saveFile(tasks.getTasks());
+            storage.saveFile(tasks);
             UiMessageHandler.outputMessage("Noted. Your comment has been added:" + "\n " + taskToEdit.toString());
         }
     }
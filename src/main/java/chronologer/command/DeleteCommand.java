@@ -30,11 +30,12 @@ public class DeleteCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        indexOfTask = locateTask(tasks, indexOfTask);
         if (isIndexValid(indexOfTask, tasks.getSize())) {
             Task task = tasks.delete(indexOfTask);
             tasks.updateGui(null);
             history.addState(tasks.getTasks());
-            storage.saveFile(tasks.getTasks());
+            storage.saveFile(tasks);
             UiMessageHandler.outputMessage("Noted. I've removed this task:" + "\n " + task.toString()
                 + "\nNow you have " + tasks.getSize() + " task(s) in the list.");
         }
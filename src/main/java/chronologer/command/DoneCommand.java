@@ -28,10 +28,11 @@ public class DoneCommand extends Command {
      * @param history Allows the history features to be done.
      */
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        indexOfTask = locateTask(tasks, indexOfTask);
         if (isIndexValid(indexOfTask, tasks.getSize())) {
             Task task = tasks.markAsDone(indexOfTask);
             history.addState((tasks.getTasks()));
-            storage.saveFile(tasks.getTasks());
+            storage.saveFile(tasks);
             UiMessageHandler.outputMessage("Nice! I've marked this task as done: " + task.toString());
         }
     }
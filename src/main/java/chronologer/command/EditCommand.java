@@ -32,10 +32,11 @@ public class EditCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        indexOfTask = locateTask(tasks, indexOfTask);
         if ((isIndexValid(indexOfTask, tasks.getSize()))) {
             Task taskToEdit = tasks.editTaskDescription(indexOfTask, newDescription);
             history.addState((tasks.getTasks()));
-            storage.saveFile(tasks.getTasks());
+            storage.saveFile(tasks);
             UiMessageHandler.outputMessage("Noted. Your new task description is:" + "\n "
                 + taskToEdit.getDescription());
         }
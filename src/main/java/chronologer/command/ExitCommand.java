@@ -25,7 +25,8 @@ public class ExitCommand extends Command {
      * Terminates the program after saving the file.
      */
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
+        storage.flush();
         // This is the proper way to exit the JVM.
         Runtime.getRuntime().exit(0);
     }
@@ -5,7 +5,10 @@ import chronologer.storage.CalendarOutput;
 import chronologer.storage.ChronologerStateList;
 import chronologer.storage.Storage;
 import chronologer.task.Priority;
+import chronologer.task.PersistentTaskList;
 import chronologer.task.Task;
+import chronologer.task.TaskKind;
+import chronologer.task.TaskRecord;
 import chronologer.task.TaskList;
 import net.fortuna.ical4j.model.Calendar;
 import net.fortuna.ical4j.model.DateTime;
@@ -34,15 +37,13 @@ import java.util.GregorianCalendar;
 public class ExportCommand extends Command {
 
     private static final String BLANK = "";
-    private static final String DEADLINE = "DEADLINE";
-    private static final String EVENT = "EVENT";
-    private static final String TODO_PERIOD = "TODO PERIOD";
     private static final String PROD_ID = "-//Chronologer//iCal4j 1.1//EN";
 
     private String fileName;
     private boolean hasDeadlineFlag;
     private boolean hasEventFlag;
     private boolean hasTodoFlag;
+    private boolean hasArchiveFlag;
 
     /**
      * Initializes the different parameters for the export command.
@@ -59,6 +60,23 @@ public class ExportCommand extends Command {
         this.hasTodoFlag = hasTodoFlag;
     }
 
+    //@@author fauzt
+    /**
+     * Initializes the export command, optionally including the archived tasks.
+     *
+     * @param fileName        Name of the file
+     * @param hasDeadlineFlag Indication to extract deadline tasks.
+     * @param hasEventFlag    Indication to extract event tasks.
+     * @param hasTodoFlag     Indication to extract todo with period tasks.
+     * @param hasArchiveFlag  Indication to export the archived tasks as well.
+     */
+    public ExportCommand(String fileName, Boolean hasDeadlineFlag, Boolean hasEventFlag, Boolean hasTodoFlag,
+                         Boolean hasArchiveFlag) {
+        this(fileName, hasDeadlineFlag, hasEventFlag, hasTodoFlag);
+        this.hasArchiveFlag = hasArchiveFlag;
+    }
+    //@@author
+
     /**
      * Convert the task list to a calendar file.
      *
@@ -72,7 +90,10 @@ public class ExportCommand extends Command {
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException,
         ValidationException {
         Calendar calendar = initializeCalendar();
-        ArrayList<Task> taskList = tasks.getTasks();
+        PersistentTaskList taskList = tasks.snapshot();
+        if (hasArchiveFlag) {
+            taskList = addArchivedTasks(taskList, storage.loadArchive());
+        }
         checkEmptyList(taskList);
         if (hasDeadlineFlag) {
             extractDeadline(taskList, calendar);
@@ -96,6 +117,22 @@ public class ExportCommand extends Command {
         }
     }
 
+    //@@author fauzt
+    /**
+     * Adds the archived tasks after the current ones, leaving the snapshot of the task list itself untouched.
+     *
+     * @param taskList      The snapshot of the current tasks.
+     * @param archivedTasks The archived tasks.
+     * @return A snapshot holding both.
+     */
+    private PersistentTaskList addArchivedTasks(PersistentTaskList taskList, ArrayList<Task> archivedTasks) {
+        for (Task task : archivedTasks) {
+            taskList = taskList.add(TaskRecord.of(task));
+        }
+        return taskList;
+    }
+    //@@author
+
     /**
      * Initializes a Calendar object with default properties.
      *
@@ -115,8 +152,8 @@ public class ExportCommand extends Command {
      * @param taskList The list of tasks
      * @param calendar The calendar to add the components to.
      */
-    private void extractDeadline(ArrayList<Task> taskList, Calendar calendar) {
-        for (Task task : taskList) {
+    private void extractDeadline(PersistentTaskList taskList, Calendar calendar) {
+        for (TaskRecord task : taskList) {
             if (isDeadline(task)) {
                 VEvent deadline = convertDeadline(task);
                 calendar.getComponents().add(deadline);
@@ -130,8 +167,8 @@ public class ExportCommand extends Command {
      * @param taskList The list of tasks
      * @param calendar The calendar to add the components to.
      */
-    private void extractEvent(ArrayList<Task> taskList, Calendar calendar) {
-        for (Task task : taskList) {
+    private void extractEvent(PersistentTaskList taskList, Calendar calendar) {
+        for (TaskRecord task : taskList) {
             if (isEvent(task)) {
                 VEvent event = convertEventOrTodoPeriod(task);
                 calendar.getComponents().add(event);
@@ -145,8 +182,8 @@ public class ExportCommand extends Command {
      * @param taskList The list of tasks
      * @param calendar The calendar to add the components to.
      */
-    private void extractTodoPeriod(ArrayList<Task> taskList, Calendar calendar) {
-        for (Task task : taskList) {
+    private void extractTodoPeriod(PersistentTaskList taskList, Calendar calendar) {
+        for (TaskRecord task : taskList) {
             if (isTodoPeriod(task)) {
                 VEvent todoPeriod = convertEventOrTodoPeriod(task);
                 calendar.getComponents().add(todoPeriod);
@@ -178,7 +215,7 @@ public class ExportCommand extends Command {
      * @param deadlineTask The deadline to be converted.
      * @return A VEvent component representing the converted deadline.
      */
-    private VEvent convertDeadline(Task deadlineTask) {
+    private VEvent convertDeadline(TaskRecord deadlineTask) {
         java.util.Calendar deadlineCalendar = convertToCalendar(deadlineTask.getStartDate());
         DateTime deadlineDate = new DateTime(deadlineCalendar.getTime());
         DateTime currentDate = getCurrentDate();
@@ -198,7 +235,7 @@ public class ExportCommand extends Command {
      * @param eventTask The event or todo to be converted.
      * @return A VEvent component representing the converted event or todo.
      */
-    private VEvent convertEventOrTodoPeriod(Task eventTask) {
+    private VEvent convertEventOrTodoPeriod(TaskRecord eventTask) {
         java.util.Calendar eventStartCalendar = convertToCalendar(eventTask.getStartDate());
         java.util.Calendar eventEndCalendar = convertToCalendar(eventTask.getEndDate());
         DateTime startEventDate = new DateTime(eventStartCalendar.getTime());
@@ -230,7 +267,7 @@ public class ExportCommand extends Command {
      * @param task The task to have its description converted.
      * @return The newly created title of the task.
      */
-    private String createTitle(Task task) {
+    private String createTitle(TaskRecord task) {
         if (BLANK.equals(task.getModCode())) {
             return task.getDescription();
         } else {
@@ -244,7 +281,7 @@ public class ExportCommand extends Command {
      * @param task  The task to have its comments converted.
      * @param event The VEvent component to add a description to.
      */
-    private void createDescription(Task task, VEvent event) {
+    private void createDescription(TaskRecord task, VEvent event) {
         if (!BLANK.equals(task.getComment())) {
             event.getProperties().add(new Description(task.getComment()));
         }
@@ -257,7 +294,7 @@ public class ExportCommand extends Command {
      * @param task  The task to have its location converted.
      * @param event The VEvent component to add a location to.
      */
-    private void createLocation(Task task, VEvent event) {
+    private void createLocation(TaskRecord task, VEvent event) {
         if (!BLANK.equals(task.getLocation())) {
             event.getProperties().add(new Location(task.getLocation()));
         }
@@ -269,7 +306,7 @@ public class ExportCommand extends Command {
      * @param task  The task to have its priority converted.
      * @param event The VEvent component to add a priority to.
      */
-    private void setPriority(Task task, VEvent event) {
+    private void setPriority(TaskRecord task, VEvent event) {
         if (task.getPriority() == Priority.HIGH) {
             event.getProperties().add(net.fortuna.ical4j.model.property.Priority.HIGH);
         } else if (task.getPriority() == Priority.MEDIUM) {
@@ -285,7 +322,7 @@ public class ExportCommand extends Command {
      * @param taskList The task list to be checked
      * @throws ChronologerException If the task list is empty and stop the export command.
      */
-    private void checkEmptyList(ArrayList<Task> taskList) throws ChronologerException {
+    private void checkEmptyList(PersistentTaskList taskList) throws ChronologerException {
         if (taskList.size() == 0) {
             throw new ChronologerException(ChronologerException.emptyExport());
         }
@@ -320,8 +357,8 @@ public class ExportCommand extends Command {
      *
      * @return True if the task is a deadline.
      */
-    private boolean isDeadline(Task task) {
-        return (DEADLINE.equals(task.getType()));
+    private boolean isDeadline(TaskRecord task) {
+        return task.getKind() == TaskKind.DEADLINE;
     }
 
     /**
@@ -329,8 +366,8 @@ public class ExportCommand extends Command {
      *
      * @return True if the task is an event.
      */
-    private boolean isEvent(Task task) {
-        return (EVENT.equals(task.getType()));
+    private boolean isEvent(TaskRecord task) {
+        return task.getKind() == TaskKind.EVENT;
     }
 
     /**
@@ -338,8 +375,8 @@ public class ExportCommand extends Command {
      *
      * @return True if the task is a todo period.
      */
-    private boolean isTodoPeriod(Task task) {
-        return (TODO_PERIOD.equals(task.getType()));
+    private boolean isTodoPeriod(TaskRecord task) {
+        return task.getKind() == TaskKind.TODO_PERIOD;
     }
 
 }
@@ -18,12 +18,54 @@ import java.util.ArrayList;
 public class FindCommand extends Command {
 
     private String keyWord;
+    private boolean isArchiveIncluded;
+    private boolean isSimilarIncluded;
+    private boolean isIdShown;
     private static final String EMPTY_LIST = "There are no matching tasks in your list.";
     private static final String PRESENT_LIST = "Here are the matching task(s) in your list:";
+    private static final String PRESENT_ARCHIVE = "Here are the matching archived task(s):";
 
     public FindCommand(String keyWord) {
+        this(keyWord, false);
+    }
+
+    //@@author fauzt
+    /**
+     * Creates a find command that may also search the archived tasks.
+     *
+     * @param keyWord           The keyword to search for.
+     * @param isArchiveIncluded True if the archived tasks should be searched as well.
+     */
+    public FindCommand(String keyWord, boolean isArchiveIncluded) {
+        this(keyWord, isArchiveIncluded, false);
+    }
+
+    /**
+     * Creates a find command that may also search the archived tasks and may also match mistyped keywords.
+     *
+     * @param keyWord           The keywords to search for.
+     * @param isArchiveIncluded True if the archived tasks should be searched as well.
+     * @param isSimilarIncluded True if words close to the keywords should match too, closest matches first.
+     */
+    public FindCommand(String keyWord, boolean isArchiveIncluded, boolean isSimilarIncluded) {
+        this(keyWord, isArchiveIncluded, isSimilarIncluded, false);
+    }
+
+    /**
+     * Creates a find command that may also show the id of each task found in the task list.
+     *
+     * @param keyWord           The keywords to search for.
+     * @param isArchiveIncluded True if the archived tasks should be searched as well.
+     * @param isSimilarIncluded True if words close to the keywords should match too, closest matches first.
+     * @param isIdShown         True if the id of each task in the task list should be shown after its number.
+     */
+    public FindCommand(String keyWord, boolean isArchiveIncluded, boolean isSimilarIncluded, boolean isIdShown) {
         this.keyWord = keyWord;
+        this.isArchiveIncluded = isArchiveIncluded;
+        this.isSimilarIncluded = isSimilarIncluded;
+        this.isIdShown = isIdShown;
     }
+    //@@author
 
     /**
      * Finds all the tasks with a particular keyword and passes it to UIMessageHandler which prints to user.
@@ -33,11 +75,50 @@ public class FindCommand extends Command {
      * @param history Allows the history features to be done.
      */
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
-        ArrayList<Task> holdFoundTasks = tasks.find(keyWord);
+        //@@author fauzt
+        ArrayList<Task> holdFoundTasks = isSimilarIncluded ? tasks.findSimilar(keyWord) : tasks.find(keyWord);
+        if (isArchiveIncluded) {
+            ArrayList<Task> archivedTasks = storage.loadArchive();
+            outputWithArchive(holdFoundTasks, isSimilarIncluded ? TaskList.findSimilarAmong(archivedTasks, keyWord)
+                : TaskList.findAmong(archivedTasks, keyWord));
+            return;
+        }
+        //@@author
         if (holdFoundTasks.isEmpty()) {
             UiMessageHandler.outputMessage(EMPTY_LIST);
+        } else if (isIdShown) {
+            outputRequiredListWithIds(holdFoundTasks, PRESENT_LIST);
         } else {
             outputRequiredList(holdFoundTasks,PRESENT_LIST);
         }
     }
-}
\ No newline at end of file
+
+    //@@author fauzt
+    private void outputWithArchive(ArrayList<Task> foundTasks, ArrayList<Task> foundArchivedTasks) {
+        if (foundTasks.isEmpty() && foundArchivedTasks.isEmpty()) {
+            UiMessageHandler.outputMessage(EMPTY_LIST);
+            return;
+        }
+        StringBuilder output = new StringBuilder();
+        if (!foundTasks.isEmpty()) {
+            appendList(output, PRESENT_LIST, foundTasks, isIdShown);
+        }
+        if (!foundArchivedTasks.isEmpty()) {
+            appendList(output, PRESENT_ARCHIVE, foundArchivedTasks, false);
+        }
+        UiMessageHandler.outputMessage(output.toString());
+    }
+
+    private static void appendList(StringBuilder output, String title, ArrayList<Task> foundTasks,
+                                   boolean isIdShown) {
+        output.append(title).append("\n");
+        int i = 1;
+        for (Task task : foundTasks) {
+            if (isIdShown) {
+                appendWithId(output, i++, task);
+            } else {
+                output.append(i++).append(".").append(task.toString()).append("\n");
+            }
+        }
+    }
+}
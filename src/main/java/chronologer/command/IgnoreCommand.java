@@ -41,17 +41,17 @@ public class IgnoreCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
-
+        indexOfTask = locateTask(tasks, indexOfTask);
         if (isIndexValid(indexOfTask, tasks.getSize())) {
             if (isIgnore) {
                 Task task = tasks.markAsIgnorable(indexOfTask);
                 history.addState((tasks.getTasks()));
-                storage.saveFile(tasks.getTasks());
+                storage.saveFile(tasks);
                 UiMessageHandler.outputMessage(IGNORED + task.toString());
             } else {
                 Task task = tasks.markAsUnignorable(indexOfTask);
                 history.addState((tasks.getTasks()));
-                storage.saveFile(tasks.getTasks());
+                storage.saveFile(tasks);
                 UiMessageHandler.outputMessage(UNIGNORED + task.toString());
             }
         }
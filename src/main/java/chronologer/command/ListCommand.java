@@ -19,6 +19,23 @@ public class ListCommand extends Command {
     private static final String EMPTY_LIST = "You have currently no tasks in your list.";
     private static final String PRESENT_LIST = "Here are the task(s) in your list:";
 
+    private boolean isIdShown;
+
+    public ListCommand() {
+        this(false);
+    }
+
+    //@@author fauzt
+    /**
+     * Creates a list command that may show the id of each task.
+     *
+     * @param isIdShown True if the id of each task should be shown after its number.
+     */
+    public ListCommand(boolean isIdShown) {
+        this.isIdShown = isIdShown;
+    }
+    //@@author
+
     /**
      * Outputs the entire list of tasks to the UI which will print it.
      *
@@ -31,6 +48,8 @@ public class ListCommand extends Command {
         ArrayList<Task> currentList = tasks.getTasks();
         if (tasks.getSize() == 0) {
             UiMessageHandler.outputMessage(EMPTY_LIST);
+        } else if (isIdShown) {
+            outputRequiredListWithIds(currentList, PRESENT_LIST);
         } else {
             outputRequiredList(currentList, PRESENT_LIST);
         }
@@ -0,0 +1,49 @@
+package chronologer.command;
+
+import chronologer.exception.ChronologerException;
+import chronologer.storage.ChronologerStateList;
+import chronologer.storage.Storage;
+import chronologer.storage.VersionStore;
+import chronologer.task.TaskList;
+import chronologer.ui.UiMessageHandler;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Lists the named versions the user has stored.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class ListVersionsCommand extends Command {
+
+    private static final String NO_VERSIONS = "You have not stored any versions yet.";
+    private static final String PRESENT_VERSIONS = "Here are your stored versions:";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
+
+    /**
+     * Outputs the name, size and time of every stored version, without reading any of them.
+     *
+     * @param tasks   Holds the list of all the tasks the user has.
+     * @param storage Allows the saving of the file to persistent storage.
+     * @param history Allows the history features to be done.
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        ArrayList<VersionStore.Version> versions = history.listVersions();
+        if (versions.isEmpty()) {
+            UiMessageHandler.outputMessage(NO_VERSIONS);
+            return;
+        }
+        StringBuilder versionList = new StringBuilder(PRESENT_VERSIONS).append("\n");
+        int i = 1;
+        for (VersionStore.Version version : versions) {
+            versionList.append(i++).append(".").append(version.getName()).append(" (")
+                .append(version.getTaskCount()).append(" task(s), stored ")
+                .append(version.getCreated().format(DATE_FORMAT)).append(")\n");
+        }
+        UiMessageHandler.outputMessage(versionList.toString());
+    }
+}
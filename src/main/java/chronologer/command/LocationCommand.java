@@ -37,10 +37,11 @@ public class LocationCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        indexOfTask = locateTask(tasks, indexOfTask);
         if (isIndexValid(indexOfTask, tasks.getSize())) {
             Task taskWithLocation = tasks.addLocation(indexOfTask, locationOfTask);
             history.addState((tasks.getTasks()));
-            storage.saveFile(tasks.getTasks());
+            storage.saveFile(tasks);
             UiMessageHandler.outputMessage("Noted. Your task location has been added:" + "\n "
                 + taskWithLocation.toString());
         }
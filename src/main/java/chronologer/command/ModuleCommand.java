@@ -0,0 +1,62 @@
+package chronologer.command;
+
+import chronologer.storage.ChronologerStateList;
+import chronologer.storage.Storage;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.ui.UiMessageHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Lists the tasks of a module with its pending deadlines, the hours of its events this week and its next exam.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class ModuleCommand extends Command {
+
+    private static final String EMPTY_MODULE = "There are no tasks for this module in your list.";
+    private static final String PRESENT_MODULE = "Here are the task(s) of ";
+    private static final String PENDING_DEADLINES = "Pending deadlines: ";
+    private static final String EVENT_HOURS = "Event hours this week: ";
+    private static final String NEXT_EXAM = "Next exam: ";
+    private static final String NO_EXAM = "none";
+    private static final double MINUTES_PER_HOUR = 60.0;
+
+    private String modCode;
+
+    public ModuleCommand(String modCode) {
+        this.modCode = modCode;
+    }
+
+    /**
+     * Outputs the tasks and totals of the module to the UI which will print it.
+     *
+     * @param tasks   Holds the list of all the tasks the user has.
+     * @param storage Allows the saving of the file to persistent storage.
+     * @param history Allows the history features to be done.
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, ChronologerStateList history) {
+        ArrayList<Task> tasksOfModule = tasks.tasksOfModule(modCode);
+        if (tasksOfModule.isEmpty()) {
+            UiMessageHandler.outputMessage(EMPTY_MODULE);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        StringBuilder output = new StringBuilder(PRESENT_MODULE).append(modCode).append(":\n");
+        int i = 1;
+        for (Task task : tasksOfModule) {
+            output.append(i++).append(".").append(task.toString()).append("\n");
+        }
+        output.append(PENDING_DEADLINES).append(tasks.countPendingDeadlines(modCode)).append("\n");
+        double hours = tasks.countEventMinutesInWeek(modCode, now.toLocalDate()) / MINUTES_PER_HOUR;
+        output.append(EVENT_HOURS).append(String.format("%.1f", hours)).append("\n");
+        Task nextExam = tasks.findNextExam(modCode, now);
+        output.append(NEXT_EXAM).append(nextExam == null ? NO_EXAM : nextExam.toString()).append("\n");
+        UiMessageHandler.outputMessage(output.toString());
+    }
+}
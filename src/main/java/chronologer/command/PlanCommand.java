@@ -0,0 +1,75 @@
+package chronologer.command;
+
+import chronologer.exception.ChronologerException;
+import chronologer.storage.ChronologerStateList;
+import chronologer.storage.Storage;
+import chronologer.task.TaskList;
+import chronologer.ui.UiMessageHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Plans a period for every todo with a duration in the user's free time and turns them into todos within those
+ * periods as a single change that one undo reverts.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class PlanCommand extends Command {
+
+    private static final int SEARCH_HARD_LIMIT = 30;
+    private static final String NOTHING_TO_PLAN = "You have no todos with a duration to plan.";
+    private static final String PLANNED = "Planned the following todo(s):\n";
+    private static final String NOT_PLANNED = "There is no free slot for the following todo(s) before their "
+        + "deadlines:\n";
+
+    private final LocalDateTime targetDate;
+
+    /**
+     * Creates a plan command for the todos without a module deadline to be done by the given date.
+     *
+     * @param targetDate The date to plan by, or null to plan within the next 30 days.
+     */
+    public PlanCommand(LocalDateTime targetDate) {
+        this.targetDate = targetDate;
+    }
+
+    /**
+     * Plans the todos, applies the periods found and saves the updated TaskList to persistent storage.
+     *
+     * @param tasks   Holds the list of all the tasks the user has.
+     * @param storage Allows the saving of the file to persistent storage.
+     * @param history Allows the history features to be done.
+     * @throws ChronologerException If errors occur in storage component.
+     */
+    @Override
+    public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        LocalDateTime planTargetDate = targetDate == null ? LocalDateTime.now().plusDays(SEARCH_HARD_LIMIT)
+            : targetDate;
+        ArrayList<TaskPlanner.Placement> placements = new TaskPlanner(tasks).plan(planTargetDate);
+        if (placements.isEmpty()) {
+            UiMessageHandler.outputMessage(NOTHING_TO_PLAN);
+            return;
+        }
+
+        MessageBuilder planned = new MessageBuilder();
+        MessageBuilder notPlanned = new MessageBuilder();
+        for (TaskPlanner.Placement placement : placements) {
+            if (placement.isPlanned()) {
+                placement.getTodo().setPeriod(placement.getStartDate(), placement.getEndDate());
+                planned.loadMessage(placement.getTodo().toString() + "\n");
+            } else {
+                notPlanned.loadMessage(placement.getTodo().toString() + "\n");
+            }
+        }
+        if (!planned.getMessage().isEmpty()) {
+            history.addState(tasks.getTasks());
+            tasks.updateGui(null);
+            storage.saveFile(tasks);
+        }
+        UiMessageHandler.outputMessage((planned.getMessage().isEmpty() ? "" : PLANNED + planned.getMessage())
+            + (notPlanned.getMessage().isEmpty() ? "" : NOT_PLANNED + notPlanned.getMessage()));
+    }
+}
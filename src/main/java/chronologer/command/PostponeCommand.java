@@ -6,6 +6,7 @@ import chronologer.storage.Storage;
 import chronologer.task.Deadline;
 import chronologer.task.Event;
 import chronologer.task.Task;
+import chronologer.task.TaskKind;
 import chronologer.task.TaskList;
 import chronologer.ui.UiMessageHandler;
 
@@ -19,9 +20,6 @@ import java.time.LocalDateTime;
  */
 public class PostponeCommand extends Command {
 
-    private static final String DEADLINE = "DEADLINE";
-    private static final String EVENT = "EVENT";
-    private static final String TODO_PERIOD = "TODO PERIOD";
 
     private int indexOfTask;
     private LocalDateTime toDate = null;
@@ -64,6 +62,7 @@ public class PostponeCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        indexOfTask = locateTask(tasks, indexOfTask);
         isIndexValid(tasks);
         Task taskToBePostponed = tasks.getTasks().get(indexOfTask);
 
@@ -172,11 +171,10 @@ public class PostponeCommand extends Command {
                                    LocalDateTime toDate, TaskList tasks, Storage storage,
                                    ChronologerStateList history) throws ChronologerException {
         checkEventTodoDate(startDate, taskToBePostponed.getStartDate(), toDate, taskToBePostponed.getEndDate());
-        taskToBePostponed.setStartDate(startDate);
-        taskToBePostponed.setEndDate(toDate);
+        tasks.postpone(taskToBePostponed, startDate, toDate);
         history.addState((tasks.getTasks()));
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
     }
 
 
@@ -194,10 +192,10 @@ public class PostponeCommand extends Command {
                               TaskList tasks, Storage storage, ChronologerStateList history)
         throws ChronologerException {
         checkDeadlineDate(startDate, taskToBePostponed.getStartDate());
-        taskToBePostponed.setStartDate(startDate);
+        tasks.postpone(taskToBePostponed, startDate, null);
         history.addState((tasks.getTasks()));
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
     }
 
     /**
@@ -240,7 +238,7 @@ public class PostponeCommand extends Command {
      * @return True if the task is a deadline.
      */
     private boolean isDeadline(Task task) {
-        return (DEADLINE.equals(task.getType()));
+        return task.getKind() == TaskKind.DEADLINE;
     }
 
     /**
@@ -249,7 +247,7 @@ public class PostponeCommand extends Command {
      * @return True if the task is an event.
      */
     private boolean isEvent(Task task) {
-        return (EVENT.equals(task.getType()));
+        return task.getKind() == TaskKind.EVENT;
     }
 
     /**
@@ -258,7 +256,7 @@ public class PostponeCommand extends Command {
      * @return True if the task is a todo period.
      */
     private boolean isTodoPeriod(Task task) {
-        return (TODO_PERIOD.equals(task.getType()));
+        return task.getKind() == TaskKind.TODO_PERIOD;
     }
 
 
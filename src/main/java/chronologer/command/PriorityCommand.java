@@ -34,6 +34,7 @@ public class PriorityCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        indexOfTask = locateTask(tasks, indexOfTask);
 
         Priority newPriority = Priority.getPriorityLevel(priorityString);
         if (newPriority == Priority.INVALID) {
@@ -46,7 +47,7 @@ public class PriorityCommand extends Command {
         task.setPriority(newPriority);
         history.addState((tasks.getTasks()));
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
         UiMessageHandler.outputMessage("Got it! " + task.getDescription() + " priority level is now " + priorityString);
     }
 }
@@ -25,7 +25,7 @@ public class RedoCommand extends Command {
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
         tasks.updateListOfTasks(history.redo());
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
         UiMessageHandler.outputMessage("Redo successful!");
     }
 }
\ No newline at end of file
@@ -32,6 +32,7 @@ public class RemindCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
+        indexOfTask = locateTask(tasks, indexOfTask);
         if (!isIndexValid(indexOfTask,tasks.getSize())) {
             throw new ChronologerException(ChronologerException.taskDoesNotExist());
         }
@@ -39,7 +40,7 @@ public class RemindCommand extends Command {
         Task task = tasks.getTasks().get(indexOfTask);
         task.setReminder(days);
         history.addState((tasks.getTasks()));
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
 
         UiMessageHandler.outputMessage(String.format("Okay! You'll get a reminder for this task %d "
             + "days beforehand:", days) + "  " + task.toString());
@@ -12,10 +12,10 @@ import chronologer.task.TaskList;
  * @version v1.4
  */
 public class RestoreVersionCommand extends Command {
-    private int versionNumber;
+    private String versionName;
 
-    public RestoreVersionCommand(int versionNumberToStore) {
-        this.versionNumber = versionNumberToStore;
+    public RestoreVersionCommand(String versionName) {
+        this.versionName = versionName;
     }
 
     /**
@@ -27,8 +27,8 @@ public class RestoreVersionCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
-        tasks.updateListOfTasks(history.restoreVersion(tasks.getTasks(), versionNumber));
+        tasks.updateListOfTasks(history.restoreVersion(tasks.getTasks(), versionName));
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
     }
 }
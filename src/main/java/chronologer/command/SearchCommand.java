@@ -1,16 +1,14 @@
 package chronologer.command;
 
+import chronologer.parser.DateTimeExtractor;
 import chronologer.storage.ChronologerStateList;
-import chronologer.task.Event;
-import chronologer.task.Task;
+import chronologer.task.FreeSlot;
 import chronologer.task.TaskList;
 import chronologer.storage.Storage;
 import chronologer.ui.UiMessageHandler;
 
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Collections;
 
 //@@author hanskw4267
 /**
@@ -22,6 +20,9 @@ import java.util.Collections;
 public class SearchCommand extends Command {
 
     private static final String NO_CLASH = "You have no events that will clash with a slot of this duration";
+    private static final String NO_AVAILABLE_SLOT = "There is no free slot of this duration within your available "
+        + "hours in the next year";
+    private static final long MINUTES_PER_HOUR = 60;
     private long durationToFind;
 
     public SearchCommand(Long duration) {
@@ -40,51 +41,27 @@ public class SearchCommand extends Command {
      * @param history Allows the history features to be done.
      */
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) {
-        ArrayList<Event> dateList = new ArrayList<Event>();
-        boolean found = false;
-        long duration;
-
-        for (Task item : tasks.getTasks()) {
-            if (item.getClass() == Event.class) {
-                dateList.add((Event) item);
-            }
+        LocalDateTime now = LocalDateTime.now();
+        //@@author fauzt
+        ArrayList<FreeSlot> freeSlots = tasks.findFreeSlots(now, null, durationToFind * MINUTES_PER_HOUR);
+        if (freeSlots.isEmpty()) {
+            UiMessageHandler.outputMessage(NO_AVAILABLE_SLOT);
+            return;
         }
-
-        Collections.sort(dateList);
-
-        if (dateList.size() == 0) {
+        FreeSlot freeSlot = freeSlots.get(0);
+        if (freeSlot.isOpenEnded() && freeSlot.getStartDate().isEqual(now)) {
             UiMessageHandler.outputMessage(NO_CLASH);
-            found = true;
-        } else if (dateList.size() == 1) {
-            UiMessageHandler.outputMessage("You can schedule something after " + dateList.get(0).toString());
+        } else if (freeSlot.isOpenEnded()) {
+            UiMessageHandler.outputMessage("You can schedule something after "
+                + freeSlot.getStartDate().format(DateTimeExtractor.DATE_FORMATTER));
+        } else if (freeSlot.getStartDate().isEqual(now)) {
+            UiMessageHandler.outputMessage("You can schedule something from now till "
+                + freeSlot.getEndDate().format(DateTimeExtractor.DATE_FORMATTER));
         } else {
-            for (int i = 0; i < dateList.size(); i++) {
-                if (i != 0) {
-                    duration = ChronoUnit.HOURS.between(dateList.get(i - 1).getEndDate(),
-                            dateList.get(i).getStartDate());
-                } else {
-                    duration = ChronoUnit.HOURS.between(LocalDateTime.now(), dateList.get(i).getStartDate());
-                }
-                if (durationToFind <= duration) {
-                    if (i != 0) {
-                        UiMessageHandler.outputMessage(
-                                "Next free time slot of duration " + Long.toString(durationToFind) + "hrs is between \n"
-                                        + dateList.get(i - 1).toString() + " and " + dateList.get(i).toString());
-                    } else {
-                        UiMessageHandler
-                                .outputMessage("You can schedule something from now till "
-                                    + dateList.get(i).toString());
-                    }
-                    found = true;
-                    break;
-                }
-            }
-
-            if (!found) {
-                UiMessageHandler.outputMessage(
-                    "You can schedule something after the " + dateList.get(dateList.size() - 1).toString());
-            }
+            UiMessageHandler.outputMessage("Next free time slot of duration " + durationToFind + "hrs is between \n"
+                + freeSlot.getStartDate().format(DateTimeExtractor.DATE_FORMATTER) + " and "
+                + freeSlot.getEndDate().format(DateTimeExtractor.DATE_FORMATTER));
         }
-
+        //@@author
     }
-}
\ No newline at end of file
+}
@@ -12,10 +12,10 @@ import chronologer.task.TaskList;
  * @version v1.4
  */
 public class StoreVersionCommand extends Command {
-    private int versionNumber;
+    private String versionName;
 
-    public StoreVersionCommand(int versionNumberToStore) {
-        this.versionNumber = versionNumberToStore;
+    public StoreVersionCommand(String versionName) {
+        this.versionName = versionName;
     }
 
     /**
@@ -27,8 +27,8 @@ public class StoreVersionCommand extends Command {
      */
     @Override
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
-        history.storeVersion(tasks.getTasks(), versionNumber);
+        history.storeVersion(tasks.snapshot(), versionName);
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
     }
 }
@@ -0,0 +1,161 @@
+package chronologer.command;
+
+import chronologer.task.FreeSlot;
+import chronologer.task.Task;
+import chronologer.task.TaskKind;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+
+//@@author fauzt
+/**
+ * Plans a period for every todo with a duration that is not done yet, earliest target deadline first. A todo of a
+ * module targets the next deadline of its module and any other todo targets the date given for the plan. Each todo
+ * takes the start of the earliest free slot long enough to hold its whole duration before its target, and that
+ * time is no longer free for the todos planned after it.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public final class TaskPlanner {
+
+    private static final long MINUTES_PER_HOUR = 60;
+    private static final long SECONDS_PER_MINUTE = 60;
+
+    private final TaskList tasks;
+    private final Clock clock;
+
+    /**
+     * The period planned for a todo, or the lack of one if no free slot could hold it.
+     */
+    public static final class Placement {
+        private final Todo todo;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+
+        Placement(Todo todo, LocalDateTime startDate, LocalDateTime endDate) {
+            this.todo = todo;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        public Todo getTodo() {
+            return todo;
+        }
+
+        public LocalDateTime getStartDate() {
+            return startDate;
+        }
+
+        public LocalDateTime getEndDate() {
+            return endDate;
+        }
+
+        public boolean isPlanned() {
+            return startDate != null;
+        }
+    }
+
+    /**
+     * A todo waiting to be planned with the minutes it needs and the minute it must be done by.
+     */
+    private static final class Request {
+        private final Todo todo;
+        private final long minutes;
+        private final long targetMinute;
+
+        Request(Todo todo, long targetMinute) {
+            this.todo = todo;
+            this.minutes = todo.duration * MINUTES_PER_HOUR;
+            this.targetMinute = targetMinute;
+        }
+    }
+
+    public TaskPlanner(TaskList tasks) {
+        this(tasks, Clock.systemDefaultZone());
+    }
+
+    public TaskPlanner(TaskList tasks, Clock clock) {
+        this.tasks = tasks;
+        this.clock = clock;
+    }
+
+    /**
+     * Plans the todos with a duration without changing them.
+     *
+     * @param defaultTargetDate is the date to plan the todos without a module deadline by
+     * @return the placements in the order the todos were planned, earliest target first
+     */
+    public ArrayList<Placement> plan(LocalDateTime defaultTargetDate) {
+        LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        ArrayList<Request> requests = new ArrayList<>();
+        long lastTargetMinute = Task.toEpochMinute(now);
+        for (Task task : tasks.getTasks()) {
+            if (task.getKind() == TaskKind.TODO_DURATION && !task.isDone() && ((Todo) task).duration > 0) {
+                Request request = new Request((Todo) task, targetMinute(task, now, defaultTargetDate));
+                requests.add(request);
+                lastTargetMinute = Math.max(lastTargetMinute, request.targetMinute);
+            }
+        }
+        requests.sort(Comparator.comparingLong((Request request) -> request.targetMinute)
+            .thenComparingLong(request -> request.todo.getId()));
+
+        ArrayList<FreeSlot> freeSlots = tasks.findFreeSlots(now, toDate(lastTargetMinute), 0);
+        long[] freeStartMinutes = new long[freeSlots.size()];
+        long[] freeEndMinutes = new long[freeSlots.size()];
+        for (int i = 0; i < freeSlots.size(); i++) {
+            freeStartMinutes[i] = Task.toEpochMinute(freeSlots.get(i).getStartDate());
+            freeEndMinutes[i] = freeStartMinutes[i] + freeSlots.get(i).getMinutes();
+        }
+
+        ArrayList<Placement> placements = new ArrayList<>();
+        int firstFreeSlot = 0;
+        for (Request request : requests) {
+            while (firstFreeSlot < freeStartMinutes.length
+                && freeStartMinutes[firstFreeSlot] == freeEndMinutes[firstFreeSlot]) {
+                firstFreeSlot++;
+            }
+            placements.add(place(request, freeStartMinutes, freeEndMinutes, firstFreeSlot));
+        }
+        return placements;
+    }
+
+    /**
+     * Places a todo at the start of the earliest free slot that holds it before its target, shrinking that slot.
+     */
+    private static Placement place(Request request, long[] freeStartMinutes, long[] freeEndMinutes,
+                                   int firstFreeSlot) {
+        for (int i = firstFreeSlot; i < freeStartMinutes.length; i++) {
+            long endMinute = freeStartMinutes[i] + request.minutes;
+            if (endMinute > request.targetMinute) {
+                break;
+            }
+            if (endMinute <= freeEndMinutes[i]) {
+                Placement placement = new Placement(request.todo, toDate(freeStartMinutes[i]), toDate(endMinute));
+                freeStartMinutes[i] = endMinute;
+                return placement;
+            }
+        }
+        return new Placement(request.todo, null, null);
+    }
+
+    private long targetMinute(Task todo, LocalDateTime now, LocalDateTime defaultTargetDate) {
+        if (todo.getModCode() != null && !todo.getModCode().isEmpty()) {
+            Task deadline = tasks.findNextDeadline(todo.getModCode(), now);
+            if (deadline != null) {
+                return deadline.getStartMinute();
+            }
+        }
+        return Task.toEpochMinute(defaultTargetDate);
+    }
+
+    private static LocalDateTime toDate(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
@@ -26,6 +26,8 @@ public class TaskScheduleCommand extends Command {
     private final Integer indexOfTask;
     private final Integer indexOfDeadline;
     private final LocalDateTime deadlineDate;
+    private Long minimumSessionMinutes;
+    private Integer maximumSessionsPerDay;
 
     /**
      * Initialises the command parameter for a selected task to be done by a selected deadline.
@@ -75,6 +77,18 @@ public class TaskScheduleCommand extends Command {
         this.deadlineDate = deadlineDate;
     }
 
+    /**
+     * Splits the duration into sessions across several free periods instead of finding a single period for it.
+     * @param minimumSessionMinutes is the least minutes a session may last
+     * @param maximumSessionsPerDay is the most sessions a day may hold
+     * @return this command, splitting the duration into sessions
+     */
+    public TaskScheduleCommand inSessions(long minimumSessionMinutes, int maximumSessionsPerDay) {
+        this.minimumSessionMinutes = minimumSessionMinutes;
+        this.maximumSessionsPerDay = maximumSessionsPerDay;
+        return this;
+    }
+
     /**
      * Retrieves the duration and deadline date based on the user's input and pass the values along
      * to the TaskScheduler logic.
@@ -92,8 +106,18 @@ public class TaskScheduleCommand extends Command {
         duration = retrieveDuration(tasks);
         deadlineDate = retrieveDeadlineDate(tasks);
 
+        if (minimumSessionMinutes != null) {
+            if (deadlineDate != null && LocalDateTime.now().isAfter(deadlineDate)) {
+                throw new ChronologerException(OVERDUE_DEADLINE);
+            }
+            result = new TaskScheduler(tasks).scheduleInSessions(duration, deadlineDate, minimumSessionMinutes,
+                maximumSessionsPerDay);
+            UiMessageHandler.outputMessage(result);
+            return;
+        }
+
         if (deadlineDate == null) {
-            result = TaskScheduler.scheduleTask(tasks, duration);
+            result = new TaskScheduler(tasks).scheduleTask(duration);
             UiMessageHandler.outputMessage(result);
             return;
         }
@@ -102,7 +126,7 @@ public class TaskScheduleCommand extends Command {
             throw new ChronologerException(OVERDUE_DEADLINE);
         }
 
-        result = TaskScheduler.scheduleByDeadline(tasks, duration, deadlineDate);
+        result = new TaskScheduler(tasks).scheduleByDeadline(duration, deadlineDate);
         UiMessageHandler.outputMessage(result);
     }
 
@@ -111,6 +135,7 @@ public class TaskScheduleCommand extends Command {
             assert this.durationToSchedule != null;
             return this.durationToSchedule;
         }
+        int indexOfTask = locateTask(tasks, this.indexOfTask);
         if (indexOfTask < 0 || indexOfTask >= tasks.getTasks().size()) {
             throw new ChronologerException(ChronologerException.invalidIndex());
         }
@@ -1,17 +1,29 @@
 package chronologer.command;
 
 import chronologer.parser.DateTimeExtractor;
-import chronologer.task.Event;
+import chronologer.task.BusyTimeline;
+import chronologer.task.FreeSlot;
 import chronologer.task.Priority;
+import chronologer.task.Task;
+import chronologer.task.TaskKind;
 import chronologer.task.TaskList;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 
 //@@author fauzt
 /**
- * Handles the logic of scheduling a duration value by a given date.
+ * Handles the logic of scheduling a duration value by a given date. A scheduler works on a snapshot of the task
+ * list taken when it is created and keeps no state between queries, so its queries can run from several threads
+ * at once while the list itself is edited.
  *
  * @author Fauzan Adipratama
  * @version v1.4
@@ -31,170 +43,338 @@ public final class TaskScheduler {
             "The duration is too long to be done within the next 30 days.\n";
     private static final String LOW_PRIORITY =
             "Below are the list of low-priority event(s) that you can consider freeing up.\n";
+    private static final String SESSIONS = "You can split this task into the following session(s):\n";
+    private static final String SESSION_FORMAT = "%d. from %s till %s\n";
+    private static final String NO_SESSIONS_FORMAT = "There is not enough free time to split the task into sessions "
+            + "of at least %d minutes, at most %d a day.\n";
 
-    private static ArrayList<Event> eventList;
-    private static LocalDateTime hardLimitDeadlineDate = LocalDateTime.now().plusDays(SEARCH_HARD_LIMIT);
-    private static boolean isFreeBetweenEvents;
+    private static final long MINUTES_PER_HOUR = 60;
+    private static final long MINUTES_PER_DAY = 24 * MINUTES_PER_HOUR;
+    private static final long SECONDS_PER_MINUTE = 60;
 
-    private static MessageBuilder listOfPeriodMessage;
-    private static MessageBuilder listOfLowPriorityMessage;
+    private final BusyTimeline busyTimeline;
+    private final List<LowPriorityEvent> lowPriorityEvents;
+    private final Clock clock;
 
     /**
-     * Finds a free period of time within the user's schedule for a given duration by a given deadline.
+     * An event the user may free up, captured with its display string when the scheduler is created.
+     */
+    private static final class LowPriorityEvent {
+        private final long startMinute;
+        private final long endMinute;
+        private final String description;
+
+        LowPriorityEvent(Task event) {
+            this.startMinute = event.getStartMinute();
+            this.endMinute = event.getEndMinute();
+            this.description = event.toString();
+        }
+    }
+
+    /**
+     * A period of a task split into several sessions, which never spans midnight.
+     */
+    public static final class Session {
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+
+        Session(LocalDateTime startDate, LocalDateTime endDate) {
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        public LocalDateTime getStartDate() {
+            return startDate;
+        }
+
+        public LocalDateTime getEndDate() {
+            return endDate;
+        }
+    }
+
+    /**
+     * The parts of the free slots of a window lying within a single day and long enough to hold a session.
+     */
+    private static final class DayGaps {
+        private final long[] startMinutes;
+        private final long[] lengths;
+        private final long[] days;
+        private final Integer[] longestFirst;
+
+        DayGaps(ArrayList<FreeSlot> freeSlots, long minimumMinutes) {
+            ArrayList<long[]> gaps = new ArrayList<>();
+            for (FreeSlot freeSlot : freeSlots) {
+                long startMinute = Task.toEpochMinute(freeSlot.getStartDate());
+                long endMinute = startMinute + freeSlot.getMinutes();
+                while (startMinute < endMinute) {
+                    long day = Math.floorDiv(startMinute, MINUTES_PER_DAY);
+                    long gapEndMinute = Math.min(endMinute, (day + 1) * MINUTES_PER_DAY);
+                    if (gapEndMinute - startMinute >= minimumMinutes) {
+                        gaps.add(new long[] {startMinute, gapEndMinute - startMinute, day});
+                    }
+                    startMinute = gapEndMinute;
+                }
+            }
+            startMinutes = new long[gaps.size()];
+            lengths = new long[gaps.size()];
+            days = new long[gaps.size()];
+            longestFirst = new Integer[gaps.size()];
+            for (int i = 0; i < gaps.size(); i++) {
+                startMinutes[i] = gaps.get(i)[0];
+                lengths[i] = gaps.get(i)[1];
+                days[i] = gaps.get(i)[2];
+                longestFirst[i] = i;
+            }
+            Arrays.sort(longestFirst, Comparator.comparingLong((Integer i) -> -lengths[i]));
+        }
+
+        int size() {
+            return startMinutes.length;
+        }
+    }
+
+    /**
+     * Creates a scheduler over a snapshot of the task list that reads the time from the system clock.
      * @param tasks is the master task list in the program
+     */
+    public TaskScheduler(TaskList tasks) {
+        this(tasks, Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a scheduler over a snapshot of the task list. The snapshot must be taken on the thread that edits
+     * the list, but the scheduler can be used from any thread afterwards.
+     * @param tasks is the master task list in the program
+     * @param clock is the clock giving the current time of every query
+     */
+    public TaskScheduler(TaskList tasks, Clock clock) {
+        assert tasks != null;
+        assert clock != null;
+        this.busyTimeline = tasks.snapshotBusyTimeline();
+        ArrayList<LowPriorityEvent> lowPriorityEvents = new ArrayList<>();
+        for (Task task : tasks.getTasks()) {
+            if (task.getKind() == TaskKind.EVENT && task.getPriority() == Priority.LOW) {
+                lowPriorityEvents.add(new LowPriorityEvent(task));
+            }
+        }
+        lowPriorityEvents.sort(Comparator.comparingLong(event -> event.startMinute));
+        this.lowPriorityEvents = Collections.unmodifiableList(lowPriorityEvents);
+        this.clock = clock;
+    }
+
+    /**
+     * Finds a free period of time within the user's schedule for a given duration by a given deadline.
      * @param durationToSchedule is the minimum duration to find a large enough period that is free
      * @param deadlineDate is the date to find any periods by
      */
-    public static String scheduleByDeadline(TaskList tasks, Long durationToSchedule, LocalDateTime deadlineDate) {
-        assert tasks != null;
+    public String scheduleByDeadline(Long durationToSchedule, LocalDateTime deadlineDate) {
         assert durationToSchedule != null;
         assert deadlineDate != null;
 
-        if (isThereNotEnoughTime(durationToSchedule, deadlineDate)) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (isThereNotEnoughTime(durationToSchedule, now, deadlineDate)) {
             return NOT_ENOUGH_TIME;
         }
-        setupEventList(tasks, deadlineDate);
-        if (isEventListEmpty()) {
+        ArrayList<FreeSlot> freeSlots = busyTimeline.findFreeSlots(now, deadlineDate, 0);
+        if (isWholeWindowFree(freeSlots, now, deadlineDate)) {
             return SCHEDULE_ANYTIME_BY_DEADLINE;
         }
-        initialiseOutputMessage();
-        searchFreePeriodsInEventList(durationToSchedule, deadlineDate);
-        return getOutputMessage();
+        return describeFreeSlots(freeSlots, durationToSchedule, now, deadlineDate);
     }
 
     /**
-     * Finds a free period of time within the user's schedule for a given duration without concerning a deadline.
-     * @param tasks is the master task list in the program
+     * Finds a free period of time within the user's schedule for a given duration within the next 30 days.
      * @param durationToSchedule is the minimum duration to find a large enough period that is free
      */
-    public static String scheduleTask(TaskList tasks, Long durationToSchedule) {
-        assert tasks != null;
+    public String scheduleTask(Long durationToSchedule) {
         assert durationToSchedule != null;
 
-        if (isThereNotEnoughTime(durationToSchedule, hardLimitDeadlineDate)) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime hardLimitDeadlineDate = now.plusDays(SEARCH_HARD_LIMIT);
+        if (isThereNotEnoughTime(durationToSchedule, now, hardLimitDeadlineDate)) {
             return NOT_ENOUGH_TIME_HARD_LIMIT;
         }
-        setupEventList(tasks, hardLimitDeadlineDate);
-        if (isEventListEmpty()) {
+        ArrayList<FreeSlot> freeSlots = busyTimeline.findFreeSlots(now, hardLimitDeadlineDate, 0);
+        if (isWholeWindowFree(freeSlots, now, hardLimitDeadlineDate)) {
             return SCHEDULE_ANYTIME;
         }
-        initialiseOutputMessage();
-        searchFreePeriodsInEventList(durationToSchedule, hardLimitDeadlineDate);
-        return getOutputMessage();
-    }
-
-    private static void setupEventList(TaskList tasks, LocalDateTime deadlineDate) {
-        eventList = tasks.obtainEventList(deadlineDate);
-        isFreeBetweenEvents = false;
-    }
-
-    private static void initialiseOutputMessage() {
-        listOfPeriodMessage = new MessageBuilder();
-        listOfLowPriorityMessage = new MessageBuilder();
-        listOfLowPriorityMessage.loadMessage(LOW_PRIORITY);
-    }
-
-    private static String getOutputMessage() {
-        if (isFreeBetweenEvents) {
-            return listOfPeriodMessage.getMessage();
-        }
-        return listOfPeriodMessage.getMessage() + listOfLowPriorityMessage.getMessage();
-    }
-
-    private static boolean isThereNotEnoughTime(Long durationToSchedule, LocalDateTime deadlineDate) {
-        return durationToSchedule > ChronoUnit.HOURS.between(LocalDateTime.now(), deadlineDate);
-    }
-
-    private static boolean isEventListEmpty() {
-        return eventList.size() == 0;
+        return describeFreeSlots(freeSlots, durationToSchedule, now, hardLimitDeadlineDate);
     }
 
-    private static void searchFreePeriodsInEventList(Long durationToSchedule, LocalDateTime deadlineDate) {
-        assert eventList.size() != 0;
+    /**
+     * Splits a given duration into sessions within the user's free time, finishing as early as possible by a given
+     * deadline. Every session lasts at least the given minutes, unless the whole duration is shorter, and no day
+     * holds more than the given number of sessions.
+     * @param durationToSchedule is the duration to split in hours
+     * @param deadlineDate is the date to finish the sessions by, or null to finish them within the next 30 days
+     * @param minimumSessionMinutes is the least minutes a session may last
+     * @param maximumSessionsPerDay is the most sessions a day may hold
+     * @return the sessions in order of their start dates, or none if the duration does not fit
+     */
+    public ArrayList<Session> planSessions(Long durationToSchedule, LocalDateTime deadlineDate,
+                                           long minimumSessionMinutes, int maximumSessionsPerDay) {
+        assert durationToSchedule != null;
+        assert minimumSessionMinutes > 0 && maximumSessionsPerDay > 0;
 
-        if (isFreeFromNowTillFirstEvent(durationToSchedule)) {
-            loadResult();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime endDate = deadlineDate == null ? now.plusDays(SEARCH_HARD_LIMIT) : deadlineDate;
+        long minutesToSchedule = durationToSchedule * MINUTES_PER_HOUR;
+        long minimumMinutes = Math.min(minimumSessionMinutes, minutesToSchedule);
+        if (minutesToSchedule <= 0 || isThereNotEnoughTime(durationToSchedule, now, endDate)) {
+            return new ArrayList<>();
         }
-        for (int i = 0; i < eventList.size() - 1; i++) {
-            if (isFreeBetweenThisEventTillNextEvent(durationToSchedule, i)) {
-                loadResult(i);
-            }
-        }
-        if (isFreeBetweenLastEventTillDeadline(durationToSchedule, deadlineDate)) {
-            loadResult(deadlineDate);
+        DayGaps gaps = new DayGaps(busyTimeline.findFreeSlots(now, endDate, minimumMinutes), minimumMinutes);
+        int maximumSessions = (int) Math.min(minutesToSchedule / minimumMinutes, Integer.MAX_VALUE);
+        if (bestMinutes(gaps, gaps.size(), -1, maximumSessions, maximumSessionsPerDay, null) < minutesToSchedule) {
+            return new ArrayList<>();
         }
 
-        if (!isFreeBetweenEvents) {
-            listOfPeriodMessage.loadMessage(NO_FREE_SLOTS);
+        int low = 1;
+        int high = gaps.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (bestMinutes(gaps, middle, -1, maximumSessions, maximumSessionsPerDay, null) >= minutesToSchedule) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
         }
+        return splitAcrossGaps(gaps, low - 1, minutesToSchedule, minimumMinutes, maximumSessions,
+            maximumSessionsPerDay);
     }
 
-    private static boolean isFreeFromNowTillFirstEvent(Long durationToSchedule) {
-        LocalDateTime nextStartDate = eventList.get(0).getStartDate();
-        if (nextStartDate.isBefore(LocalDateTime.now())) {
-            return false;
+    /**
+     * Splits a given duration into sessions within the user's free time by a given deadline.
+     * @param durationToSchedule is the duration to split in hours
+     * @param deadlineDate is the date to finish the sessions by, or null to finish them within the next 30 days
+     * @param minimumSessionMinutes is the least minutes a session may last
+     * @param maximumSessionsPerDay is the most sessions a day may hold
+     */
+    public String scheduleInSessions(Long durationToSchedule, LocalDateTime deadlineDate, long minimumSessionMinutes,
+                                     int maximumSessionsPerDay) {
+        ArrayList<Session> sessions = planSessions(durationToSchedule, deadlineDate, minimumSessionMinutes,
+            maximumSessionsPerDay);
+        if (sessions.isEmpty()) {
+            return String.format(NO_SESSIONS_FORMAT, minimumSessionMinutes, maximumSessionsPerDay);
         }
-        Long duration = ChronoUnit.HOURS.between(LocalDateTime.now(), nextStartDate);
-        if (durationToSchedule <= duration) {
-            isFreeBetweenEvents = true;
-            return true;
+        MessageBuilder listOfSessionMessage = new MessageBuilder();
+        listOfSessionMessage.loadMessage(SESSIONS);
+        for (int i = 0; i < sessions.size(); i++) {
+            listOfSessionMessage.loadMessage(String.format(SESSION_FORMAT, i + 1,
+                sessions.get(i).getStartDate().format(DateTimeExtractor.DATE_FORMATTER),
+                sessions.get(i).getEndDate().format(DateTimeExtractor.DATE_FORMATTER)));
         }
-        return false;
+        return listOfSessionMessage.getMessage();
     }
 
-    private static boolean isFreeBetweenThisEventTillNextEvent(Long durationToSchedule, int i) {
-        Event currentEvent = eventList.get(i);
-        Event nextEvent = eventList.get(i + 1);
-        LocalDateTime currentEndDate = currentEvent.getEndDate();
-        LocalDateTime nextStartDate = nextEvent.getStartDate();
-        if (currentEvent.getPriority() == Priority.LOW) {
-            listOfLowPriorityMessage.loadMessage(currentEvent.toString());
+    /**
+     * Finds the most minutes the gaps before the given end can hold, taking the longest gaps first as long as
+     * neither the sessions of their day nor the sessions in all run out. The gap taken for the last session is
+     * left out and counted as taken already, if there is one.
+     */
+    private static long bestMinutes(DayGaps gaps, int end, int lastGap, int maximumSessions,
+                                    int maximumSessionsPerDay, ArrayList<Integer> taken) {
+        HashMap<Long, Integer> sessionsOfDays = new HashMap<>();
+        int sessions = 0;
+        if (lastGap >= 0) {
+            sessionsOfDays.put(gaps.days[lastGap], 1);
+            sessions++;
         }
-        Long duration = ChronoUnit.HOURS.between(currentEndDate, nextStartDate);
-        if (durationToSchedule <= duration) {
-            isFreeBetweenEvents = true;
-            return true;
+        long minutes = 0;
+        for (Integer i : gaps.longestFirst) {
+            if (sessions >= maximumSessions) {
+                break;
+            }
+            if (i >= end || i == lastGap || sessionsOfDays.getOrDefault(gaps.days[i], 0) >= maximumSessionsPerDay) {
+                continue;
+            }
+            sessionsOfDays.merge(gaps.days[i], 1, Integer::sum);
+            sessions++;
+            minutes += gaps.lengths[i];
+            if (taken != null) {
+                taken.add(i);
+            }
         }
-        return false;
+        return minutes;
     }
 
-    private static boolean isFreeBetweenLastEventTillDeadline(Long durationToSchedule, LocalDateTime deadlineDate) {
-        Event event = eventList.get(eventList.size() - 1);
-        if (event.getPriority() == Priority.LOW) {
-            listOfLowPriorityMessage.loadMessage(event.toString());
-        }
-        LocalDateTime currentEndDate = event.getEndDate();
-        if (currentEndDate.isAfter(deadlineDate)) {
-            return false;
+    /**
+     * Gives the last gap as short a session as the other gaps allow, drops the shortest of the other gaps taken
+     * while the rest still hold the remaining minutes, and fills the remaining gaps earliest first.
+     */
+    private static ArrayList<Session> splitAcrossGaps(DayGaps gaps, int lastGap, long minutesToSchedule,
+                                                      long minimumMinutes, int maximumSessions,
+                                                      int maximumSessionsPerDay) {
+        ArrayList<Integer> taken = new ArrayList<>();
+        long takenMinutes = bestMinutes(gaps, lastGap, lastGap, maximumSessions, maximumSessionsPerDay, taken);
+        long lastMinutes = Math.max(minimumMinutes, minutesToSchedule - takenMinutes);
+        long remainingMinutes = minutesToSchedule - lastMinutes;
+        while (!taken.isEmpty() && takenMinutes - gaps.lengths[taken.get(taken.size() - 1)] >= remainingMinutes) {
+            takenMinutes -= gaps.lengths[taken.remove(taken.size() - 1)];
         }
-        Long duration = ChronoUnit.HOURS.between(currentEndDate, deadlineDate);
-        if (durationToSchedule <= duration) {
-            isFreeBetweenEvents = true;
-            return true;
+        Collections.sort(taken);
+
+        ArrayList<Session> sessions = new ArrayList<>();
+        long extraMinutes = remainingMinutes - taken.size() * minimumMinutes;
+        for (int i : taken) {
+            long minutes = minimumMinutes + Math.min(extraMinutes, gaps.lengths[i] - minimumMinutes);
+            extraMinutes -= minutes - minimumMinutes;
+            sessions.add(new Session(toDate(gaps.startMinutes[i]), toDate(gaps.startMinutes[i] + minutes)));
         }
-        return false;
+        sessions.add(new Session(toDate(gaps.startMinutes[lastGap]), toDate(gaps.startMinutes[lastGap] + lastMinutes)));
+        return sessions;
     }
 
-    private static void loadResult() {
-        String formattedNextStartDate = eventList.get(0).getStartDate().format(DateTimeExtractor.DATE_FORMATTER);
-        listOfPeriodMessage.loadMessage(String.format(SCHEDULE_NOW_TILL_FORMAT, formattedNextStartDate));
+    private static LocalDateTime toDate(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
     }
 
-    private static void loadResult(int index) {
-        String formattedCurrentEndDate = eventList.get(index).getEndDate().format(DateTimeExtractor.DATE_FORMATTER);
-        String formattedNextStartDate = eventList.get(index + 1).getStartDate()
-                .format(DateTimeExtractor.DATE_FORMATTER);
-        listOfPeriodMessage.loadMessage(String.format(SCHEDULE_FROM_TILL_FORMAT, formattedCurrentEndDate,
-                formattedNextStartDate));
+    private static boolean isThereNotEnoughTime(Long durationToSchedule, LocalDateTime now,
+                                                LocalDateTime deadlineDate) {
+        return durationToSchedule * MINUTES_PER_HOUR > ChronoUnit.MINUTES.between(now, deadlineDate);
     }
 
-    private static void loadResult(LocalDateTime deadlineDate) {
-        String formattedCurrentEndDate = eventList.get(eventList.size() - 1).getEndDate()
-                .format(DateTimeExtractor.DATE_FORMATTER);
-        String formattedDeadlineDate = deadlineDate.format(DateTimeExtractor.DATE_FORMATTER);
-        listOfPeriodMessage.loadMessage(String.format(SCHEDULE_FROM_TILL_FORMAT, formattedCurrentEndDate,
-                formattedDeadlineDate));
+    private static boolean isWholeWindowFree(ArrayList<FreeSlot> freeSlots, LocalDateTime now,
+                                             LocalDateTime deadlineDate) {
+        return freeSlots.size() == 1 && now.equals(freeSlots.get(0).getStartDate())
+            && deadlineDate.equals(freeSlots.get(0).getEndDate());
     }
 
+    private String describeFreeSlots(ArrayList<FreeSlot> freeSlots, Long durationToSchedule, LocalDateTime now,
+                                     LocalDateTime deadlineDate) {
+        MessageBuilder listOfPeriodMessage = new MessageBuilder();
+        boolean isFreeBetweenEvents = false;
+        for (FreeSlot freeSlot : freeSlots) {
+            if (freeSlot.getMinutes() >= durationToSchedule * MINUTES_PER_HOUR) {
+                listOfPeriodMessage.loadMessage(describeFreeSlot(freeSlot, now));
+                isFreeBetweenEvents = true;
+            }
+        }
+        if (isFreeBetweenEvents) {
+            return listOfPeriodMessage.getMessage();
+        }
+        listOfPeriodMessage.loadMessage(NO_FREE_SLOTS);
+        MessageBuilder listOfLowPriorityMessage = new MessageBuilder();
+        listOfLowPriorityMessage.loadMessage(LOW_PRIORITY);
+        long nowMinute = Task.toEpochMinute(now);
+        long deadlineMinute = Task.toEpochMinute(deadlineDate);
+        for (LowPriorityEvent event : lowPriorityEvents) {
+            if (event.startMinute >= deadlineMinute) {
+                break;
+            }
+            if (event.endMinute > nowMinute) {
+                listOfLowPriorityMessage.loadMessage(event.description);
+            }
+        }
+        return listOfPeriodMessage.getMessage() + listOfLowPriorityMessage.getMessage();
+    }
 
+    private static String describeFreeSlot(FreeSlot freeSlot, LocalDateTime now) {
+        String formattedEndDate = freeSlot.getEndDate().format(DateTimeExtractor.DATE_FORMATTER);
+        if (now.equals(freeSlot.getStartDate())) {
+            return String.format(SCHEDULE_NOW_TILL_FORMAT, formattedEndDate);
+        }
+        String formattedStartDate = freeSlot.getStartDate().format(DateTimeExtractor.DATE_FORMATTER);
+        return String.format(SCHEDULE_FROM_TILL_FORMAT, formattedStartDate, formattedEndDate);
+    }
 }
@@ -3,17 +3,17 @@ package chronologer.command;
 import chronologer.exception.ChronologerException;
 import chronologer.storage.ChronologerStateList;
 import chronologer.storage.Storage;
-import chronologer.storage.TaskListAdapter;
+import chronologer.storage.TaskListReader;
+import chronologer.task.Task;
 import chronologer.task.TaskList;
 import chronologer.ui.UiMessageHandler;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.util.ArrayList;
 
 
 public class TesterCommand extends Command {
@@ -29,17 +29,9 @@ public class TesterCommand extends Command {
             InputStream is = getClass().getClassLoader().getResourceAsStream(TEST_FILE);
             InputStreamReader reader = new InputStreamReader(is);
             BufferedReader bufferedReader = new BufferedReader(reader);
-            StringBuilder builder = new StringBuilder();
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                builder.append(line);
-            }
-            String json = builder.toString();
-            Gson gson = new GsonBuilder().registerTypeAdapter(TaskList.class, new TaskListAdapter())
-                    .create();
-            TaskList taskList = gson.fromJson(json, TaskList.class);
+            ArrayList<Task> listOfTasks = TaskListReader.readTasks(bufferedReader);
             bufferedReader.close();
-            tasks.updateListOfTasks(taskList.getTasks());
+            tasks.updateListOfTasks(listOfTasks);
         } catch (FileNotFoundException e) {
             logger.writeLog(e.toString(), this.getClass().getName());
             throw new ChronologerException(ChronologerException.fileDoesNotExist());
@@ -48,7 +40,7 @@ public class TesterCommand extends Command {
             throw new ChronologerException(ChronologerException.unableToReadFile());
         }
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
         UiMessageHandler.outputMessage(WELCOME_TESTER_MESSAGE);
     }
 }
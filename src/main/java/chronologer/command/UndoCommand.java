@@ -25,7 +25,7 @@ public class UndoCommand extends Command {
     public void execute(TaskList tasks, Storage storage, ChronologerStateList history) throws ChronologerException {
         tasks.updateListOfTasks(history.undo());
         tasks.updateGui(null);
-        storage.saveFile(tasks.getTasks());
+        storage.saveFile(tasks);
         UiMessageHandler.outputMessage("Undo successful!");
     }
 }
\ No newline at end of file
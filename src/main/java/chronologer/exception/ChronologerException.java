@@ -42,11 +42,15 @@ public class ChronologerException extends Exception {
     private static final String END_DATE_EARLIER_MSG = "OOPS!! Your end date is earlier than your start date";
     private static final String INVALID_WEEK = "OOPS!! Your week is invalid!";
     private static final String INVALID_VERSION = "OOPS!! Your version is invalid!";
+    private static final String MISSING_VERSION = "OOPS!! There is no version stored under that name!";
     private static final String INVALID_DURATION = "OOPS!! The duration given is invalid!";
     private static final String INVALID_INPUT = "OOPS!! The input given is not valid.";
     private static final String WEBSITE_BROKEN = "OOPS!! We are unable to launch our online guide!";
     private static final String UNDO_LIMIT = "OOPS!! Sorry unable to undo further";
     private static final String REDO_LIMIT = "OOPS!! Sorry unable to redo further";
+    private static final String MISSING_TASK_ID = "OOPS!! There is no task with that id in the list.";
+    private static final String INVALID_AVAILABILITY = "OOPS!! The available hours given are invalid. "
+        + "eg. available mon 0900 1800 OR available sleep 2300 0700";
 
 
     /**
@@ -203,6 +207,10 @@ public class ChronologerException extends Exception {
         return INVALID_VERSION;
     }
 
+    public static String versionNotFound() {
+        return MISSING_VERSION;
+    }
+
     public static String emptyCalendar() {
         return EMPTY_CALENDAR;
     }
@@ -227,6 +235,14 @@ public class ChronologerException extends Exception {
         return INVALID_INPUT;
     }
 
+    public static String missingTaskId() {
+        return MISSING_TASK_ID;
+    }
+
+    public static String invalidAvailability() {
+        return INVALID_AVAILABILITY;
+    }
+
     public ChronologerException(String message) {
         super(message);
         UiMessageHandler.outputMessage(message);
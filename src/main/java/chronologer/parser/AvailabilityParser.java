@@ -0,0 +1,139 @@
+package chronologer.parser;
+
+import chronologer.command.AvailabilityCommand;
+import chronologer.command.Command;
+import chronologer.exception.ChronologerException;
+import chronologer.task.Availability;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+//@@author fauzt
+/**
+ * Extract the change to the available hours of the user from the input of the available command.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class AvailabilityParser extends Parser {
+
+    private static final String SLEEP = "sleep";
+    private static final String BLOCK = "block";
+    private static final String UNBLOCK = "unblock";
+    private static final String RESET = "reset";
+    private static final String OFF = "off";
+    private static final String ANY = "any";
+    private static final String NONE = "none";
+    private static final String TIME_PATTERN = "\\d{4}";
+    private static final int SHORTEST_DAY_NAME = 3;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    AvailabilityParser(String userInput, String command) {
+        super(userInput, command);
+    }
+
+    @Override
+    public Command parse() throws ChronologerException {
+        String[] tokens = userInput.trim().split("\\s+");
+        if (tokens.length == 1) {
+            return new AvailabilityCommand(null);
+        }
+        String option = tokens[1].toLowerCase();
+        switch (option) {
+        case SLEEP:
+            return parseSleep(tokens);
+        case BLOCK:
+            LocalDate blockedDate = parseDate(tokens);
+            return new AvailabilityCommand(availability -> availability.withBlockedDate(blockedDate));
+        case UNBLOCK:
+            LocalDate unblockedDate = parseDate(tokens);
+            return new AvailabilityCommand(availability -> availability.withoutBlockedDate(unblockedDate));
+        case RESET:
+            checkLength(tokens, 2);
+            return new AvailabilityCommand(availability -> Availability.ALWAYS);
+        default:
+            return parseWorkingHours(tokens, parseDayOfWeek(option));
+        }
+    }
+
+    private Command parseSleep(String[] tokens) throws ChronologerException {
+        if (tokens.length == 3 && NONE.equalsIgnoreCase(tokens[2])) {
+            return new AvailabilityCommand(Availability::withoutSleep);
+        }
+        checkLength(tokens, 4);
+        int startMinute = parseMinute(tokens[2]);
+        int endMinute = parseMinute(tokens[3]);
+        if (startMinute >= Availability.MINUTES_PER_DAY || endMinute >= Availability.MINUTES_PER_DAY) {
+            throw invalidAvailability();
+        }
+        return new AvailabilityCommand(availability -> availability.withSleep(startMinute, endMinute));
+    }
+
+    private Command parseWorkingHours(String[] tokens, DayOfWeek dayOfWeek) throws ChronologerException {
+        if (tokens.length == 3 && OFF.equalsIgnoreCase(tokens[2])) {
+            return new AvailabilityCommand(availability -> availability.withWorkingHours(dayOfWeek, 0, 0));
+        }
+        if (tokens.length == 3 && ANY.equalsIgnoreCase(tokens[2])) {
+            return new AvailabilityCommand(availability -> availability.withoutWorkingHours(dayOfWeek));
+        }
+        checkLength(tokens, 4);
+        int startMinute = parseMinute(tokens[2]);
+        int endMinute = parseMinute(tokens[3]);
+        if (startMinute >= endMinute) {
+            throw invalidAvailability();
+        }
+        return new AvailabilityCommand(availability -> availability.withWorkingHours(dayOfWeek, startMinute,
+            endMinute));
+    }
+
+    private DayOfWeek parseDayOfWeek(String option) throws ChronologerException {
+        if (option.length() >= SHORTEST_DAY_NAME) {
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                if (dayOfWeek.name().startsWith(option.toUpperCase())) {
+                    return dayOfWeek;
+                }
+            }
+        }
+        throw invalidAvailability();
+    }
+
+    /**
+     * Converts a time given as HHmm into the minute of the day, allowing 2400 for the end of the day.
+     */
+    private int parseMinute(String time) throws ChronologerException {
+        if (!time.matches(TIME_PATTERN)) {
+            throw invalidAvailability();
+        }
+        int hours = Integer.parseInt(time.substring(0, 2));
+        int minutes = Integer.parseInt(time.substring(2));
+        int minuteOfDay = hours * MINUTES_PER_HOUR + minutes;
+        if (minutes >= MINUTES_PER_HOUR || minuteOfDay > Availability.MINUTES_PER_DAY) {
+            throw invalidAvailability();
+        }
+        return minuteOfDay;
+    }
+
+    private LocalDate parseDate(String[] tokens) throws ChronologerException {
+        checkLength(tokens, 3);
+        try {
+            return LocalDate.parse(tokens[2], DATE_FORMAT);
+        } catch (DateTimeParseException e) {
+            logger.writeLog(e.toString(), this.getClass().getName(), userInput);
+            throw new ChronologerException(ChronologerException.wrongDateOrTime());
+        }
+    }
+
+    private void checkLength(String[] tokens, int length) throws ChronologerException {
+        if (tokens.length != length) {
+            throw invalidAvailability();
+        }
+    }
+
+    private ChronologerException invalidAvailability() {
+        logger.writeLog("Invalid available hours", this.getClass().getName(), userInput);
+        return new ChronologerException(ChronologerException.invalidAvailability());
+    }
+}
@@ -21,7 +21,7 @@ public class CommentParser extends IndexParser {
     public Command parse() throws ChronologerException {
         super.extract();
         String comment = extractComment(taskFeatures);
-        return new CommentCommand(indexOfTask, comment);
+        return locate(new CommentCommand(indexOfTask, comment));
     }
 
     private String extractComment(String taskFeatures) throws ChronologerException {
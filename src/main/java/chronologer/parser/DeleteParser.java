@@ -19,7 +19,7 @@ public class DeleteParser extends IndexParser {
     @Override
     public Command parse() throws ChronologerException {
         super.extract();
-        return new DeleteCommand(indexOfTask);
+        return locate(new DeleteCommand(indexOfTask));
     }
 
 }
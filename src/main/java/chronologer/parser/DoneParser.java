@@ -19,6 +19,6 @@ public class DoneParser extends IndexParser {
     @Override
     public Command parse() throws ChronologerException {
         super.extract();
-        return new DoneCommand(indexOfTask);
+        return locate(new DoneCommand(indexOfTask));
     }
 }
@@ -23,7 +23,7 @@ public class EditParser extends IndexParser {
     public Command parse() throws ChronologerException {
         super.extract();
         String newDescription = extractNewDescription(taskFeatures);
-        return new EditCommand(indexOfTask, newDescription);
+        return locate(new EditCommand(indexOfTask, newDescription));
     }
 
     /**
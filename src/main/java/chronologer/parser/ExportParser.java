@@ -15,6 +15,7 @@ public class ExportParser extends DescriptionParser {
     private boolean hasDeadlineFlag = false;
     private boolean hasEventFlag = false;
     private boolean hasTodoFlag = false;
+    private boolean hasArchiveFlag = false;
 
     ExportParser(String userInput, String command) {
         super(userInput, command);
@@ -25,7 +26,7 @@ public class ExportParser extends DescriptionParser {
         super.extract();
         extractFlags(taskFeatures);
         String fileName = removeFlags(taskFeatures);
-        return new ExportCommand(fileName, hasDeadlineFlag, hasEventFlag, hasTodoFlag);
+        return new ExportCommand(fileName, hasDeadlineFlag, hasEventFlag, hasTodoFlag, hasArchiveFlag);
     }
 
     private void extractFlags(String taskFeatures) {
@@ -38,10 +39,13 @@ public class ExportParser extends DescriptionParser {
         if (taskFeatures.contains(Flag.TODO.getFlag())) {
             hasTodoFlag = true;
         }
+        if (taskFeatures.contains(Flag.ALL.getFlag())) {
+            hasArchiveFlag = true;
+        }
     }
 
     private String removeFlags(String taskFeatures) {
-        return taskFeatures.replaceAll(Flag.DEADLINE.getFlag(), "")
+        return taskFeatures.replaceAll(Flag.ALL.getFlag(), "").replaceAll(Flag.DEADLINE.getFlag(), "")
             .replaceAll(Flag.EVENT.getFlag(), ""
             ).replaceAll(Flag.TODO.getFlag(), "");
     }
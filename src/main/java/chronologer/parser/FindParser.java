@@ -15,9 +15,22 @@ public class FindParser extends DescriptionParser {
         super(userInput, command);
     }
 
+    private static final String SIMILAR_PREFIX = "~";
+
     @Override
     public Command parse() throws ChronologerException {
         super.extract();
+        boolean isIdShown = hasFlagWord(taskFeatures, Flag.RAW);
+        String features = isIdShown ? removeFlagWord(taskFeatures, Flag.RAW) : taskFeatures;
+        boolean isArchiveIncluded = features.contains(Flag.ALL.getFlag());
+        String keyWord = features.replace(Flag.ALL.getFlag(), "").trim();
+        if (keyWord.startsWith(SIMILAR_PREFIX)) {
+            return new FindCommand(keyWord.substring(SIMILAR_PREFIX.length()).trim(), isArchiveIncluded, true,
+                isIdShown);
+        }
+        if (isArchiveIncluded || isIdShown) {
+            return new FindCommand(keyWord, isArchiveIncluded, false, isIdShown);
+        }
         return new FindCommand(taskFeatures);
     }
 }
@@ -9,7 +9,9 @@ public enum Flag {
     EVENT("-e"),
     TODO("-t"),
     RAW("-r"),
-    MOD("/m");
+    ALL("--all"),
+    MOD("/m"),
+    SPLIT("/split");
 
     private String flag;
 
@@ -22,7 +22,7 @@ public class IgnoreParser extends IndexParser {
     @Override
     public Command parse() throws ChronologerException {
         super.extract();
-        return new IgnoreCommand(indexOfTask, isIgnore);
+        return locate(new IgnoreCommand(indexOfTask, isIgnore));
     }
 
 }
@@ -5,7 +5,8 @@ import chronologer.exception.ChronologerException;
 import chronologer.ui.UiMessageHandler;
 
 /**
- * Backbone of all parsers that process input based on list index.
+ * Backbone of all parsers that process input based on list index. A task may also be given by its id, written
+ * as # followed by the id, which the command resolves to the current index of the task when it runs.
  *
  * @author Fauzan Adipratama
  * @version v1.0
@@ -13,7 +14,10 @@ import chronologer.ui.UiMessageHandler;
 public abstract class IndexParser extends Parser {
 
     Integer indexOfTask;
+    Long idOfTask;
     private static final String NEGATIVE_NUM_DETECTED = "Please input a positive number for task index.";
+    private static final String ID_PREFIX = "#";
+    private static final int UNRESOLVED_INDEX = 0;
 
     public IndexParser(String userInput, String command) {
         super(userInput, command);
@@ -23,7 +27,36 @@ public abstract class IndexParser extends Parser {
 
     void extract() throws ChronologerException {
         this.taskFeatures = removeCommandInput(userInput);
-        this.indexOfTask = parseIndex(taskFeatures);
+        if (taskFeatures.trim().startsWith(ID_PREFIX)) {
+            this.idOfTask = parseId(taskFeatures);
+            this.indexOfTask = UNRESOLVED_INDEX;
+        } else {
+            this.indexOfTask = parseIndex(taskFeatures);
+        }
+    }
+
+    /**
+     * Directs the command to the task holding the id given in place of an index, if any.
+     *
+     * @param command The command created from the parsed input.
+     * @return The command, acting on the task with the given id if one was given.
+     */
+    Command locate(Command command) {
+        return idOfTask == null ? command : command.forTaskWithId(idOfTask);
+    }
+
+    private long parseId(String taskFeatures) throws ChronologerException {
+        long id;
+        try {
+            id = Long.parseLong(taskFeatures.trim().split("\\s+", 2)[0].substring(ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            logger.writeLog(e.toString(), this.getClass().getName(), userInput);
+            throw new ChronologerException(ChronologerException.invalidInput());
+        }
+        if (id <= 0) {
+            throw new ChronologerException(ChronologerException.missingTaskId());
+        }
+        return id;
     }
 
     private int parseIndex(String taskFeatures) throws ChronologerException {
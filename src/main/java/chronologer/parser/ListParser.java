@@ -0,0 +1,23 @@
+package chronologer.parser;
+
+import chronologer.command.Command;
+import chronologer.command.ListCommand;
+
+//@@author fauzt
+/**
+ * Extract the optional flag of the list command that shows the id of each task.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class ListParser extends Parser {
+
+    ListParser(String userInput, String command) {
+        super(userInput, command);
+    }
+
+    @Override
+    public Command parse() {
+        return new ListCommand(hasFlagWord(userInput, Flag.RAW));
+    }
+}
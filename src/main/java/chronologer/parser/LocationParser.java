@@ -21,7 +21,7 @@ public class LocationParser extends IndexParser {
     public Command parse() throws ChronologerException {
         super.extract();
         String locationString = extractNewLocation(taskFeatures);
-        return new LocationCommand(indexOfTask, locationString);
+        return locate(new LocationCommand(indexOfTask, locationString));
     }
 
     /**
@@ -0,0 +1,32 @@
+package chronologer.parser;
+
+import chronologer.command.Command;
+import chronologer.command.ModuleCommand;
+import chronologer.exception.ChronologerException;
+
+//@@author fauzt
+/**
+ * Extract the module code required for the module command from the user input.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class ModuleParser extends DescriptionParser {
+
+    private static final String MODULE_CODE_PATTERN = "[A-Za-z]{2,3}[1-9]\\d{3}[A-Za-z]?";
+
+    ModuleParser(String userInput, String command) {
+        super(userInput, command);
+    }
+
+    @Override
+    public Command parse() throws ChronologerException {
+        super.extract();
+        String modCode = taskFeatures.trim();
+        if (!modCode.matches(MODULE_CODE_PATTERN)) {
+            logger.writeLog("Invalid module code", this.getClass().getName(), userInput);
+            throw new ChronologerException(ChronologerException.missingModuleCode());
+        }
+        return new ModuleCommand(modCode.toUpperCase());
+    }
+}
@@ -5,6 +5,9 @@ import chronologer.exception.ChronologerException;
 import chronologer.exception.MyLogger;
 import chronologer.ui.UiMessageHandler;
 
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
 /**
  * Ensures that all the classes of parser type have implementations of the
  * method parse.
@@ -46,4 +49,17 @@ public abstract class Parser {
         return taskFeatures;
     }
 
+    //@@author fauzt
+    /**
+     * Checks whether a flag stands as a word of its own in the text, so that a word merely containing the flag
+     * does not count.
+     */
+    static boolean hasFlagWord(String text, Flag flag) {
+        return Arrays.asList(text.trim().split("\\s+")).contains(flag.getFlag());
+    }
+
+    static String removeFlagWord(String text, Flag flag) {
+        return text.replaceAll("(^|\\s)" + Pattern.quote(flag.getFlag()) + "(?=\\s|$)", " ").trim();
+    }
+    //@@author
 }
@@ -2,7 +2,7 @@ package chronologer.parser;
 
 import chronologer.command.Command;
 import chronologer.command.ExitCommand;
-import chronologer.command.ListCommand;
+import chronologer.command.ListVersionsCommand;
 import chronologer.command.UndoCommand;
 import chronologer.command.RedoCommand;
 import chronologer.command.HelpCommand;
@@ -29,6 +29,7 @@ public class ParserFactory {
     private static final String ASSIGNMENT = "assignment";
     private static final String EVENT = "event";
     private static final String FIND = "find";
+    private static final String MODULE = "module";
     private static final String EDIT = "edit";
     private static final String DELETE = "delete";
     private static final String PRIORITY = "priority";
@@ -44,12 +45,15 @@ public class ParserFactory {
     private static final String COMMENT = "comment";
     private static final String LOCATION = "location";
     private static final String SCHEDULE = "schedule";
+    private static final String PLAN = "plan";
+    private static final String AVAILABLE = "available";
     private static final String EXPORT = "export";
     private static final String UNDO = "undo";
     private static final String REDO = "redo";
     private static final String THEME = "theme";
     private static final String RESTORE = "restore";
     private static final String STORE = "store";
+    private static final String VERSIONS = "versions";
     private static final String WEEK = "week";
     private static final String HELP = "help";
     private static final String MANUAL = "manual";
@@ -90,6 +94,8 @@ public class ParserFactory {
             return new EventParser(userInput, command).parse();
         case FIND:
             return new FindParser(userInput, command).parse();
+        case MODULE:
+            return new ModuleParser(userInput, command).parse();
         case EDIT:
             return new EditParser(userInput, command).parse();
         case DELETE:
@@ -105,7 +111,7 @@ public class ParserFactory {
         case VIEW:
             return new ViewParser(userInput, command).parse();
         case LIST:
-            return new ListCommand();
+            return new ListParser(userInput, command).parse();
         case BYE:
             return new ExitCommand();
         case SEARCH:
@@ -120,6 +126,10 @@ public class ParserFactory {
             return new LocationParser(userInput, command).parse();
         case SCHEDULE:
             return new ScheduleParser(userInput, command).parse();
+        case PLAN:
+            return new PlanParser(userInput, command).parse();
+        case AVAILABLE:
+            return new AvailabilityParser(userInput, command).parse();
         case EXPORT:
             return new ExportParser(userInput,command).parse();
         case UNDO:
@@ -132,6 +142,8 @@ public class ParserFactory {
             return new RestoreVersionParser(userInput,command).parse();
         case STORE:
             return new StoreVersionParser(userInput,command).parse();
+        case VERSIONS:
+            return new ListVersionsCommand();
         case WEEK:
             return new WeekParser(userInput,command).parse();
         case HELP:
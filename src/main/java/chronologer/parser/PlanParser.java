@@ -0,0 +1,33 @@
+package chronologer.parser;
+
+import chronologer.command.Command;
+import chronologer.command.PlanCommand;
+import chronologer.exception.ChronologerException;
+
+//@@author fauzt
+/**
+ * Extract the optional date to plan by required for the plan command from the user input.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class PlanParser extends Parser {
+
+    PlanParser(String userInput, String command) {
+        super(userInput, command);
+    }
+
+    @Override
+    public Command parse() throws ChronologerException {
+        String[] tokens = userInput.split(Flag.BY.getFlag(), 2);
+        if (tokens.length == 1) {
+            return new PlanCommand(null);
+        }
+        String targetDate = tokens[1].trim();
+        if (targetDate.isEmpty()) {
+            logger.writeLog("Missing plan date", this.getClass().getName(), userInput);
+            throw new ChronologerException(ChronologerException.emptyDateOrTime());
+        }
+        return new PlanCommand(DateTimeExtractor.extractDateTime(targetDate));
+    }
+}
@@ -31,10 +31,10 @@ public class PostponeParser extends IndexParser {
 
         if (isEventDateFormat(dateString)) {
             extractEventDates(dateString);
-            return new PostponeCommand(indexOfTask, newFromDate, newToDate);
+            return locate(new PostponeCommand(indexOfTask, newFromDate, newToDate));
         } else {
             extractDeadlineDates(dateString);
-            return new PostponeCommand(indexOfTask, newFromDate);
+            return locate(new PostponeCommand(indexOfTask, newFromDate));
         }
     }
 
@@ -21,7 +21,7 @@ public class PriorityParser extends IndexParser {
     public Command parse() throws ChronologerException {
         super.extract();
         String priorityString = extractPriority(taskFeatures);
-        return new PriorityCommand(indexOfTask, priorityString);
+        return locate(new PriorityCommand(indexOfTask, priorityString));
     }
 
 
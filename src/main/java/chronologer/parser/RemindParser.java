@@ -22,7 +22,7 @@ public class RemindParser extends IndexParser {
     public Command parse() throws ChronologerException {
         super.extract();
         int days = extractDays(taskFeatures);
-        return new RemindCommand(indexOfTask, days);
+        return locate(new RemindCommand(indexOfTask, days));
     }
 
     /**
@@ -19,7 +19,7 @@ public class RestoreVersionParser extends VersionParser {
     @Override
     public Command parse() throws ChronologerException {
         super.extract();
-        int choiceOfVersion = extractVersion(taskFeatures);
+        String choiceOfVersion = extractVersion(taskFeatures);
         return new RestoreVersionCommand(choiceOfVersion);
     }
 }
\ No newline at end of file
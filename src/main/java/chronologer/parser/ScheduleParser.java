@@ -19,9 +19,13 @@ public class ScheduleParser extends IndexParser {
     private static final int INDEX_INPUT = 0;
     private static final int DATE_INPUT = 1;
     private static final int NO_DEADLINE_INPUT = 2;
+    private static final long DEFAULT_MINIMUM_SESSION_MINUTES = 60;
+    private static final int DEFAULT_MAXIMUM_SESSIONS_PER_DAY = 2;
 
     private int indexOfDeadline;
     private LocalDateTime dateOfDeadline;
+    private Long minimumSessionMinutes;
+    private Integer maximumSessionsPerDay;
 
     ScheduleParser(String userInput, String command) {
         super(userInput, command);
@@ -30,12 +34,14 @@ public class ScheduleParser extends IndexParser {
 
     /**
      * Parses the inputted text into its components and check whether the last inputted component is an index number
-     * or a date.
+     * or a date. The duration is split into sessions if the input ends with the split flag, optionally followed by
+     * the least minutes of a session and the most sessions a day.
      * @return the command to execute to schedule a task's duration by the selected Deadline or a custom deadline date
      * @throws ChronologerException if the inputted text does not match the expected format
      */
     @Override
     public Command parse() throws ChronologerException {
+        extractSessionOptions();
         super.extract();
         if (isProcessingRawDuration(taskFeatures)) {
             int deadlineType = checkInputType(taskFeatures);
@@ -47,6 +53,40 @@ public class ScheduleParser extends IndexParser {
         return getTaskScheduleCommandForIndex(deadlineType);
     }
 
+    private void extractSessionOptions() throws ChronologerException {
+        String[] tokens = userInput.split(Flag.SPLIT.getFlag(), 2);
+        if (tokens.length == 1) {
+            return;
+        }
+        userInput = tokens[0].trim();
+        String[] options = tokens[1].trim().split("\\s+");
+        if (options[0].isEmpty()) {
+            minimumSessionMinutes = DEFAULT_MINIMUM_SESSION_MINUTES;
+            maximumSessionsPerDay = DEFAULT_MAXIMUM_SESSIONS_PER_DAY;
+            return;
+        }
+        if (options.length != 2) {
+            throw new ChronologerException(ChronologerException.invalidInput());
+        }
+        try {
+            minimumSessionMinutes = Long.parseLong(options[0]);
+            maximumSessionsPerDay = Integer.parseInt(options[1]);
+        } catch (NumberFormatException e) {
+            logger.writeLog(e.toString(), this.getClass().getName(), userInput);
+            throw new ChronologerException(ChronologerException.invalidInput());
+        }
+        if (minimumSessionMinutes <= 0 || maximumSessionsPerDay <= 0) {
+            throw new ChronologerException(ChronologerException.invalidInput());
+        }
+    }
+
+    private TaskScheduleCommand split(TaskScheduleCommand command) {
+        if (minimumSessionMinutes == null) {
+            return command;
+        }
+        return command.inSessions(minimumSessionMinutes, maximumSessionsPerDay);
+    }
+
     private int extractDeadlineIndex(String taskFeatures) throws ChronologerException {
         String extractedIndex = taskFeatures.split(Flag.BY.getFlag(), 2)[1].trim();
         int convertedIndex;
@@ -96,7 +136,10 @@ public class ScheduleParser extends IndexParser {
         return true;
     }
 
-    private Long getRawDuration() {
+    private Long getRawDuration() throws ChronologerException {
+        if (idOfTask != null) {
+            throw new ChronologerException(ChronologerException.invalidDuration());
+        }
         return (long) indexOfTask + 1;
     }
 
@@ -104,12 +147,12 @@ public class ScheduleParser extends IndexParser {
         switch (deadlineType) {
         case INDEX_INPUT:
             indexOfDeadline = extractDeadlineIndex(taskFeatures);
-            return new TaskScheduleCommand(duration, indexOfDeadline);
+            return split(new TaskScheduleCommand(duration, indexOfDeadline));
         case DATE_INPUT:
             dateOfDeadline = extractDeadlineDate(taskFeatures);
-            return new TaskScheduleCommand(duration, dateOfDeadline);
+            return split(new TaskScheduleCommand(duration, dateOfDeadline));
         case NO_DEADLINE_INPUT:
-            return new TaskScheduleCommand(duration, null);
+            return split(new TaskScheduleCommand(duration, null));
         default:
             return null;
         }
@@ -119,12 +162,12 @@ public class ScheduleParser extends IndexParser {
         switch (deadlineType) {
         case INDEX_INPUT:
             indexOfDeadline = extractDeadlineIndex(taskFeatures);
-            return new TaskScheduleCommand(indexOfTask, indexOfDeadline);
+            return locate(split(new TaskScheduleCommand(indexOfTask, indexOfDeadline)));
         case DATE_INPUT:
             dateOfDeadline = extractDeadlineDate(taskFeatures);
-            return new TaskScheduleCommand(indexOfTask, dateOfDeadline);
+            return locate(split(new TaskScheduleCommand(indexOfTask, dateOfDeadline)));
         case NO_DEADLINE_INPUT:
-            return new TaskScheduleCommand(indexOfTask, null);
+            return locate(split(new TaskScheduleCommand(indexOfTask, null)));
         default:
             return null;
         }
@@ -19,7 +19,7 @@ public class StoreVersionParser extends VersionParser {
     @Override
     public Command parse() throws ChronologerException {
         super.extract();
-        int choiceOfVersion = extractVersion(taskFeatures);
+        String choiceOfVersion = extractVersion(taskFeatures);
         return new StoreVersionCommand(choiceOfVersion);
     }
 }
@@ -15,16 +15,15 @@ public abstract class VersionParser extends DescriptionParser {
     }
 
     /**
-     * Obtains an integer of the version the user wants.
+     * Obtains the name of the version the user wants.
      *
-     * @param taskFeatures contains the integer the user provides.
+     * @param taskFeatures contains the name the user provides.
      */
-    public int extractVersion(String taskFeatures) throws ChronologerException {
-        int desiredVersion = Integer.parseInt(taskFeatures);
-        if (desiredVersion >= 1 && desiredVersion <= 3) {
-            return desiredVersion;
-        } else {
+    public String extractVersion(String taskFeatures) throws ChronologerException {
+        String desiredVersion = taskFeatures.trim();
+        if (desiredVersion.isEmpty()) {
             throw new ChronologerException(ChronologerException.invalidVersion());
         }
+        return desiredVersion;
     }
 }
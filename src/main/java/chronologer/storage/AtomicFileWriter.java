@@ -0,0 +1,108 @@
+package chronologer.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+//@@author fauzt
+/**
+ * Replaces files atomically by writing a sibling temporary file and moving it over the original, so that a
+ * crash in the middle of a save leaves either the old or the new contents but never a truncated file.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class AtomicFileWriter {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Writes the contents of a file onto the given stream. The stream is closed by the caller.
+     */
+    interface Contents {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Replaces the file with the given contents.
+     *
+     * @param file     The file to replace
+     * @param contents The new contents of the file
+     * @param isForced True if the contents and the rename must be on disk before this returns
+     * @throws IOException If the file cannot be written, in which case the original is left untouched
+     */
+    static void write(File file, Contents contents, boolean isForced) throws IOException {
+        File tempFile = new File(file.getPath() + TEMP_SUFFIX);
+        try {
+            try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+                BufferedOutputStream bufferedStream = new BufferedOutputStream(outputStream);
+                contents.writeTo(bufferedStream);
+                bufferedStream.flush();
+                if (isForced) {
+                    outputStream.getChannel().force(true);
+                }
+            }
+            move(tempFile, file);
+        } catch (IOException | RuntimeException e) {
+            tempFile.delete();
+            throw e;
+        }
+        if (isForced) {
+            forceDirectory(file);
+        }
+    }
+
+    /**
+     * Replaces the file with the given bytes.
+     *
+     * @see #write(File, Contents, boolean)
+     */
+    static void write(File file, byte[] bytes, boolean isForced) throws IOException {
+        write(file, outputStream -> outputStream.write(bytes), isForced);
+    }
+
+    /**
+     * Forces the file and the directory entry pointing to it onto the disk.
+     *
+     * @param file The file to force
+     * @throws IOException If the file cannot be opened
+     */
+    static void force(File file) throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        forceDirectory(file);
+    }
+
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory holding the file, so that a rename into it survives a crash. Directories cannot
+     * be opened for this on every platform, in which case the rename is left to the file system.
+     */
+    static void forceDirectory(File file) {
+        File directory = file.getAbsoluteFile().getParentFile();
+        try (FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The file itself has been forced, only the directory entry is left to the file system.
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package chronologer.storage;
+
+import chronologer.task.Availability;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Keeps the hours the user is available in a small Json file beside the task file, so that they are kept apart
+ * from the history of the tasks and undoing a change to the tasks leaves them as they are.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class AvailabilityStore {
+
+    private static final String AVAILABILITY_SUFFIX = ".availability.json";
+    private static final Gson GSON = new Gson();
+
+    private final File file;
+
+    /**
+     * The stored form of an availability, with minutes of the day and dates in ISO form.
+     */
+    private static class Record {
+        private int[][] workingMinutes;
+        private int[] sleepMinutes;
+        private ArrayList<String> blockedDates;
+    }
+
+    AvailabilityStore(File file) {
+        this.file = new File(file.getPath() + AVAILABILITY_SUFFIX);
+    }
+
+    /**
+     * Reads the stored availability.
+     *
+     * @return The stored availability, or one without any limit if none was stored
+     * @throws IOException If the file cannot be read or is corrupted
+     */
+    Availability load() throws IOException {
+        if (!file.exists()) {
+            return Availability.ALWAYS;
+        }
+        try (Reader reader = new FileReader(file, StandardCharsets.UTF_8)) {
+            Record record = GSON.fromJson(reader, Record.class);
+            return record == null ? Availability.ALWAYS : toAvailability(record);
+        } catch (JsonParseException | IllegalArgumentException | DateTimeParseException
+            | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted availability", e);
+        }
+    }
+
+    /**
+     * Replaces the stored availability. The file is replaced atomically.
+     *
+     * @param availability The availability to store
+     * @throws IOException If the file cannot be written
+     */
+    void save(Availability availability) throws IOException {
+        Record record = new Record();
+        record.workingMinutes = new int[DayOfWeek.values().length][];
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            record.workingMinutes[dayOfWeek.ordinal()] = availability.getWorkingMinutes(dayOfWeek);
+        }
+        record.sleepMinutes = availability.getSleepMinutes();
+        record.blockedDates = new ArrayList<>();
+        for (LocalDate date : availability.getBlockedDates()) {
+            record.blockedDates.add(date.toString());
+        }
+        AtomicFileWriter.write(file, outputStream -> {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            GSON.toJson(record, writer);
+            writer.flush();
+        }, true);
+    }
+
+    private static Availability toAvailability(Record record) {
+        Availability availability = Availability.ALWAYS;
+        if (record.workingMinutes != null) {
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                int[] workingMinutes = dayOfWeek.ordinal() < record.workingMinutes.length
+                    ? record.workingMinutes[dayOfWeek.ordinal()] : null;
+                if (workingMinutes != null) {
+                    availability = availability.withWorkingHours(dayOfWeek, workingMinutes[0], workingMinutes[1]);
+                }
+            }
+        }
+        if (record.sleepMinutes != null) {
+            availability = availability.withSleep(record.sleepMinutes[0], record.sleepMinutes[1]);
+        }
+        if (record.blockedDates != null) {
+            for (String blockedDate : record.blockedDates) {
+                availability = availability.withBlockedDate(LocalDate.parse(blockedDate));
+            }
+        }
+        return availability;
+    }
+}
@@ -0,0 +1,281 @@
+package chronologer.storage;
+
+import chronologer.task.Priority;
+import chronologer.task.Task;
+import chronologer.task.TaskKind;
+import chronologer.task.Todo;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+//@@author fauzt
+/**
+ * Compact binary form of the task list. The file starts with a header, followed by a table holding every
+ * distinct string once and then by one fixed-width record per task that refers to the table by index.
+ * Loading maps the file into memory and decodes the records directly, without any text parsing.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class BinarySnapshot {
+
+    private static final int MAGIC = 0x43485242; // "CHRB"
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_IDS = 1;
+    private static final int HEADER_BYTES = 20;
+    private static final int RECORD_BYTES = 68;
+    private static final int NO_STRING = -1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final byte NO_PRIORITY = -1;
+
+    private static final int DONE_FLAG = 1;
+    private static final int IGNORED_FLAG = 2;
+
+    private static final TaskKind[] KINDS = {TaskKind.DEADLINE, TaskKind.EVENT, TaskKind.TODO, TaskKind.TODO_DURATION,
+        TaskKind.TODO_PERIOD};
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    /**
+     * Checks whether the file holds a binary snapshot rather than Json.
+     *
+     * @param file The file to check
+     * @return True if the file starts with the binary snapshot header
+     * @throws IOException If the file cannot be read
+     */
+    public static boolean isSnapshot(File file) throws IOException {
+        if (file.length() < HEADER_BYTES) {
+            return false;
+        }
+        byte[] start = new byte[Integer.BYTES];
+        try (FileInputStream inputStream = new FileInputStream(file)) {
+            if (inputStream.read(start) != start.length) {
+                return false;
+            }
+        }
+        return isSnapshot(start);
+    }
+
+    static boolean isSnapshot(byte[] bytes) {
+        return isSnapshot(ByteBuffer.wrap(bytes));
+    }
+
+    static boolean isSnapshot(ByteBuffer buffer) {
+        return buffer.remaining() >= Integer.BYTES && buffer.getInt(buffer.position()) == MAGIC;
+    }
+
+    /**
+     * Writes the task list to the file as a binary snapshot.
+     *
+     * @param file        The file to write to
+     * @param listOfTasks The tasks to write
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(File file, List<Task> listOfTasks) throws IOException {
+        AtomicFileWriter.write(file, encode(listOfTasks), false);
+    }
+
+    /**
+     * Reads the task list from a binary snapshot file by mapping it into memory.
+     *
+     * @param file The file holding the snapshot
+     * @return The tasks in the order they were written
+     * @throws IOException If the file cannot be read or is not a valid snapshot
+     */
+    public static ArrayList<Task> read(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Converts a Json save file into a binary snapshot.
+     *
+     * @param jsonFile     The Json save file to read
+     * @param snapshotFile The file to write the snapshot to, which may be the Json file itself
+     * @throws IOException If either file cannot be accessed
+     */
+    public static void convert(File jsonFile, File snapshotFile) throws IOException {
+        ArrayList<Task> listOfTasks;
+        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(jsonFile))) {
+            listOfTasks = TaskListReader.readTasks(reader);
+        }
+        write(snapshotFile, listOfTasks);
+    }
+
+    /**
+     * Converts a Json save file from the command line.
+     *
+     * @param args The Json save file, followed by the snapshot file to write
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: BinarySnapshot <json file> <snapshot file>");
+            return;
+        }
+        convert(new File(args[0]), new File(args[1]));
+    }
+
+    static byte[] encode(List<Task> listOfTasks) {
+        HashMap<String, Integer> stringIndexes = new HashMap<>();
+        ArrayList<byte[]> strings = new ArrayList<>();
+        int[][] stringReferences = new int[listOfTasks.size()][];
+        int stringTableBytes = 0;
+        for (int i = 0; i < listOfTasks.size(); i++) {
+            Task task = listOfTasks.get(i);
+            String[] values = {task.getDescription(), task.getLocation(), task.getComment(), task.getModCode()};
+            stringReferences[i] = new int[values.length];
+            for (int j = 0; j < values.length; j++) {
+                if (values[j] == null) {
+                    stringReferences[i][j] = NO_STRING;
+                    continue;
+                }
+                Integer index = stringIndexes.get(values[j]);
+                if (index == null) {
+                    index = strings.size();
+                    stringIndexes.put(values[j], index);
+                    byte[] bytes = values[j].getBytes(StandardCharsets.UTF_8);
+                    strings.add(bytes);
+                    stringTableBytes += Integer.BYTES + bytes.length;
+                }
+                stringReferences[i][j] = index;
+            }
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + stringTableBytes
+            + RECORD_BYTES * listOfTasks.size());
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(listOfTasks.size()).putInt(strings.size())
+            .putInt(stringTableBytes);
+        for (byte[] bytes : strings) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+        for (int i = 0; i < listOfTasks.size(); i++) {
+            putRecord(buffer, listOfTasks.get(i), stringReferences[i]);
+        }
+        return buffer.array();
+    }
+
+    static ArrayList<Task> decode(ByteBuffer buffer) throws IOException {
+        try {
+            int version = buffer.getInt() == MAGIC ? buffer.getInt() : 0;
+            if (version != VERSION && version != VERSION_WITHOUT_IDS) {
+                throw new IOException("Not a binary task snapshot");
+            }
+            int recordCount = buffer.getInt();
+            String[] strings = new String[buffer.getInt()];
+            buffer.getInt();
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            ArrayList<Task> listOfTasks = new ArrayList<>(recordCount);
+            for (int i = 0; i < recordCount; i++) {
+                Task task = getRecord(buffer, strings, version == VERSION);
+                if (task != null) {
+                    listOfTasks.add(task);
+                }
+            }
+            return listOfTasks;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+            | DateTimeException e) {
+            throw new IOException("Corrupted binary task snapshot", e);
+        }
+    }
+
+    private static void putRecord(ByteBuffer buffer, Task task, int[] stringReferences) {
+        Priority priority = task.getPriority();
+        int flags = (task.isDone() ? DONE_FLAG : 0) | (task.isIgnored() ? IGNORED_FLAG : 0);
+        buffer.put((byte) typeIndex(task.getKind()));
+        buffer.put(priority == null ? NO_PRIORITY : (byte) priority.ordinal());
+        buffer.put((byte) flags);
+        buffer.put((byte) 0);
+        for (int reference : stringReferences) {
+            buffer.putInt(reference);
+        }
+        putDateTime(buffer, task.getStartDate());
+        putDateTime(buffer, task.getEndDate());
+        putDateTime(buffer, task.getReminderDate());
+        buffer.putInt(task instanceof Todo ? ((Todo) task).duration : 0);
+        buffer.putLong(task.getId());
+    }
+
+    /**
+     * Decodes one record. Records of the first version end before the task identifier, which is left for the
+     * task list to assign.
+     */
+    private static Task getRecord(ByteBuffer buffer, String[] strings, boolean hasId) {
+        int typeIndex = buffer.get();
+        int priorityIndex = buffer.get();
+        int flags = buffer.get();
+        buffer.get();
+        String description = getString(buffer, strings);
+        String location = getString(buffer, strings);
+        String comment = getString(buffer, strings);
+        String modCode = getString(buffer, strings);
+        LocalDateTime startDate = getDateTime(buffer);
+        LocalDateTime endDate = getDateTime(buffer);
+        LocalDateTime reminderDate = getDateTime(buffer);
+        int duration = buffer.getInt();
+        long id = hasId ? buffer.getLong() : 0;
+
+        TaskKind kind = typeIndex >= 0 && typeIndex < KINDS.length ? KINDS[typeIndex] : null;
+        Task task = TaskTypeAdapter.createTask(kind, description == null ? "" : description, startDate, endDate,
+            duration);
+        if (task == null) {
+            return null;
+        }
+        task.setLocation(location == null ? "" : location);
+        task.setPriority(priorityIndex == NO_PRIORITY ? Priority.MEDIUM : PRIORITIES[priorityIndex]);
+        task.setComment(comment == null ? "" : comment);
+        task.setDone((flags & DONE_FLAG) != 0);
+        task.setIgnored((flags & IGNORED_FLAG) != 0);
+        task.setModCode(modCode == null ? "" : modCode);
+        task.setReminderDate(reminderDate);
+        task.setId(id);
+        return task;
+    }
+
+    private static int typeIndex(TaskKind kind) {
+        for (int i = 0; i < KINDS.length; i++) {
+            if (KINDS[i] == kind) {
+                return i;
+            }
+        }
+        return NO_STRING;
+    }
+
+    private static String getString(ByteBuffer buffer, String[] strings) {
+        int reference = buffer.getInt();
+        return reference == NO_STRING ? null : strings[reference];
+    }
+
+    private static void putDateTime(ByteBuffer buffer, LocalDateTime dateTime) {
+        if (dateTime == null) {
+            buffer.putLong(NO_DATE).putInt(0);
+        } else {
+            buffer.putLong(dateTime.toEpochSecond(ZoneOffset.UTC)).putInt(dateTime.getNano());
+        }
+    }
+
+    private static LocalDateTime getDateTime(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        if (epochSecond == NO_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+    }
+}
@@ -1,128 +1,259 @@
 package chronologer.storage;
 
 import chronologer.exception.ChronologerException;
+import chronologer.task.ChangedRange;
+import chronologer.task.PersistentTaskList;
 import chronologer.task.Task;
+import chronologer.task.TaskRecord;
 import chronologer.ui.UiMessageHandler;
-import org.apache.commons.lang3.SerializationUtils;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Stack;
+import java.util.List;
 
 public class ChronologerStateList implements Serializable {
 
-    private Stack<Object> chronologerUndoStack = new Stack<>();
-    private Stack<Object> chronologerRedoStack = new Stack<>();
-    private Storage storage1;
-    private Storage storage2;
-    private Storage storage3;
-    private File version1;
-    private File version2;
-    private File version3;
+    private static final int MAX_HISTORY = 100;
+    private static final String VERSION_DIRECTORY = "Versions";
+    private ArrayDeque<StateChange> chronologerUndoStack = new ArrayDeque<>();
+    private ArrayDeque<StateChange> chronologerRedoStack = new ArrayDeque<>();
+    private ArrayList<Task> liveTasks = new ArrayList<>();
+    private PersistentTaskList currentState = PersistentTaskList.empty();
+    private ArrayList<Integer> liveModifications = new ArrayList<>();
+    private boolean isMirrorSet = false;
+    private VersionStore versionStore;
+    private File[] legacyVersionFiles;
 
+    //@@author fauzt
     /**
-     * Constructs the ChronologerStateList by passing in the version files.
+     * Constructs the ChronologerStateList with its named versions kept in the given directory.
      *
-     * @param version1 Holds the file which will be utilised as the first state.
-     * @param version2 Holds the file which will be utilised as the second state.
-     * @param version3 Holds the file which will be utilised as the third state.
+     * @param versionDirectory Holds the directory of the version store.
+     */
+    public ChronologerStateList(File versionDirectory) {
+        this.versionStore = new VersionStore(versionDirectory);
+        this.legacyVersionFiles = new File[0];
+    }
+    //@@author
+
+    /**
+     * Constructs the ChronologerStateList by passing in the version files of older releases. Named versions are
+     * kept in a store beside the first file, and the first time the store is used the files are imported into
+     * it as the versions named 1 to 3.
+     *
+     * @param version1 Holds the file which was utilised as the first state.
+     * @param version2 Holds the file which was utilised as the second state.
+     * @param version3 Holds the file which was utilised as the third state.
      */
     public ChronologerStateList(File version1, File version2, File version3) {
-        this.storage1 = new Storage(version1);
-        this.storage2 = new Storage(version2);
-        this.storage3 = new Storage(version3);
-        this.version1 = version1;
-        this.version2 = version2;
-        this.version3 = version3;
+        this.versionStore = new VersionStore(new File(version1.getAbsoluteFile().getParentFile(), VERSION_DIRECTORY));
+        this.legacyVersionFiles = new File[] {version1, version2, version3};
     }
 
     /**
      * Stores the current state based on the user's choice.
      */
     public void storeVersion(ArrayList<Task> listToStore, int version) throws ChronologerException {
-        switch (version) {
-        case 1:
-            storage1.saveFile(listToStore);
-            UiMessageHandler.outputMessage("Saved as state 1");
-            break;
-        case 2:
-            storage2.saveFile(listToStore);
-            UiMessageHandler.outputMessage("Saved as state 2");
-            break;
-        case 3:
-            storage3.saveFile(listToStore);
-            UiMessageHandler.outputMessage("Saved as state 3");
-            break;
-        default:
-            UiMessageHandler.outputMessage("Please pick a valid state from 1 - 3");
+        storeVersion(PersistentTaskList.ofTasks(listToStore), String.valueOf(version));
+    }
+
+    //@@author fauzt
+    /**
+     * Stores a snapshot of the current state under the given name. Tasks already held by another version are
+     * shared with it rather than written again.
+     */
+    public void storeVersion(PersistentTaskList snapshot, String name) throws ChronologerException {
+        try {
+            importLegacyVersions();
+            versionStore.store(name, snapshot);
+        } catch (IOException e) {
+            throw new ChronologerException(ChronologerException.unableToWriteFile());
         }
+        UiMessageHandler.outputMessage("Saved as state " + name);
     }
+    //@@author
 
     /**
      * Restores from the given state based on the user;s choice.
      */
     public ArrayList<Task> restoreVersion(ArrayList<Task> currentVersion, int version)
         throws ChronologerException {
-        switch (version) {
-        case 1:
-            if (storage1.loadFile(version1).getTasks().size() != 0) {
-                UiMessageHandler.outputMessage("Restored from state 1");
-                return storage1.loadFile(version1).getTasks();
-            }
-            break;
-        case 2:
-            if (storage2.loadFile(version2).getTasks().size() != 0) {
-                UiMessageHandler.outputMessage("Restored from state 2");
-                return storage2.loadFile(version2).getTasks();
-            }
-            break;
-        case 3:
-            if (storage3.loadFile(version3).getTasks().size() != 0) {
-                UiMessageHandler.outputMessage("Restored from state 3");
-                return storage3.loadFile(version3).getTasks();
+        return restoreVersion(currentVersion, String.valueOf(version));
+    }
+
+    //@@author fauzt
+    /**
+     * Restores the state stored under the given name, reading it from the version store once.
+     */
+    public ArrayList<Task> restoreVersion(ArrayList<Task> currentVersion, String name) throws ChronologerException {
+        ArrayList<Task> restoredVersion;
+        try {
+            importLegacyVersions();
+            restoredVersion = versionStore.restore(name);
+        } catch (IOException e) {
+            throw new ChronologerException(ChronologerException.unableToReadFile());
+        }
+        if (restoredVersion == null) {
+            throw new ChronologerException(ChronologerException.versionNotFound());
+        }
+        if (restoredVersion.isEmpty()) {
+            return currentVersion;
+        }
+        UiMessageHandler.outputMessage("Restored from state " + name);
+        return restoredVersion;
+    }
+
+    /**
+     * Lists the stored versions without reading any of them.
+     */
+    public ArrayList<VersionStore.Version> listVersions() throws ChronologerException {
+        try {
+            importLegacyVersions();
+            return versionStore.listVersions();
+        } catch (IOException e) {
+            throw new ChronologerException(ChronologerException.unableToReadFile());
+        }
+    }
+
+    private void importLegacyVersions() throws IOException, ChronologerException {
+        for (int i = 0; i < legacyVersionFiles.length; i++) {
+            File file = legacyVersionFiles[i];
+            String name = String.valueOf(i + 1);
+            if (file.length() > 0 && !versionStore.hasVersion(name)) {
+                ArrayList<Task> listOfTasks = new Storage(file).loadFile(file).getTasks();
+                versionStore.store(name, PersistentTaskList.ofTasks(listOfTasks));
             }
-            break;
-        default:
-            UiMessageHandler.outputMessage("Please pick a valid state from 1 - 3");
         }
-        return currentVersion;
+        legacyVersionFiles = new File[0];
     }
 
+    //@@author fauzt
     /**
-     * Stores the current state.
+     * Stores the current state. Each state is an immutable snapshot that shares every unchanged task record
+     * with the previous one, so that the cost of a state grows with the size of the change rather than of the
+     * list.
      */
     public void addState(ArrayList<Task> listToStore) {
-        chronologerUndoStack.push(SerializationUtils.clone(listToStore));
+        ArrayList<Integer> modifications = modificationsOf(listToStore);
+        if (!isMirrorSet) {
+            setMirror(listToStore, PersistentTaskList.ofTasks(listToStore), modifications);
+            return;
+        }
+
+        ChangedRange range = ChangedRange.between(liveTasks.size(), listToStore.size(),
+            (oldIndex, newIndex) -> isUnchanged(listToStore, modifications, newIndex, oldIndex));
+
+        ArrayList<TaskRecord> records = new ArrayList<>(range.getInsertedCount());
+        for (int i = range.getStart(); i < range.getNewEnd(); i++) {
+            records.add(TaskRecord.of(listToStore.get(i)));
+        }
+        PersistentTaskList state = currentState.splice(range.getStart(), range.getRemovedCount(), records);
+        chronologerUndoStack.push(new StateChange(range.getStart(), currentState, range.getRemovedCount(), state,
+            records.size()));
+        if (chronologerUndoStack.size() > MAX_HISTORY) {
+            chronologerUndoStack.removeLast();
+        }
+        chronologerRedoStack.clear();
+
+        liveTasks = new ArrayList<>(listToStore);
+        liveModifications = modifications;
+        currentState = state;
     }
 
     /**
      * Performs a undo to change to the previous state.
      */
     public ArrayList<Task> undo() throws ChronologerException {
-        ArrayList<Task> toReturn;
         if (checkUndoSizeInvalid()) {
             throw new ChronologerException(ChronologerException.undoLimitHit());
-        } else {
-            chronologerRedoStack.push(chronologerUndoStack.pop());
-            toReturn = (ArrayList<Task>) chronologerUndoStack.peek();
         }
-        return (SerializationUtils.clone(toReturn));
+        StateChange change = chronologerUndoStack.pop();
+        chronologerRedoStack.push(change);
+        return apply(change.start, change.afterCount, change.before, change.beforeCount);
     }
 
     /**
      * Performs a redo to change to a previous state that was undone.
      */
     public ArrayList<Task> redo() throws ChronologerException {
-        ArrayList<Task> toReturn;
         if (checkRedoSizeInvalid()) {
             throw new ChronologerException(ChronologerException.redoLimitHit());
-        } else {
-            toReturn = (ArrayList<Task>) chronologerRedoStack.pop();
-            chronologerUndoStack.push(SerializationUtils.clone(toReturn));
         }
-        return (SerializationUtils.clone(toReturn));
+        StateChange change = chronologerRedoStack.pop();
+        chronologerUndoStack.push(change);
+        return apply(change.start, change.beforeCount, change.after, change.afterCount);
+    }
+
+    /**
+     * Moves to the given state by recreating only the tasks in its changed range. Tasks outside the range
+     * are handed back as they are, since they are identical in both states.
+     *
+     * @return A new list holding the resulting state
+     */
+    private ArrayList<Task> apply(int start, int removedCount, PersistentTaskList state, int insertedCount) {
+        ArrayList<Task> copies = new ArrayList<>(insertedCount);
+        ArrayList<Integer> copyModifications = new ArrayList<>(insertedCount);
+        for (int i = start; i < start + insertedCount; i++) {
+            Task copy = state.get(i).toTask();
+            copies.add(copy);
+            copyModifications.add(copy.getModificationCount());
+        }
+        splice(liveTasks, start, removedCount, copies);
+        splice(liveModifications, start, removedCount, copyModifications);
+        currentState = state;
+        return new ArrayList<>(liveTasks);
+    }
+
+    private boolean isUnchanged(ArrayList<Task> listToStore, ArrayList<Integer> modifications, int index,
+                                int mirrorIndex) {
+        return listToStore.get(index) == liveTasks.get(mirrorIndex)
+            && modifications.get(index).equals(liveModifications.get(mirrorIndex));
+    }
+
+    private void setMirror(ArrayList<Task> tasks, PersistentTaskList state, ArrayList<Integer> modifications) {
+        liveTasks = new ArrayList<>(tasks);
+        currentState = state;
+        liveModifications = modifications;
+        isMirrorSet = true;
+    }
+
+    private static ArrayList<Integer> modificationsOf(ArrayList<Task> tasks) {
+        ArrayList<Integer> modifications = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            modifications.add(task.getModificationCount());
+        }
+        return modifications;
+    }
+
+    private static <T> void splice(ArrayList<T> list, int start, int removedCount, List<T> inserted) {
+        list.subList(start, start + removedCount).clear();
+        list.addAll(start, inserted);
+    }
+
+    /**
+     * The difference between two successive states, holding both snapshots and the range of records that
+     * differs between them.
+     */
+    private static class StateChange implements Serializable {
+        private final int start;
+        private final PersistentTaskList before;
+        private final int beforeCount;
+        private final PersistentTaskList after;
+        private final int afterCount;
+
+        StateChange(int start, PersistentTaskList before, int beforeCount, PersistentTaskList after,
+                    int afterCount) {
+            this.start = start;
+            this.before = before;
+            this.beforeCount = beforeCount;
+            this.after = after;
+            this.afterCount = afterCount;
+        }
     }
+    //@@author
 
     /**
      * Function to determine if a redo can be performed.
@@ -135,6 +266,6 @@ public class ChronologerStateList implements Serializable {
      * Function to determine if a undo can be performed.
      */
     private boolean checkUndoSizeInvalid() {
-        return chronologerUndoStack.size() <= 1;
+        return chronologerUndoStack.isEmpty();
     }
 }
@@ -0,0 +1,23 @@
+package chronologer.storage;
+
+//@@author fauzt
+/**
+ * This enumeration defines how eagerly Storage forces saved data onto the disk.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public enum DurabilityPolicy {
+    /**
+     * Every save is forced to disk before it returns.
+     */
+    ALWAYS,
+    /**
+     * Saves are forced to disk together at a fixed interval, so a system crash loses at most one interval.
+     */
+    GROUP_COMMIT,
+    /**
+     * Saves are left to the operating system to write back.
+     */
+    NEVER
+}
@@ -2,20 +2,29 @@ package chronologer.storage;
 
 import chronologer.exception.ChronologerException;
 import chronologer.exception.MyLogger;
+import chronologer.task.Availability;
+import chronologer.task.PersistentTaskList;
 import chronologer.task.Task;
 import chronologer.task.TaskList;
 import chronologer.ui.UiMessageHandler;
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
 
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Reads and writes to persistent storage in Json format.
@@ -26,10 +35,27 @@ import java.util.ArrayList;
 public class Storage {
 
     private File file;
-    private FileOutputStream fileOutputStream;
     private BufferedReader bufferedReader;
     private static final String LOG_NAME = "StorageErrors";
+    private static final int COMPACTION_THRESHOLD = 200;
+    private static final long COMPACTION_PERIOD_MINUTES = 5;
+    private static final long DEFAULT_GROUP_COMMIT_MILLIS = 1000;
+    private static final Duration DEFAULT_ARCHIVE_AGE = Duration.ofDays(30);
     private MyLogger logger = new MyLogger(this.getClass().getName(), LOG_NAME);
+    private TaskJournal journal;
+    private ScheduledExecutorService compactor;
+    private boolean isBinary;
+    private final Object saveLock = new Object();
+    private volatile Thread saveWriter;
+    private PersistentTaskList pendingSave;
+    private boolean isSaving;
+    private boolean isSaveFailed;
+    private volatile DurabilityPolicy durabilityPolicy = DurabilityPolicy.NEVER;
+    private ScheduledExecutorService committer;
+    private final AtomicBoolean hasUncommittedWrites = new AtomicBoolean();
+    private TaskArchive archive;
+    private AvailabilityStore availabilityStore;
+    private Duration archiveAge = DEFAULT_ARCHIVE_AGE;
 
     /**
      * This Storage constructor is used to function is used to assign the different
@@ -40,10 +66,54 @@ public class Storage {
     public Storage(File file) {
         this.file = file;
         this.file.getParentFile().mkdirs();
+        this.archive = new TaskArchive(file);
+        this.availabilityStore = new AvailabilityStore(file);
     }
 
+    //@@author fauzt
     /**
-     * Save updates made to the TaskList to the persistent storage in Json form.
+     * Creates a Storage that can persist changes to an append-only journal instead of rewriting the whole
+     * file on every save. The journal is folded back into the file by a background compactor.
+     *
+     * @param file        This parameter holds the file to write to.
+     * @param isJournaled True if saves should be appended to the journal of the file.
+     */
+    public Storage(File file, boolean isJournaled) {
+        this(file);
+        if (isJournaled) {
+            this.journal = new TaskJournal(file);
+            this.compactor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "StorageCompactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+            compactor.scheduleWithFixedDelay(journal::compactQuietly, COMPACTION_PERIOD_MINUTES,
+                COMPACTION_PERIOD_MINUTES, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * Folds all journaled changes into the Json file immediately.
+     *
+     * @throws ChronologerException If the file or its journal cannot be rewritten.
+     */
+    public void compactJournal() throws ChronologerException {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.compact();
+        } catch (IOException e) {
+            logger.writeLog(e.toString(), this.getClass().getName());
+            throw new ChronologerException(ChronologerException.unableToWriteFile());
+        }
+    }
+    //@@author
+
+    /**
+     * Save updates made to the TaskList to the persistent storage in Json form. The file is replaced
+     * atomically, so a crash during a save leaves the previous contents intact. Every task is captured
+     * again, so a list held by a TaskList is better saved through {@link #saveFile(TaskList)}.
      *
      * @param listOfTasks This parameter holds the updated TaskList of the user and
      *                    used to save the updated TaskList.
@@ -51,21 +121,205 @@ public class Storage {
      *                              given location to save to.
      */
     public void saveFile(ArrayList<Task> listOfTasks) throws ChronologerException {
+        saveState(PersistentTaskList.ofTasks(listOfTasks));
+    }
+
+    //@@author fauzt
+    /**
+     * Saves the task list through its snapshot, which the task list keeps up to date as it changes, so that
+     * a save only costs as much as the tasks edited since the last one.
+     *
+     * @param tasks The task list to save.
+     * @throws ChronologerException If the file cannot be written.
+     */
+    public void saveFile(TaskList tasks) throws ChronologerException {
+        saveState(tasks.snapshot());
+    }
+
+    private void saveState(PersistentTaskList state) throws ChronologerException {
+        if (saveWriter != null) {
+            enqueueSave(state);
+            return;
+        }
         try {
-            setOutputStreams();
-            GsonBuilder builder = new GsonBuilder();
-            Gson gson = builder.create();
-            String json = gson.toJson(listOfTasks);
-            fileOutputStream.write(json.getBytes());
-            fileOutputStream.close();
+            writeFile(state);
         } catch (IOException e) {
             logger.writeLog(e.toString(), this.getClass().getName());
             throw new ChronologerException(ChronologerException.unableToWriteFile());
         }
     }
+    //@@author
+
+    //@@author fauzt
+    /**
+     * Moves all further saves onto a background writer. A save then only hands over the immutable snapshot of
+     * the tasks and returns, and saves requested while a write is in progress are coalesced into a single write
+     * of the latest snapshot. The writer never reads the live tasks, so they may be changed while it writes.
+     * Call {@link #flush()} to wait until everything requested has been written.
+     */
+    public void startBackgroundSaves() {
+        synchronized (saveLock) {
+            if (saveWriter != null) {
+                return;
+            }
+            saveWriter = new Thread(this::writePendingSaves, "StorageWriter");
+            saveWriter.setDaemon(true);
+            saveWriter.start();
+        }
+    }
+
+    /**
+     * Blocks until every save requested so far has been written to disk.
+     *
+     * @throws ChronologerException If a background write failed since the last flush.
+     */
+    public void flush() throws ChronologerException {
+        synchronized (saveLock) {
+            boolean isInterrupted = false;
+            while (pendingSave != null || isSaving) {
+                try {
+                    saveLock.wait();
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+            throwFailedSave();
+        }
+        if (durabilityPolicy == DurabilityPolicy.GROUP_COMMIT) {
+            commitQuietly();
+        }
+    }
+
+    /**
+     * Sets how eagerly saves are forced onto the disk, committing grouped saves every second.
+     *
+     * @param policy The durability policy to follow.
+     */
+    public void setDurabilityPolicy(DurabilityPolicy policy) {
+        setDurabilityPolicy(policy, DEFAULT_GROUP_COMMIT_MILLIS);
+    }
 
     /**
-     * Loads the task list stored in the Json file.
+     * Sets how eagerly saves are forced onto the disk.
+     *
+     * @param policy            The durability policy to follow.
+     * @param groupCommitMillis The interval between forced writes under the group commit policy.
+     */
+    public synchronized void setDurabilityPolicy(DurabilityPolicy policy, long groupCommitMillis) {
+        if (committer != null) {
+            committer.shutdown();
+            committer = null;
+            commitQuietly();
+        }
+        durabilityPolicy = policy;
+        if (policy == DurabilityPolicy.GROUP_COMMIT) {
+            committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "StorageCommitter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            committer.scheduleWithFixedDelay(this::commitQuietly, groupCommitMillis, groupCommitMillis,
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Forces the saves written since the last commit onto the disk.
+     */
+    private void commitQuietly() {
+        if (!hasUncommittedWrites.getAndSet(false)) {
+            return;
+        }
+        try {
+            if (journal != null) {
+                journal.force();
+            } else {
+                AtomicFileWriter.force(file);
+            }
+        } catch (IOException e) {
+            hasUncommittedWrites.set(true);
+            logger.writeLog(e.toString(), this.getClass().getName());
+        }
+    }
+
+    private void enqueueSave(PersistentTaskList state) throws ChronologerException {
+        synchronized (saveLock) {
+            pendingSave = state;
+            saveLock.notifyAll();
+            throwFailedSave();
+        }
+    }
+
+    private void throwFailedSave() throws ChronologerException {
+        if (isSaveFailed) {
+            isSaveFailed = false;
+            throw new ChronologerException(ChronologerException.unableToWriteFile());
+        }
+    }
+
+    private void writePendingSaves() {
+        while (true) {
+            PersistentTaskList state;
+            synchronized (saveLock) {
+                while (pendingSave == null) {
+                    try {
+                        saveLock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                state = pendingSave;
+                pendingSave = null;
+                isSaving = true;
+            }
+            try {
+                writeFile(state);
+            } catch (IOException | RuntimeException e) {
+                logger.writeLog(e.toString(), this.getClass().getName());
+                synchronized (saveLock) {
+                    isSaveFailed = true;
+                }
+            } finally {
+                synchronized (saveLock) {
+                    isSaving = false;
+                    saveLock.notifyAll();
+                }
+            }
+        }
+    }
+    //@@author
+
+    private void writeFile(PersistentTaskList state) throws IOException {
+        boolean isForced = durabilityPolicy == DurabilityPolicy.ALWAYS;
+        if (journal != null) {
+            appendToJournal(state, isForced);
+        } else if (isBinary) {
+            AtomicFileWriter.write(file, BinarySnapshot.encode(state.toTasks()), isForced);
+        } else {
+            ArrayList<Task> listOfTasks = state.toTasks();
+            AtomicFileWriter.write(file, outputStream -> writeJson(listOfTasks, outputStream), isForced);
+        }
+        if (!isForced) {
+            hasUncommittedWrites.set(true);
+        }
+    }
+
+    private void writeJson(ArrayList<Task> listOfTasks, OutputStream outputStream) throws IOException {
+        Writer writer = new OutputStreamWriter(outputStream);
+        try {
+            TaskTypeAdapter.GSON.toJson(listOfTasks, writer);
+        } catch (JsonIOException e) {
+            throw new IOException(e);
+        }
+        writer.flush();
+    }
+
+    /**
+     * Loads the task list stored in the Json file. A file converted to a binary snapshot is detected by its
+     * header, read through a memory mapping, and kept in binary form when saved again.
      *
      * @param file This parameter is passed as to be able to write to the file.
      * @throws ChronologerException This exception is thrown for any unexpected issues such
@@ -73,19 +327,18 @@ public class Storage {
      *                              class in not found.
      */
     public TaskList loadFile(File file) throws ChronologerException {
+        if (journal != null && file.equals(this.file)) {
+            return loadFromJournal();
+        }
         try {
-            setInputStreams(file);
-            StringBuilder builder = new StringBuilder();
-            String line;
-            while ((line = bufferedReader.readLine()) != null) {
-                builder.append(line);
+            if (BinarySnapshot.isSnapshot(file)) {
+                isBinary = isBinary || file.equals(this.file);
+                return new TaskList(BinarySnapshot.read(file));
             }
-            String json = builder.toString();
-            Gson gson = new GsonBuilder().registerTypeAdapter(TaskList.class, new TaskListAdapter())
-                .create();
-            TaskList taskList = gson.fromJson(json, TaskList.class);
+            setInputStreams(file);
+            ArrayList<Task> listOfTasks = TaskListReader.readTasks(bufferedReader);
             bufferedReader.close();
-            return taskList;
+            return new TaskList(listOfTasks);
         } catch (FileNotFoundException e) {
             logger.writeLog(e.toString(), this.getClass().getName());
             throw new ChronologerException(ChronologerException.fileDoesNotExist());
@@ -95,9 +348,120 @@ public class Storage {
         }
     }
 
-    private void setOutputStreams() throws IOException {
-        this.fileOutputStream = new FileOutputStream(file);
+    //@@author fauzt
+    private void appendToJournal(PersistentTaskList state, boolean isForced) throws IOException {
+        journal.record(state, isForced);
+        if (journal.getRecordCount() >= COMPACTION_THRESHOLD) {
+            compactor.execute(journal::compactQuietly);
+        }
+    }
+
+    private TaskList loadFromJournal() throws ChronologerException {
+        ArrayList<Task> listOfTasks;
+        try {
+            listOfTasks = journal.load();
+        } catch (IOException e) {
+            logger.writeLog(e.toString(), this.getClass().getName());
+            throw new ChronologerException(ChronologerException.unableToReadFile());
+        }
+        if (listOfTasks == null) {
+            throw new ChronologerException(ChronologerException.fileDoesNotExist());
+        }
+        TaskList tasks = new TaskList(listOfTasks);
+        journal.remember(tasks.snapshot());
+        return tasks;
+    }
+    //@@author
+
+    //@@author fauzt
+    /**
+     * Sets how long after its last date a task that is done, or that has ended, is moved to the archive.
+     *
+     * @param archiveAge The age after which tasks are archived.
+     */
+    public void setArchiveAge(Duration archiveAge) {
+        this.archiveAge = archiveAge;
+    }
+
+    /**
+     * Moves the tasks that are old enough out of the task list and into the compressed archive, so that they
+     * no longer take part in any scan of the task list. The archive is written before the remaining tasks are
+     * saved, so a crash in between can at worst leave a task in both.
+     *
+     * @param tasks The task list to archive tasks from.
+     * @return The number of tasks archived.
+     * @throws ChronologerException If the archive or the file cannot be written.
+     */
+    public int archiveTasks(TaskList tasks) throws ChronologerException {
+        LocalDateTime cutoff = LocalDateTime.now().minus(archiveAge);
+        ArrayList<Task> remainingTasks = new ArrayList<>();
+        ArrayList<Task> archivedTasks = new ArrayList<>();
+        for (Task task : tasks.getTasks()) {
+            if (TaskArchive.isArchivable(task, cutoff)) {
+                archivedTasks.add(task);
+            } else {
+                remainingTasks.add(task);
+            }
+        }
+        if (archivedTasks.isEmpty()) {
+            return 0;
+        }
+        try {
+            archive.append(archivedTasks);
+        } catch (IOException e) {
+            logger.writeLog(e.toString(), this.getClass().getName());
+            throw new ChronologerException(ChronologerException.unableToWriteFile());
+        }
+        tasks.updateListOfTasks(remainingTasks);
+        saveFile(tasks);
+        return archivedTasks.size();
+    }
+
+    /**
+     * Reads the archived tasks. The archive is only read on the first call.
+     *
+     * @return The archived tasks.
+     * @throws ChronologerException If the archive cannot be read.
+     */
+    public ArrayList<Task> loadArchive() throws ChronologerException {
+        try {
+            return archive.load();
+        } catch (IOException e) {
+            logger.writeLog(e.toString(), this.getClass().getName());
+            throw new ChronologerException(ChronologerException.unableToReadFile());
+        }
+    }
+
+    /**
+     * Reads the hours the user is available, stored beside the task file.
+     *
+     * @return The stored availability, or one without any limit if none was stored.
+     * @throws ChronologerException If the availability cannot be read.
+     */
+    public Availability loadAvailability() throws ChronologerException {
+        try {
+            return availabilityStore.load();
+        } catch (IOException e) {
+            logger.writeLog(e.toString(), this.getClass().getName());
+            throw new ChronologerException(ChronologerException.unableToReadFile());
+        }
+    }
+
+    /**
+     * Stores the hours the user is available beside the task file.
+     *
+     * @param availability The availability to store.
+     * @throws ChronologerException If the availability cannot be written.
+     */
+    public void saveAvailability(Availability availability) throws ChronologerException {
+        try {
+            availabilityStore.save(availability);
+        } catch (IOException e) {
+            logger.writeLog(e.toString(), this.getClass().getName());
+            throw new ChronologerException(ChronologerException.unableToWriteFile());
+        }
     }
+    //@@author
 
     private void setInputStreams(File file) throws IOException {
         FileInputStream fileInputStream = new FileInputStream(file);
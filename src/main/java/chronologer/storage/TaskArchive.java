@@ -0,0 +1,102 @@
+package chronologer.storage;
+
+import chronologer.task.Task;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+//@@author fauzt
+/**
+ * Cold segment holding the tasks that are done or long over. Each archival appends one Gzip member holding a
+ * Json array of the archived tasks, so the tasks already archived are copied as they are and never decompressed
+ * again. The segment is only read when a command asks for the archived tasks.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class TaskArchive {
+
+    private static final String ARCHIVE_SUFFIX = ".archive.gz";
+
+    private final File file;
+    private ArrayList<Task> archivedTasks;
+
+    TaskArchive(File file) {
+        this.file = new File(file.getPath() + ARCHIVE_SUFFIX);
+    }
+
+    /**
+     * Checks whether a task belongs in the archive, that is whether it is dated, its last date is before the
+     * cut-off, and it is either done or a period of time that has simply passed.
+     */
+    static boolean isArchivable(Task task, LocalDateTime cutoff) {
+        LocalDateTime lastDate = task.getEndDate() != null ? task.getEndDate() : task.getStartDate();
+        if (lastDate == null || !lastDate.isBefore(cutoff)) {
+            return false;
+        }
+        return task.isDone() || task.getEndDate() != null;
+    }
+
+    /**
+     * Adds the tasks to the archive. The file is replaced atomically, so a crash leaves either the old or the
+     * new archive.
+     *
+     * @param listOfTasks The tasks to archive
+     * @throws IOException If the archive cannot be written
+     */
+    void append(List<Task> listOfTasks) throws IOException {
+        AtomicFileWriter.write(file, outputStream -> {
+            if (file.exists()) {
+                Files.copy(file.toPath(), outputStream);
+            }
+            GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream);
+            Writer writer = new OutputStreamWriter(gzipStream, StandardCharsets.UTF_8);
+            TaskTypeAdapter.GSON.toJson(listOfTasks, writer);
+            writer.flush();
+            gzipStream.finish();
+        }, true);
+        if (archivedTasks != null) {
+            archivedTasks.addAll(listOfTasks);
+        }
+    }
+
+    /**
+     * Reads every archived task the first time it is called and keeps them for later calls.
+     *
+     * @return The archived tasks, oldest archival first
+     * @throws IOException If the archive cannot be read
+     */
+    ArrayList<Task> load() throws IOException {
+        if (archivedTasks != null) {
+            return archivedTasks;
+        }
+        ArrayList<Task> loadedTasks = new ArrayList<>();
+        if (file.exists()) {
+            try (JsonReader reader = new JsonReader(new InputStreamReader(new GZIPInputStream(
+                new BufferedInputStream(new FileInputStream(file))), StandardCharsets.UTF_8))) {
+                reader.setLenient(true);
+                while (reader.peek() != JsonToken.END_DOCUMENT) {
+                    loadedTasks.addAll(TaskListReader.readTaskArray(reader));
+                }
+            } catch (IllegalStateException | NumberFormatException e) {
+                throw new IOException(e);
+            }
+        }
+        archivedTasks = loadedTasks;
+        return archivedTasks;
+    }
+}
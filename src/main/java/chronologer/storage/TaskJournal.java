@@ -0,0 +1,490 @@
+package chronologer.storage;
+
+import chronologer.exception.MyLogger;
+import chronologer.task.ChangedRange;
+import chronologer.task.PersistentTaskList;
+import chronologer.task.Task;
+import chronologer.task.TaskRecord;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.zip.CRC32;
+
+//@@author fauzt
+/**
+ * Append-only journal holding the changes made to the task list since its snapshot file was last written.
+ * The first line names the checksum of the snapshot the journal applies to, every following line holds a
+ * checksummed change record. A background compaction folds the records back into the snapshot.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class TaskJournal {
+
+    private static final String LOG_NAME = "StorageErrors";
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String NEXT_JOURNAL_SUFFIX = ".journal.next";
+    private static final String SNAPSHOT_SUFFIX = ".snapshot";
+    private static final String HEADER_PREFIX = "BASE";
+    private static final String SEPARATOR = "\t";
+    private static final String LINE_END = "\n";
+    private static final int RESET_SLACK = 16;
+
+    private static final String OPERATION = "op";
+    private static final String INDEX = "index";
+    private static final String TASK = "task";
+    private static final String TASKS = "tasks";
+    private static final String ADD = "ADD";
+    private static final String REMOVE = "REMOVE";
+    private static final String UPDATE = "UPDATE";
+    private static final String RESET = "RESET";
+
+    private final File snapshotFile;
+    private final File journalFile;
+    private final File nextJournalFile;
+    private final File tempSnapshotFile;
+    private final Gson gson = TaskTypeAdapter.GSON;
+    private final Object compactionLock = new Object();
+    private MyLogger logger = new MyLogger(this.getClass().getName(), LOG_NAME);
+
+    private PersistentTaskList persistedState = PersistentTaskList.empty();
+    private boolean isMirrorTrusted = false;
+    private boolean isJournalOpen = false;
+    private long journalLength;
+    private int recordCount;
+
+    /**
+     * Creates the journal that belongs to the given snapshot file.
+     *
+     * @param snapshotFile The file holding the full task list in Json form
+     */
+    TaskJournal(File snapshotFile) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = new File(snapshotFile.getPath() + JOURNAL_SUFFIX);
+        this.nextJournalFile = new File(snapshotFile.getPath() + NEXT_JOURNAL_SUFFIX);
+        this.tempSnapshotFile = new File(snapshotFile.getPath() + SNAPSHOT_SUFFIX);
+    }
+
+    /**
+     * Appends the records needed to turn the last persisted list into the given snapshot of the list.
+     *
+     * @param state    The snapshot of the current list of tasks
+     * @param isForced True if the records must be on disk before this returns
+     * @throws IOException If the journal cannot be written
+     */
+    synchronized void record(PersistentTaskList state, boolean isForced) throws IOException {
+        if (!isJournalOpen) {
+            startJournal(checksum(readSnapshot()));
+        }
+        ArrayList<String> records = diff(state);
+        if (records.isEmpty()) {
+            return;
+        }
+        StringBuilder lines = new StringBuilder();
+        for (String record : records) {
+            lines.append(Long.toHexString(checksum(record.getBytes(StandardCharsets.UTF_8))))
+                .append(SEPARATOR).append(record).append(LINE_END);
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        try (FileOutputStream outputStream = new FileOutputStream(journalFile, true)) {
+            outputStream.write(bytes);
+            if (isForced) {
+                outputStream.getChannel().force(false);
+            }
+        }
+        journalLength += bytes.length;
+        recordCount += records.size();
+        remember(state);
+    }
+
+    /**
+     * Rebuilds the task list from the snapshot file and the records that apply to it. The next record resets
+     * the whole list unless the snapshot of the loaded list is given to {@link #remember(PersistentTaskList)}.
+     *
+     * @return The persisted task list, or null if neither the snapshot nor a journal exists
+     * @throws IOException If the files cannot be read
+     */
+    synchronized ArrayList<Task> load() throws IOException {
+        ByteBuffer snapshotBuffer = readSnapshot();
+        long snapshotChecksum = checksum(snapshotBuffer);
+        File validJournal = findJournalFor(snapshotChecksum);
+        if (!snapshotBuffer.hasRemaining() && validJournal == null) {
+            return null;
+        }
+
+        ArrayList<Task> listOfTasks = parseSnapshot(snapshotBuffer);
+        if (validJournal == null) {
+            startJournal(snapshotChecksum);
+        } else {
+            byte[] journalBytes = Files.readAllBytes(validJournal.toPath());
+            int validLength = replay(journalBytes, listOfTasks);
+            if (!validJournal.equals(journalFile)) {
+                Files.move(validJournal.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (RandomAccessFile journal = new RandomAccessFile(journalFile, "rw")) {
+                journal.setLength(validLength);
+            }
+            journalLength = validLength;
+            isJournalOpen = true;
+        }
+        nextJournalFile.delete();
+        isMirrorTrusted = false;
+        return listOfTasks;
+    }
+
+    /**
+     * Folds every record currently in the journal into a new snapshot file. Records appended while the
+     * snapshot is being built are carried over into the new journal.
+     *
+     * @throws IOException If the snapshot or journal cannot be rewritten
+     */
+    void compact() throws IOException {
+        synchronized (compactionLock) {
+            long foldedLength;
+            synchronized (this) {
+                if (!isJournalOpen || recordCount == 0) {
+                    return;
+                }
+                foldedLength = journalLength;
+            }
+
+            ByteBuffer snapshotBuffer = readSnapshot();
+            byte[] foldedBytes = readJournal(0, foldedLength);
+            ArrayList<Task> listOfTasks = parseSnapshot(snapshotBuffer);
+            int foldedRecords = countRecords(foldedBytes);
+            replay(foldedBytes, listOfTasks);
+            byte[] newSnapshotBytes = BinarySnapshot.isSnapshot(snapshotBuffer) ? BinarySnapshot.encode(listOfTasks)
+                : gson.toJson(listOfTasks).getBytes(StandardCharsets.UTF_8);
+            writeForced(tempSnapshotFile, newSnapshotBytes);
+
+            synchronized (this) {
+                byte[] tailBytes = readJournal(foldedLength, journalLength);
+                byte[] header = header(checksum(newSnapshotBytes));
+                writeForced(nextJournalFile, header, tailBytes);
+                Files.move(tempSnapshotFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+                Files.move(nextJournalFile.toPath(), journalFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+                AtomicFileWriter.forceDirectory(journalFile);
+                journalLength = header.length + tailBytes.length;
+                recordCount -= foldedRecords;
+            }
+        }
+    }
+
+    /**
+     * Compacts the journal, logging instead of throwing so that it can run on a background thread.
+     */
+    void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.writeLog(e.toString(), this.getClass().getName());
+        }
+    }
+
+    /**
+     * Forces every record appended so far onto the disk.
+     *
+     * @throws IOException If the journal cannot be opened
+     */
+    synchronized void force() throws IOException {
+        AtomicFileWriter.force(journalFile);
+    }
+
+    synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    private static void writeForced(File file, byte[]... parts) throws IOException {
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            for (byte[] part : parts) {
+                outputStream.write(part);
+            }
+            outputStream.getChannel().force(true);
+        }
+    }
+
+    private void startJournal(long snapshotChecksum) throws IOException {
+        byte[] header = header(snapshotChecksum);
+        try (FileOutputStream outputStream = new FileOutputStream(journalFile)) {
+            outputStream.write(header);
+        }
+        journalLength = header.length;
+        recordCount = 0;
+        isJournalOpen = true;
+    }
+
+    /**
+     * Finds the journal whose header matches the snapshot. The next journal is preferred as it only exists
+     * when a compaction was interrupted after the new snapshot was written.
+     */
+    private File findJournalFor(long snapshotChecksum) throws IOException {
+        if (hasMatchingHeader(nextJournalFile, snapshotChecksum)) {
+            return nextJournalFile;
+        }
+        if (hasMatchingHeader(journalFile, snapshotChecksum)) {
+            return journalFile;
+        }
+        return null;
+    }
+
+    private boolean hasMatchingHeader(File file, long snapshotChecksum) throws IOException {
+        if (!file.exists()) {
+            return false;
+        }
+        String contents = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        int headerEnd = contents.indexOf(LINE_END);
+        if (headerEnd < 0) {
+            return false;
+        }
+        return new String(header(snapshotChecksum), StandardCharsets.UTF_8)
+            .equals(contents.substring(0, headerEnd + 1));
+    }
+
+    /**
+     * Finds the records turning the persisted snapshot into the given one. Tasks are matched by id at the start
+     * and end of the list and a matched task is updated only if its record was replaced, which a snapshot only
+     * does for a task that changed.
+     */
+    private ArrayList<String> diff(PersistentTaskList state) {
+        ArrayList<String> records = new ArrayList<>();
+        if (!isMirrorTrusted) {
+            records.add(resetRecord(state.toTasks()));
+            return records;
+        }
+
+        PersistentTaskList persisted = persistedState;
+        int oldSize = persisted.size();
+        int newSize = state.size();
+        ChangedRange range = ChangedRange.between(oldSize, newSize,
+            (oldIndex, newIndex) -> persisted.get(oldIndex).getId() == state.get(newIndex).getId());
+
+        for (int i = range.getStart(); i < range.getOldEnd(); i++) {
+            records.add(indexRecord(REMOVE, range.getStart(), null));
+        }
+        for (int i = range.getStart(); i < range.getNewEnd(); i++) {
+            records.add(indexRecord(ADD, i, state.get(i).toTask()));
+        }
+        for (int i = 0; i < range.getStart(); i++) {
+            addUpdateIfReplaced(records, state, i, persisted.get(i));
+        }
+        for (int i = range.getNewEnd(); i < newSize; i++) {
+            addUpdateIfReplaced(records, state, i, persisted.get(i - newSize + oldSize));
+        }
+
+        if (records.size() * 2 > newSize + RESET_SLACK) {
+            records.clear();
+            records.add(resetRecord(state.toTasks()));
+        }
+        return records;
+    }
+
+    private void addUpdateIfReplaced(ArrayList<String> records, PersistentTaskList state, int index,
+                                     TaskRecord persistedRecord) {
+        TaskRecord record = state.get(index);
+        if (record != persistedRecord) {
+            records.add(indexRecord(UPDATE, index, record.toTask()));
+        }
+    }
+
+    private String indexRecord(String operation, int index, Task task) {
+        JsonObject record = new JsonObject();
+        record.addProperty(OPERATION, operation);
+        record.addProperty(INDEX, index);
+        if (task != null) {
+            record.add(TASK, gson.toJsonTree(task));
+        }
+        return gson.toJson(record);
+    }
+
+    private String resetRecord(ArrayList<Task> listOfTasks) {
+        JsonObject record = new JsonObject();
+        record.addProperty(OPERATION, RESET);
+        record.add(TASKS, gson.toJsonTree(listOfTasks));
+        return gson.toJson(record);
+    }
+
+    /**
+     * Trusts the given snapshot to hold what the journal has persisted, so that the next record only holds
+     * the changes made to it.
+     *
+     * @param state The snapshot of the list the journal was loaded into
+     */
+    synchronized void remember(PersistentTaskList state) {
+        persistedState = state;
+        isMirrorTrusted = true;
+    }
+
+    /**
+     * Applies the records of a journal to the list, stopping at the first torn or corrupted record.
+     *
+     * @return The length in bytes of the valid portion of the journal
+     */
+    private int replay(byte[] journalBytes, ArrayList<Task> listOfTasks) {
+        String contents = new String(journalBytes, StandardCharsets.UTF_8);
+        int lineStart = contents.indexOf(LINE_END) + 1;
+        int validLength = contents.substring(0, lineStart).getBytes(StandardCharsets.UTF_8).length;
+        int lineEnd;
+        while ((lineEnd = contents.indexOf(LINE_END, lineStart)) >= 0) {
+            String line = contents.substring(lineStart, lineEnd);
+            if (!applyRecord(line, listOfTasks)) {
+                break;
+            }
+            validLength += (line + LINE_END).getBytes(StandardCharsets.UTF_8).length;
+            lineStart = lineEnd + 1;
+        }
+        return validLength;
+    }
+
+    private boolean applyRecord(String line, ArrayList<Task> listOfTasks) {
+        String[] parts = line.split(SEPARATOR, 2);
+        if (parts.length != 2
+            || !parts[0].equals(Long.toHexString(checksum(parts[1].getBytes(StandardCharsets.UTF_8))))) {
+            return false;
+        }
+        try {
+            String operation = null;
+            int index = -1;
+            Task task = null;
+            ArrayList<Task> tasks = null;
+            JsonReader reader = new JsonReader(new StringReader(parts[1]));
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                case OPERATION:
+                    operation = reader.nextString();
+                    break;
+                case INDEX:
+                    index = reader.nextInt();
+                    break;
+                case TASK:
+                    task = TaskListReader.readTask(reader);
+                    break;
+                case TASKS:
+                    tasks = TaskListReader.readTaskArray(reader);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+                }
+            }
+            reader.endObject();
+            return apply(operation, index, task, tasks, listOfTasks);
+        } catch (IOException | IllegalStateException | NumberFormatException | IndexOutOfBoundsException e) {
+            logger.writeLog(e.toString(), this.getClass().getName());
+            return false;
+        }
+    }
+
+    private boolean apply(String operation, int index, Task task, ArrayList<Task> tasks,
+                          ArrayList<Task> listOfTasks) {
+        if (operation == null) {
+            return false;
+        }
+        switch (operation) {
+        case RESET:
+            if (tasks == null) {
+                return false;
+            }
+            listOfTasks.clear();
+            listOfTasks.addAll(tasks);
+            return true;
+        case ADD:
+            if (task != null) {
+                listOfTasks.add(index, task);
+            }
+            return true;
+        case REMOVE:
+            listOfTasks.remove(index);
+            return true;
+        case UPDATE:
+            if (task != null) {
+                listOfTasks.set(index, task);
+            }
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    private int countRecords(byte[] journalBytes) {
+        int lines = 0;
+        for (byte character : journalBytes) {
+            if (character == '\n') {
+                lines++;
+            }
+        }
+        return Math.max(0, lines - 1);
+    }
+
+    /**
+     * Decodes a binary snapshot straight from its mapping, while a Json snapshot is streamed from the file.
+     */
+    private ArrayList<Task> parseSnapshot(ByteBuffer snapshotBuffer) throws IOException {
+        if (!snapshotBuffer.hasRemaining()) {
+            return new ArrayList<>();
+        }
+        if (BinarySnapshot.isSnapshot(snapshotBuffer)) {
+            return BinarySnapshot.decode(snapshotBuffer.duplicate());
+        }
+        try (InputStreamReader reader = new InputStreamReader(new FileInputStream(snapshotFile),
+            StandardCharsets.UTF_8)) {
+            return TaskListReader.readTasks(reader);
+        }
+    }
+
+    /**
+     * Maps the snapshot file into memory, so that neither its checksum nor a binary snapshot needs a copy of the
+     * whole file on the heap.
+     */
+    private ByteBuffer readSnapshot() throws IOException {
+        if (!snapshotFile.exists()) {
+            return ByteBuffer.allocate(0);
+        }
+        try (FileChannel channel = FileChannel.open(snapshotFile.toPath(), StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private byte[] readJournal(long from, long to) throws IOException {
+        byte[] bytes = new byte[(int) (to - from)];
+        try (RandomAccessFile journal = new RandomAccessFile(journalFile, "r")) {
+            journal.seek(from);
+            journal.readFully(bytes);
+        }
+        return bytes;
+    }
+
+    private static byte[] header(long snapshotChecksum) {
+        return (HEADER_PREFIX + SEPARATOR + Long.toHexString(snapshotChecksum) + LINE_END)
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    private static long checksum(ByteBuffer buffer) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        return crc.getValue();
+    }
+}
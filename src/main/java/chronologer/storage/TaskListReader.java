@@ -0,0 +1,70 @@
+package chronologer.storage;
+
+import chronologer.task.Task;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Streams a Json task list into task objects one token at a time, so that loading never has to hold the
+ * whole file as a string or as a tree of Json elements.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class TaskListReader {
+
+    private static final TaskTypeAdapter ADAPTER = new TaskTypeAdapter();
+
+    /**
+     * Reads a Json array of tasks, skipping any task with an unknown type.
+     *
+     * @param reader The source of the Json array
+     * @return The tasks in the order they appear in the array
+     * @throws IOException If the source cannot be read or is not well-formed Json
+     */
+    public static ArrayList<Task> readTasks(Reader reader) throws IOException {
+        JsonReader jsonReader = new JsonReader(reader);
+        try {
+            return readTaskArray(jsonReader);
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException(e);
+        } finally {
+            jsonReader.close();
+        }
+    }
+
+    /**
+     * Reads a Json array of tasks from the current position of the reader.
+     *
+     * @param reader The reader positioned at the start of the array
+     * @return The tasks in the order they appear in the array
+     * @throws IOException If the array is not well-formed
+     */
+    static ArrayList<Task> readTaskArray(JsonReader reader) throws IOException {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            Task task = readTask(reader);
+            if (task != null) {
+                listOfTasks.add(task);
+            }
+        }
+        reader.endArray();
+        return listOfTasks;
+    }
+
+    /**
+     * Reads a single task object from the current position of the reader.
+     *
+     * @param reader The reader positioned at the start of the task object
+     * @return The task, or null if its type is not a known task type
+     * @throws IOException If the object is not well-formed
+     */
+    static Task readTask(JsonReader reader) throws IOException {
+        return ADAPTER.read(reader);
+    }
+}
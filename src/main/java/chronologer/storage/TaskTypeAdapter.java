@@ -0,0 +1,323 @@
+package chronologer.storage;
+
+import chronologer.task.Deadline;
+import chronologer.task.Event;
+import chronologer.task.Priority;
+import chronologer.task.Task;
+import chronologer.task.TaskKind;
+import chronologer.task.Todo;
+import chronologer.ui.UiMessageHandler;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+//@@author fauzt
+/**
+ * Hand-written Gson adapter for every task subclass, so that saving and loading never fall back to reflection.
+ * Dates are written as compact ISO strings, while the nested date objects of older save files are still read.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class TaskTypeAdapter extends TypeAdapter<Task> {
+
+    /**
+     * The Gson instance shared by the storage classes, with this adapter registered for all tasks.
+     */
+    public static final Gson GSON = new GsonBuilder()
+        .registerTypeHierarchyAdapter(Task.class, new TaskTypeAdapter()).create();
+
+    private static final String TYPE = "type";
+    private static final String DESCRIPTION = "description";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+    private static final String LOCATION = "location";
+    private static final String PRIORITY = "priority";
+    private static final String REMINDER = "reminder";
+    private static final String REMINDER_DATE = "reminderDate";
+    private static final String COMMENT = "comment";
+    private static final String IS_IGNORED = "isIgnored";
+    private static final String IS_DONE = "isDone";
+    private static final String MOD_CODE = "modCode";
+    private static final String DURATION = "duration";
+    private static final String ID = "id";
+
+    private static final int SHORT_DATE_TIME_LENGTH = 16;
+
+    private static final String JSON_ERROR = "OOPS!! There's an invalid task type detected in the save file" + ""
+        + "This task will be ignored.";
+
+    @Override
+    public void write(JsonWriter writer, Task task) throws IOException {
+        if (task == null) {
+            writer.nullValue();
+            return;
+        }
+        writer.beginObject();
+        writer.name(TYPE).value(task.getType());
+        writer.name(DESCRIPTION).value(task.getDescription());
+        writeDateTime(writer, START_DATE, task.getStartDate());
+        writeDateTime(writer, END_DATE, task.getEndDate());
+        writer.name(LOCATION).value(task.getLocation());
+        if (task.getPriority() != null) {
+            writer.name(PRIORITY).value(task.getPriority().name());
+        }
+        writeDateTime(writer, REMINDER, task.getReminderDate());
+        writer.name(COMMENT).value(task.getComment());
+        writer.name(IS_IGNORED).value(task.isIgnored());
+        writer.name(IS_DONE).value(task.isDone());
+        writer.name(MOD_CODE).value(task.getModCode());
+        if (task instanceof Todo) {
+            writer.name(DURATION).value(((Todo) task).duration);
+        }
+        writer.name(ID).value(task.getId());
+        writer.endObject();
+    }
+
+    /**
+     * Reads a single task object. The type field may appear anywhere in the object, so every field is read
+     * into a local first and the task subclass is only created once the object ends.
+     *
+     * @param reader The reader positioned at the start of the task object
+     * @return The task, or null if its type is not a known task type
+     * @throws IOException If the object is not well-formed
+     */
+    @Override
+    public Task read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        String type = null;
+        String description = "";
+        LocalDateTime startDate = null;
+        LocalDateTime endDate = null;
+        String location = "";
+        Priority priority = Priority.MEDIUM;
+        LocalDateTime reminderDate = null;
+        String comment = "";
+        boolean isIgnored = false;
+        boolean isDone = false;
+        String modCode = "";
+        int duration = 0;
+        long id = 0;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+            case TYPE:
+                type = reader.nextString();
+                break;
+            case DESCRIPTION:
+                description = reader.nextString();
+                break;
+            case START_DATE:
+                startDate = readDateTime(reader);
+                break;
+            case END_DATE:
+                endDate = readDateTime(reader);
+                break;
+            case LOCATION:
+                location = reader.nextString();
+                break;
+            case PRIORITY:
+                priority = readPriority(reader.nextString(), priority);
+                break;
+            case REMINDER:
+                reminderDate = readReminderDate(reader);
+                break;
+            case COMMENT:
+                comment = reader.nextString();
+                break;
+            case IS_IGNORED:
+                isIgnored = reader.nextBoolean();
+                break;
+            case IS_DONE:
+                isDone = reader.nextBoolean();
+                break;
+            case MOD_CODE:
+                modCode = reader.nextString();
+                break;
+            case DURATION:
+                duration = reader.nextInt();
+                break;
+            case ID:
+                id = reader.nextLong();
+                break;
+            default:
+                reader.skipValue();
+                break;
+            }
+        }
+        reader.endObject();
+
+        Task task = createTask(TaskKind.of(type), description, startDate, endDate, duration);
+        if (task == null) {
+            UiMessageHandler.outputMessage(JSON_ERROR);
+            return null;
+        }
+        task.setLocation(location);
+        task.setPriority(priority);
+        task.setComment(comment);
+        task.setIgnored(isIgnored);
+        task.setDone(isDone);
+        task.setModCode(modCode);
+        task.setReminderDate(reminderDate);
+        task.setId(id);
+        return task;
+    }
+
+    /**
+     * Creates the task subclass of the kind, or null if the type it was read from is not a known task type.
+     */
+    static Task createTask(TaskKind kind, String description, LocalDateTime startDate,
+                           LocalDateTime endDate, int duration) {
+        if (kind == null) {
+            return null;
+        }
+        Todo todo;
+        switch (kind) {
+        case DEADLINE:
+            return new Deadline(description, startDate);
+        case EVENT:
+            return new Event(description, startDate, endDate);
+        case TODO_PERIOD:
+            todo = new Todo(description, startDate, endDate);
+            break;
+        case TODO_DURATION:
+            todo = new Todo(description, duration);
+            break;
+        case TODO:
+            todo = new Todo(description);
+            break;
+        default:
+            return null;
+        }
+        todo.duration = duration;
+        return todo;
+    }
+
+    private static Priority readPriority(String name, Priority fallback) {
+        try {
+            return Priority.valueOf(name);
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    private static void writeDateTime(JsonWriter writer, String name, LocalDateTime dateTime) throws IOException {
+        if (dateTime != null) {
+            writer.name(name).value(dateTime.toString());
+        }
+    }
+
+    /**
+     * Reads a reminder, either as the date it triggers on or as the object older save files hold.
+     */
+    private static LocalDateTime readReminderDate(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.STRING) {
+            return readDateTime(reader);
+        }
+        LocalDateTime reminderDate = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (REMINDER_DATE.equals(name) && reader.peek() != JsonToken.NULL) {
+                reminderDate = readDateTime(reader);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return reminderDate;
+    }
+
+    /**
+     * Reads a date time written as an ISO string, or in the nested form Gson writes by reflection, that is a
+     * date object holding the year, month and day and a time object holding the hour, minute, second and nano.
+     */
+    private static LocalDateTime readDateTime(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.STRING) {
+            return parseDateTime(reader.nextString());
+        }
+        int[] date = {0, 1, 1};
+        int[] time = {0, 0, 0, 0};
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("date".equals(name)) {
+                readFields(reader, date, "year", "month", "day");
+            } else if ("time".equals(name)) {
+                readFields(reader, time, "hour", "minute", "second", "nano");
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return LocalDateTime.of(date[0], date[1], date[2], time[0], time[1], time[2], time[3]);
+    }
+
+    /**
+     * Parses the yyyy-MM-ddTHH:mm form written by this adapter directly, leaving any other ISO form to the
+     * slower general parser.
+     */
+    private static LocalDateTime parseDateTime(String text) throws IOException {
+        try {
+            if (text.length() == SHORT_DATE_TIME_LENGTH && text.charAt(4) == '-' && text.charAt(7) == '-'
+                && text.charAt(10) == 'T' && text.charAt(13) == ':') {
+                return LocalDateTime.of(digits(text, 0, 4), digits(text, 5, 7), digits(text, 8, 10),
+                    digits(text, 11, 13), digits(text, 14, 16));
+            }
+            return LocalDateTime.parse(text);
+        } catch (DateTimeException | NumberFormatException e) {
+            throw new IOException("Invalid date " + text, e);
+        }
+    }
+
+    private static int digits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException(text);
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static void readFields(JsonReader reader, int[] values, String... names) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            int position = indexOf(names, name);
+            if (position < 0) {
+                reader.skipValue();
+            } else {
+                values[position] = reader.nextInt();
+            }
+        }
+        reader.endObject();
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,323 @@
+package chronologer.storage;
+
+import chronologer.task.PersistentTaskList;
+import chronologer.task.Task;
+import chronologer.task.TaskRecord;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.WeakHashMap;
+
+//@@author fauzt
+/**
+ * Content-addressed store of named versions of the task list. Every task is kept once, as a chunk named by the
+ * SHA-256 hash of its Json form, so versions that share unchanged tasks also share their chunks on disk. A
+ * version is itself a chunk listing the hashes of its tasks in order, and a small index maps each version name
+ * to that chunk so that the versions can be listed without reading any of them.
+ *
+ * <p>Chunks are appended to a single pack file, each preceded by its hash and its length.</p>
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class VersionStore {
+
+    private static final String PACK_FILE = "chunks.pack";
+    private static final String INDEX_FILE = "versions.json";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_BYTES = 32;
+    private static final int CHUNK_HEADER_BYTES = HASH_BYTES + Integer.BYTES;
+
+    private static final Gson INDEX_GSON = new Gson();
+
+    private final File packFile;
+    private final File indexFile;
+    private LinkedHashMap<String, Version> versions;
+    private HashMap<ByteBuffer, ChunkLocation> chunks;
+    private long packLength;
+    private final WeakHashMap<TaskRecord, byte[]> recordHashes = new WeakHashMap<>();
+
+    /**
+     * Opens the store kept in the given directory, which is only created once a version is stored.
+     *
+     * @param directory The directory holding the store
+     */
+    public VersionStore(File directory) {
+        this.packFile = new File(directory, PACK_FILE);
+        this.indexFile = new File(directory, INDEX_FILE);
+    }
+
+    /**
+     * Lists the stored versions in the order they were stored, reading only the index.
+     *
+     * @return The stored versions
+     * @throws IOException If the index cannot be read
+     */
+    public ArrayList<Version> listVersions() throws IOException {
+        return new ArrayList<>(loadIndex().values());
+    }
+
+    public boolean hasVersion(String name) throws IOException {
+        return loadIndex().containsKey(name);
+    }
+
+    /**
+     * Stores the snapshot under the given name, replacing any version already stored under it. Only the tasks
+     * that no earlier version holds are written.
+     *
+     * @param name     The name of the version
+     * @param snapshot The tasks to store
+     * @throws IOException If the store cannot be written
+     */
+    public void store(String name, PersistentTaskList snapshot) throws IOException {
+        loadIndex();
+        loadChunks();
+        packFile.getParentFile().mkdirs();
+        ByteBuffer manifest = ByteBuffer.allocate(snapshot.size() * HASH_BYTES);
+        try (FileOutputStream outputStream = new FileOutputStream(packFile, true)) {
+            DataOutputStream dataStream = new DataOutputStream(new BufferedOutputStream(outputStream));
+            for (TaskRecord record : snapshot) {
+                byte[] hash = recordHashes.get(record);
+                byte[] json = null;
+                if (hash == null) {
+                    json = toJson(record);
+                    hash = hash(json);
+                    recordHashes.put(record, hash);
+                }
+                if (!chunks.containsKey(ByteBuffer.wrap(hash))) {
+                    appendChunk(dataStream, hash, json == null ? toJson(record) : json);
+                }
+                manifest.put(hash);
+            }
+            byte[] manifestHash = hash(manifest.array());
+            if (!chunks.containsKey(ByteBuffer.wrap(manifestHash))) {
+                appendChunk(dataStream, manifestHash, manifest.array());
+            }
+            dataStream.flush();
+            outputStream.getChannel().force(true);
+
+            versions.remove(name);
+            versions.put(name, new Version(name, LocalDateTime.now(), snapshot.size(), toHex(manifestHash)));
+            writeIndex();
+        } catch (IOException | RuntimeException e) {
+            versions = null;
+            chunks = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the version stored under the given name, reading its chunks exactly once.
+     *
+     * @param name The name of the version
+     * @return The tasks of the version, or null if no version is stored under the name
+     * @throws IOException If the store cannot be read or is corrupted
+     */
+    public ArrayList<Task> restore(String name) throws IOException {
+        Version version = loadIndex().get(name);
+        if (version == null) {
+            return null;
+        }
+        loadChunks();
+        try (FileChannel channel = FileChannel.open(packFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer pack = channel.map(FileChannel.MapMode.READ_ONLY, 0, packLength);
+            ByteBuffer manifest = readChunk(pack, fromHex(version.manifest));
+            ArrayList<Task> listOfTasks = new ArrayList<>(manifest.remaining() / HASH_BYTES);
+            byte[] hash = new byte[HASH_BYTES];
+            while (manifest.hasRemaining()) {
+                manifest.get(hash);
+                ByteBuffer chunk = readChunk(pack, hash);
+                String json = StandardCharsets.UTF_8.decode(chunk).toString();
+                Task task = TaskTypeAdapter.GSON.fromJson(json, Task.class);
+                if (task != null) {
+                    listOfTasks.add(task);
+                }
+            }
+            return listOfTasks;
+        } catch (BufferUnderflowException | IllegalArgumentException | JsonParseException e) {
+            throw new IOException("Corrupted version store", e);
+        }
+    }
+
+    private ByteBuffer readChunk(ByteBuffer pack, byte[] hash) throws IOException {
+        ChunkLocation location = chunks.get(ByteBuffer.wrap(hash));
+        if (location == null) {
+            throw new IOException("Missing chunk " + toHex(hash));
+        }
+        ByteBuffer chunk = pack.duplicate();
+        chunk.position((int) location.offset);
+        chunk.limit((int) location.offset + location.length);
+        return chunk.slice();
+    }
+
+    private void appendChunk(DataOutputStream dataStream, byte[] hash, byte[] contents) throws IOException {
+        dataStream.write(hash);
+        dataStream.writeInt(contents.length);
+        dataStream.write(contents);
+        chunks.put(ByteBuffer.wrap(hash), new ChunkLocation(packLength + CHUNK_HEADER_BYTES, contents.length));
+        packLength += CHUNK_HEADER_BYTES + contents.length;
+    }
+
+    private LinkedHashMap<String, Version> loadIndex() throws IOException {
+        if (versions != null) {
+            return versions;
+        }
+        LinkedHashMap<String, Version> loadedVersions = new LinkedHashMap<>();
+        if (indexFile.exists()) {
+            try (Reader reader = new FileReader(indexFile, StandardCharsets.UTF_8)) {
+                List<Version> storedVersions = INDEX_GSON.fromJson(reader, new TypeToken<List<Version>>() {
+                }.getType());
+                if (storedVersions != null) {
+                    for (Version version : storedVersions) {
+                        loadedVersions.put(version.name, version);
+                    }
+                }
+            } catch (JsonParseException e) {
+                throw new IOException("Corrupted version index", e);
+            }
+        }
+        versions = loadedVersions;
+        return versions;
+    }
+
+    private void writeIndex() throws IOException {
+        ArrayList<Version> storedVersions = new ArrayList<>(versions.values());
+        AtomicFileWriter.write(indexFile, outputStream -> {
+            Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+            INDEX_GSON.toJson(storedVersions, writer);
+            writer.flush();
+        }, true);
+    }
+
+    /**
+     * Finds every chunk in the pack file. A chunk left incomplete by a crash during a store is cut off, since no
+     * version in the index can refer to it.
+     */
+    private void loadChunks() throws IOException {
+        if (chunks != null) {
+            return;
+        }
+        HashMap<ByteBuffer, ChunkLocation> loadedChunks = new HashMap<>();
+        long position = 0;
+        if (packFile.exists()) {
+            long size = packFile.length();
+            try (DataInputStream dataStream = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(packFile)))) {
+                while (position + CHUNK_HEADER_BYTES <= size) {
+                    byte[] hash = new byte[HASH_BYTES];
+                    dataStream.readFully(hash);
+                    int length = dataStream.readInt();
+                    long offset = position + CHUNK_HEADER_BYTES;
+                    if (length < 0 || offset + length > size || dataStream.skipBytes(length) != length) {
+                        break;
+                    }
+                    loadedChunks.put(ByteBuffer.wrap(hash), new ChunkLocation(offset, length));
+                    position = offset + length;
+                }
+            }
+            if (position < size) {
+                try (FileChannel channel = FileChannel.open(packFile.toPath(), StandardOpenOption.WRITE)) {
+                    channel.truncate(position);
+                }
+            }
+        }
+        chunks = loadedChunks;
+        packLength = position;
+    }
+
+    private static byte[] toJson(TaskRecord record) {
+        return TaskTypeAdapter.GSON.toJson(record.toTask(), Task.class).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] hash(byte[] contents) {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(contents);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte value : bytes) {
+            builder.append(Character.forDigit((value >> 4) & 0xF, 16)).append(Character.forDigit(value & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    private static byte[] fromHex(String hex) {
+        if (hex == null || hex.length() != HASH_BYTES * 2) {
+            throw new IllegalArgumentException("Invalid hash " + hex);
+        }
+        byte[] bytes = new byte[HASH_BYTES];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return bytes;
+    }
+
+    /**
+     * The entry of a stored version in the index.
+     */
+    public static class Version {
+        private String name;
+        private String created;
+        private int taskCount;
+        private String manifest;
+
+        Version(String name, LocalDateTime created, int taskCount, String manifest) {
+            this.name = name;
+            this.created = created.toString();
+            this.taskCount = taskCount;
+            this.manifest = manifest;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public LocalDateTime getCreated() {
+            return LocalDateTime.parse(created);
+        }
+
+        public int getTaskCount() {
+            return taskCount;
+        }
+    }
+
+    private static class ChunkLocation {
+        private final long offset;
+        private final int length;
+
+        ChunkLocation(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
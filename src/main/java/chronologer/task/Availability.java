@@ -0,0 +1,261 @@
+package chronologer.task;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.TextStyle;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+//@@author fauzt
+/**
+ * Recurring hours in which the user is willing to work: the working hours of each day of the week, a sleep window
+ * taken out of every day and dates blocked entirely. The hours of each day of the week are kept as a few sorted
+ * minute-of-day intervals, so that a free period is cut down to them in time linear in the days it spans. An
+ * availability never changes once built and every change gives a new one.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public final class Availability {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final Availability ALWAYS = new Availability(new int[DayOfWeek.values().length][], null,
+        new long[0]);
+
+    private static final int EPOCH_DAY_OF_MONDAY = 4;
+    private static final String TIME_FORMAT = "%02d%02d";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final int[][] workingMinutesOfWeekdays;
+    private final int[] sleepMinutes;
+    private final long[] blockedEpochDays;
+    private final int[][] availableMinutesOfWeekdays;
+
+    private Availability(int[][] workingMinutesOfWeekdays, int[] sleepMinutes, long[] blockedEpochDays) {
+        this.workingMinutesOfWeekdays = workingMinutesOfWeekdays;
+        this.sleepMinutes = sleepMinutes;
+        this.blockedEpochDays = blockedEpochDays;
+        this.availableMinutesOfWeekdays = new int[workingMinutesOfWeekdays.length][];
+        for (int i = 0; i < workingMinutesOfWeekdays.length; i++) {
+            availableMinutesOfWeekdays[i] = availableMinutesOf(workingMinutesOfWeekdays[i], sleepMinutes);
+        }
+    }
+
+    /**
+     * Takes the sleep window out of the working hours of a day, giving sorted pairs of start and end minutes.
+     */
+    private static int[] availableMinutesOf(int[] workingMinutes, int[] sleepMinutes) {
+        int startMinute = workingMinutes == null ? 0 : workingMinutes[0];
+        int endMinute = workingMinutes == null ? MINUTES_PER_DAY : workingMinutes[1];
+        if (sleepMinutes == null) {
+            return startMinute < endMinute ? new int[] {startMinute, endMinute} : new int[0];
+        }
+        int[] awakeMinutes = sleepMinutes[0] <= sleepMinutes[1]
+            ? new int[] {0, sleepMinutes[0], sleepMinutes[1], MINUTES_PER_DAY}
+            : new int[] {sleepMinutes[1], sleepMinutes[0]};
+        int[] availableMinutes = new int[awakeMinutes.length];
+        int size = 0;
+        for (int i = 0; i < awakeMinutes.length; i += 2) {
+            int availableStartMinute = Math.max(startMinute, awakeMinutes[i]);
+            int availableEndMinute = Math.min(endMinute, awakeMinutes[i + 1]);
+            if (availableStartMinute < availableEndMinute) {
+                availableMinutes[size++] = availableStartMinute;
+                availableMinutes[size++] = availableEndMinute;
+            }
+        }
+        return Arrays.copyOf(availableMinutes, size);
+    }
+
+    /**
+     * Sets the hours of a day of the week in which the user works, replacing those set before.
+     *
+     * @param dayOfWeek   The day of the week
+     * @param startMinute The minute of the day work starts, from 0
+     * @param endMinute   The minute of the day work ends, up to 1440, or the start minute for a day off
+     * @return The availability with the new working hours
+     */
+    public Availability withWorkingHours(DayOfWeek dayOfWeek, int startMinute, int endMinute) {
+        if (startMinute < 0 || endMinute > MINUTES_PER_DAY || startMinute > endMinute) {
+            throw new IllegalArgumentException("Working hours must lie within a day");
+        }
+        int[][] workingMinutes = workingMinutesOfWeekdays.clone();
+        workingMinutes[dayOfWeek.ordinal()] = new int[] {startMinute, endMinute};
+        return new Availability(workingMinutes, sleepMinutes, blockedEpochDays);
+    }
+
+    /**
+     * Lets the user work at any hour of a day of the week that is not in the sleep window.
+     *
+     * @param dayOfWeek The day of the week
+     * @return The availability without working hours for the day
+     */
+    public Availability withoutWorkingHours(DayOfWeek dayOfWeek) {
+        int[][] workingMinutes = workingMinutesOfWeekdays.clone();
+        workingMinutes[dayOfWeek.ordinal()] = null;
+        return new Availability(workingMinutes, sleepMinutes, blockedEpochDays);
+    }
+
+    /**
+     * Sets the window of every day in which the user sleeps, which may run past midnight.
+     *
+     * @param startMinute The minute of the day the user goes to sleep
+     * @param endMinute   The minute of the day the user wakes up
+     * @return The availability with the new sleep window
+     */
+    public Availability withSleep(int startMinute, int endMinute) {
+        if (startMinute < 0 || startMinute >= MINUTES_PER_DAY || endMinute < 0 || endMinute >= MINUTES_PER_DAY) {
+            throw new IllegalArgumentException("The sleep window must start and end within a day");
+        }
+        return new Availability(workingMinutesOfWeekdays, new int[] {startMinute, endMinute}, blockedEpochDays);
+    }
+
+    public Availability withoutSleep() {
+        return new Availability(workingMinutesOfWeekdays, null, blockedEpochDays);
+    }
+
+    /**
+     * Blocks a whole date, on which the user does not work at all.
+     *
+     * @param date The date to block
+     * @return The availability with the date blocked
+     */
+    public Availability withBlockedDate(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        int index = Arrays.binarySearch(blockedEpochDays, epochDay);
+        if (index >= 0) {
+            return this;
+        }
+        int insertionIndex = -index - 1;
+        long[] blockedDays = new long[blockedEpochDays.length + 1];
+        System.arraycopy(blockedEpochDays, 0, blockedDays, 0, insertionIndex);
+        blockedDays[insertionIndex] = epochDay;
+        System.arraycopy(blockedEpochDays, insertionIndex, blockedDays, insertionIndex + 1,
+            blockedEpochDays.length - insertionIndex);
+        return new Availability(workingMinutesOfWeekdays, sleepMinutes, blockedDays);
+    }
+
+    /**
+     * Unblocks a date blocked before.
+     *
+     * @param date The date to unblock
+     * @return The availability without the date blocked
+     */
+    public Availability withoutBlockedDate(LocalDate date) {
+        int index = Arrays.binarySearch(blockedEpochDays, date.toEpochDay());
+        if (index < 0) {
+            return this;
+        }
+        long[] blockedDays = new long[blockedEpochDays.length - 1];
+        System.arraycopy(blockedEpochDays, 0, blockedDays, 0, index);
+        System.arraycopy(blockedEpochDays, index + 1, blockedDays, index, blockedDays.length - index);
+        return new Availability(workingMinutesOfWeekdays, sleepMinutes, blockedDays);
+    }
+
+    /**
+     * Returns the working hours set for a day of the week.
+     *
+     * @param dayOfWeek The day of the week
+     * @return The start and end minutes of the day, or null if the user may work at any hour of the day
+     */
+    public int[] getWorkingMinutes(DayOfWeek dayOfWeek) {
+        int[] workingMinutes = workingMinutesOfWeekdays[dayOfWeek.ordinal()];
+        return workingMinutes == null ? null : workingMinutes.clone();
+    }
+
+    /**
+     * Returns the sleep window.
+     *
+     * @return The minutes of the day the user goes to sleep and wakes up, or null if no window is set
+     */
+    public int[] getSleepMinutes() {
+        return sleepMinutes == null ? null : sleepMinutes.clone();
+    }
+
+    /**
+     * Returns the dates blocked entirely.
+     *
+     * @return The blocked dates in order
+     */
+    public SortedSet<LocalDate> getBlockedDates() {
+        TreeSet<LocalDate> blockedDates = new TreeSet<>();
+        for (long epochDay : blockedEpochDays) {
+            blockedDates.add(LocalDate.ofEpochDay(epochDay));
+        }
+        return Collections.unmodifiableSortedSet(blockedDates);
+    }
+
+    /**
+     * Checks whether the user may work at any time, in which case free periods are left as they are.
+     *
+     * @return True if no working hours, sleep window or blocked date is set
+     */
+    public boolean isAlways() {
+        return isAlwaysFrom(Long.MIN_VALUE);
+    }
+
+    /**
+     * Checks whether every minute from the start of the given day on is available.
+     */
+    boolean isAlwaysFrom(long epochDay) {
+        if (sleepMinutes != null
+            || (blockedEpochDays.length > 0 && blockedEpochDays[blockedEpochDays.length - 1] >= epochDay)) {
+            return false;
+        }
+        for (int[] workingMinutes : workingMinutesOfWeekdays) {
+            if (workingMinutes != null && (workingMinutes[0] > 0 || workingMinutes[1] < MINUTES_PER_DAY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the available minutes of a day as sorted pairs of start and end minutes of the day, none if the day
+     * is blocked. The array is shared and must not be changed.
+     */
+    int[] availableMinutesOf(long epochDay) {
+        if (Arrays.binarySearch(blockedEpochDays, epochDay) >= 0) {
+            return new int[0];
+        }
+        return availableMinutesOfWeekdays[(int) Math.floorMod(epochDay - EPOCH_DAY_OF_MONDAY, 7L)];
+    }
+
+    /**
+     * Describes the availability, one day of the week, the sleep window and the blocked dates per line.
+     *
+     * @return The description of the availability
+     */
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder();
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            int[] workingMinutes = workingMinutesOfWeekdays[dayOfWeek.ordinal()];
+            description.append(dayOfWeek.getDisplayName(TextStyle.FULL, Locale.ENGLISH)).append(": ");
+            if (workingMinutes == null) {
+                description.append("any time");
+            } else if (workingMinutes[0] == workingMinutes[1]) {
+                description.append("off");
+            } else {
+                description.append(formatMinute(workingMinutes[0])).append('-')
+                    .append(formatMinute(workingMinutes[1]));
+            }
+            description.append('\n');
+        }
+        description.append("Sleep: ").append(sleepMinutes == null ? "none"
+            : formatMinute(sleepMinutes[0]) + "-" + formatMinute(sleepMinutes[1])).append('\n');
+        description.append("Blocked dates: ").append(blockedEpochDays.length == 0 ? "none" : "");
+        for (int i = 0; i < blockedEpochDays.length; i++) {
+            description.append(i == 0 ? "" : ", ")
+                .append(LocalDate.ofEpochDay(blockedEpochDays[i]).format(DATE_FORMAT));
+        }
+        return description.append('\n').toString();
+    }
+
+    private static String formatMinute(int minute) {
+        return String.format(TIME_FORMAT, minute / 60, minute % 60);
+    }
+}
@@ -0,0 +1,270 @@
+package chronologer.task;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+//@@author fauzt
+/**
+ * Immutable timeline of the periods in which tasks keep the user busy, merged with a sweep line so that no two
+ * periods overlap. Events and todos within a period keep the user busy for their whole period, and a deadline
+ * keeps the user busy for a short buffer before it is due. Done todos and deadlines no longer keep the user busy.
+ * Free periods are cut down to the hours the user is available, if any are set. As it never changes once built, a
+ * timeline can be searched from several threads at once.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public final class BusyTimeline {
+
+    static final long DEADLINE_BUFFER_MINUTES = 30;
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long SEARCH_DAYS_WITHOUT_END = 366;
+
+    private final long[] startMinutes;
+    private final long[] endMinutes;
+    private final Availability availability;
+
+    /**
+     * A period in which the user is busy, in epoch minutes.
+     */
+    private static class Interval {
+        private final long startMinute;
+        private final long endMinute;
+
+        Interval(long startMinute, long endMinute) {
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+        }
+    }
+
+    /**
+     * Free slots of a window cut down to the available hours, merging the pieces that meet at midnight.
+     */
+    private static class AvailableSlots {
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final long fromMinute;
+        private final long toMinute;
+        private final long minimumMinutes;
+        private final ArrayList<FreeSlot> freeSlots = new ArrayList<>();
+        private long pendingStartMinute;
+        private long pendingEndMinute = Long.MIN_VALUE;
+
+        AvailableSlots(LocalDateTime from, LocalDateTime to, long fromMinute, long toMinute, long minimumMinutes) {
+            this.from = from;
+            this.to = to;
+            this.fromMinute = fromMinute;
+            this.toMinute = toMinute;
+            this.minimumMinutes = minimumMinutes;
+        }
+
+        void add(long startMinute, long endMinute) {
+            if (startMinute != pendingEndMinute) {
+                flush();
+                pendingStartMinute = startMinute;
+            }
+            pendingEndMinute = endMinute;
+        }
+
+        /**
+         * Lists the slot being merged if it ends before the given minute and so can grow no longer.
+         */
+        void flushBefore(long minute) {
+            if (pendingEndMinute < minute) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pendingEndMinute == Long.MIN_VALUE || pendingEndMinute - pendingStartMinute < minimumMinutes) {
+                return;
+            }
+            LocalDateTime startDate = pendingStartMinute == fromMinute ? from : toDate(pendingStartMinute);
+            if (pendingEndMinute == Long.MAX_VALUE) {
+                freeSlots.add(new FreeSlot(startDate, null, Long.MAX_VALUE));
+            } else {
+                LocalDateTime endDate = pendingEndMinute == toMinute ? to : toDate(pendingEndMinute);
+                freeSlots.add(new FreeSlot(startDate, endDate, pendingEndMinute - pendingStartMinute));
+            }
+            pendingEndMinute = Long.MIN_VALUE;
+        }
+    }
+
+    private BusyTimeline(long[] startMinutes, long[] endMinutes, Availability availability) {
+        this.startMinutes = startMinutes;
+        this.endMinutes = endMinutes;
+        this.availability = availability;
+    }
+
+    /**
+     * Builds the timeline of the given tasks by sorting their busy periods and merging those that overlap.
+     *
+     * @param tasks The tasks in any order
+     * @return The timeline of the tasks
+     */
+    static BusyTimeline of(List<Task> tasks) {
+        return of(tasks, Availability.ALWAYS);
+    }
+
+    /**
+     * Builds the timeline of the given tasks, whose free periods are cut down to the given available hours.
+     *
+     * @param tasks        The tasks in any order
+     * @param availability The hours the user is available
+     * @return The timeline of the tasks
+     */
+    static BusyTimeline of(List<Task> tasks, Availability availability) {
+        ArrayList<Interval> busyIntervals = new ArrayList<>();
+        for (Task task : tasks) {
+            Interval interval = busyInterval(task);
+            if (interval != null && interval.startMinute < interval.endMinute) {
+                busyIntervals.add(interval);
+            }
+        }
+        busyIntervals.sort(Comparator.comparingLong(interval -> interval.startMinute));
+
+        long[] startMinutes = new long[busyIntervals.size()];
+        long[] endMinutes = new long[busyIntervals.size()];
+        int size = 0;
+        for (Interval interval : busyIntervals) {
+            if (size > 0 && interval.startMinute <= endMinutes[size - 1]) {
+                endMinutes[size - 1] = Math.max(endMinutes[size - 1], interval.endMinute);
+            } else {
+                startMinutes[size] = interval.startMinute;
+                endMinutes[size] = interval.endMinute;
+                size++;
+            }
+        }
+        return new BusyTimeline(Arrays.copyOf(startMinutes, size), Arrays.copyOf(endMinutes, size), availability);
+    }
+
+    /**
+     * Finds the free slots of a window at least as long as the given minutes, in order of their start dates. A
+     * window without an end is searched up to the first slot long enough after every busy period, for a year at
+     * most, when available hours are set.
+     *
+     * @param from           The start of the window
+     * @param to             The end of the window, or null if the window has no end
+     * @param minimumMinutes The minutes a slot must last to be listed
+     * @return The free slots of the window, the last one without an end if the window has none
+     */
+    public ArrayList<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, long minimumMinutes) {
+        if (!availability.isAlways()) {
+            return findAvailableSlots(from, to, minimumMinutes);
+        }
+        long fromMinute = Task.toEpochMinute(from);
+        long toMinute = to == null ? Long.MAX_VALUE : Task.toEpochMinute(to);
+        ArrayList<FreeSlot> freeSlots = new ArrayList<>();
+        long freeMinute = fromMinute;
+        LocalDateTime freeDate = from;
+        for (int i = firstIntervalEndingAfter(fromMinute); i < startMinutes.length; i++) {
+            if (startMinutes[i] >= toMinute) {
+                break;
+            }
+            if (startMinutes[i] > freeMinute && startMinutes[i] - freeMinute >= minimumMinutes) {
+                freeSlots.add(new FreeSlot(freeDate, toDate(startMinutes[i]), startMinutes[i] - freeMinute));
+            }
+            if (endMinutes[i] > freeMinute) {
+                freeMinute = endMinutes[i];
+                freeDate = toDate(freeMinute);
+            }
+        }
+        if (to == null) {
+            freeSlots.add(new FreeSlot(freeDate, null, Long.MAX_VALUE));
+        } else if (toMinute > freeMinute && toMinute - freeMinute >= minimumMinutes) {
+            freeSlots.add(new FreeSlot(freeDate, to, toMinute - freeMinute));
+        }
+        return freeSlots;
+    }
+
+    private ArrayList<FreeSlot> findAvailableSlots(LocalDateTime from, LocalDateTime to, long minimumMinutes) {
+        long fromMinute = Task.toEpochMinute(from);
+        long toMinute = to == null ? Long.MAX_VALUE : Task.toEpochMinute(to);
+        AvailableSlots availableSlots = new AvailableSlots(from, to, fromMinute, toMinute, minimumMinutes);
+        long freeMinute = fromMinute;
+        for (int i = firstIntervalEndingAfter(fromMinute); i < startMinutes.length; i++) {
+            if (startMinutes[i] >= toMinute) {
+                break;
+            }
+            if (startMinutes[i] > freeMinute) {
+                addAvailablePeriods(availableSlots, freeMinute, startMinutes[i]);
+            }
+            freeMinute = Math.max(freeMinute, endMinutes[i]);
+        }
+        if (toMinute > freeMinute) {
+            addAvailablePeriods(availableSlots, freeMinute, toMinute);
+        }
+        availableSlots.flush();
+        return availableSlots.freeSlots;
+    }
+
+    /**
+     * Adds the available periods of each day a free period spans. A free period without an end stops at the
+     * first slot long enough, at the first day from which every minute is available or after a year.
+     */
+    private void addAvailablePeriods(AvailableSlots availableSlots, long startMinute, long endMinute) {
+        long firstDay = Math.floorDiv(startMinute, Availability.MINUTES_PER_DAY);
+        int slotCount = availableSlots.freeSlots.size();
+        for (long day = firstDay; day * Availability.MINUTES_PER_DAY < endMinute; day++) {
+            long dayStartMinute = day * Availability.MINUTES_PER_DAY;
+            if (endMinute == Long.MAX_VALUE) {
+                if (availability.isAlwaysFrom(day)) {
+                    availableSlots.add(Math.max(startMinute, dayStartMinute), endMinute);
+                    return;
+                }
+                availableSlots.flushBefore(dayStartMinute);
+                if (availableSlots.freeSlots.size() > slotCount || day - firstDay > SEARCH_DAYS_WITHOUT_END) {
+                    return;
+                }
+            }
+            int[] availableMinutes = availability.availableMinutesOf(day);
+            for (int i = 0; i < availableMinutes.length; i += 2) {
+                long availableStartMinute = Math.max(startMinute, dayStartMinute + availableMinutes[i]);
+                long availableEndMinute = Math.min(endMinute, dayStartMinute + availableMinutes[i + 1]);
+                if (availableStartMinute < availableEndMinute) {
+                    availableSlots.add(availableStartMinute, availableEndMinute);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the first merged period ending after the given minute. Merged periods never overlap, so their end
+     * minutes are sorted as well.
+     */
+    private int firstIntervalEndingAfter(long minute) {
+        int low = 0;
+        int high = endMinutes.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (endMinutes[middle] > minute) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    private static Interval busyInterval(Task task) {
+        switch (task.kind) {
+        case EVENT:
+            return new Interval(task.getStartMinute(), task.getEndMinute());
+        case TODO_PERIOD:
+            return task.isDone ? null : new Interval(task.getStartMinute(), task.getEndMinute());
+        case DEADLINE:
+            return task.isDone ? null : new Interval(task.getStartMinute() - DEADLINE_BUFFER_MINUTES,
+                task.getStartMinute());
+        default:
+            return null;
+        }
+    }
+
+    private static LocalDateTime toDate(long epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * SECONDS_PER_MINUTE, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,76 @@
+package chronologer.task;
+
+//@@author fauzt
+/**
+ * The range in which two versions of a list differ, found by skipping the elements both versions share at their
+ * start and end. Everything before the start and after the ends is matched one to one between the versions.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public final class ChangedRange {
+
+    /**
+     * Tells whether an element of the old version is unchanged in the new version.
+     */
+    public interface Matcher {
+        boolean isUnchanged(int oldIndex, int newIndex);
+    }
+
+    private final int start;
+    private final int oldEnd;
+    private final int newEnd;
+
+    private ChangedRange(int start, int oldEnd, int newEnd) {
+        this.start = start;
+        this.oldEnd = oldEnd;
+        this.newEnd = newEnd;
+    }
+
+    /**
+     * Finds the range in which two versions of a list differ.
+     *
+     * @param oldSize The size of the old version
+     * @param newSize The size of the new version
+     * @param matcher Tells whether an element is unchanged between the versions
+     * @return The changed range
+     */
+    public static ChangedRange between(int oldSize, int newSize, Matcher matcher) {
+        int prefix = 0;
+        while (prefix < oldSize && prefix < newSize && matcher.isUnchanged(prefix, prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+            && matcher.isUnchanged(oldSize - 1 - suffix, newSize - 1 - suffix)) {
+            suffix++;
+        }
+        return new ChangedRange(prefix, oldSize - suffix, newSize - suffix);
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the index in the old version just past the changed range.
+     */
+    public int getOldEnd() {
+        return oldEnd;
+    }
+
+    /**
+     * Returns the index in the new version just past the changed range.
+     */
+    public int getNewEnd() {
+        return newEnd;
+    }
+
+    public int getRemovedCount() {
+        return oldEnd - start;
+    }
+
+    public int getInsertedCount() {
+        return newEnd - start;
+    }
+}
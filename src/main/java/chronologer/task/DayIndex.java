@@ -0,0 +1,157 @@
+package chronologer.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+//@@author fauzt
+/**
+ * Calendar of the dated tasks, keyed by day. A task is filed under every day from its start date to its end date,
+ * and each day keeps its tasks sorted by start date, so the schedule of a day is read off without a scan or a
+ * sort. Undated tasks are tracked but filed under no day, so that they are filed once they are given dates.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class DayIndex implements TaskIndex {
+
+    private final TreeMap<LocalDate, ArrayList<Task>> days = new TreeMap<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * The dates a task was filed under, which may differ from its current dates until it is updated. The days
+     * and start minute are worked out once here, so that filing and listing tasks compare primitives instead of
+     * converting dates again.
+     */
+    private static class Entry {
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final long startMinute;
+        private final LocalDate startDay;
+        private final LocalDate lastDay;
+        private int count;
+
+        Entry(Task task) {
+            this.startDate = task.startDate;
+            this.endDate = task.endDate;
+            this.startMinute = task.getStartMinute();
+            this.startDay = startDate == null ? null : startDate.toLocalDate();
+            this.lastDay = startDate == null ? null : lastDay(startDay, endDate);
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        Entry entry = entries.computeIfAbsent(task, key -> new Entry(task));
+        entry.count++;
+        file(task, entry);
+    }
+
+    @Override
+    public void remove(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null) {
+            return;
+        }
+        unfile(task, entry);
+        if (--entry.count == 0) {
+            entries.remove(task);
+        }
+    }
+
+    @Override
+    public void update(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || task.startDate == entry.startDate && task.endDate == entry.endDate) {
+            return;
+        }
+        for (int i = 0; i < entry.count; i++) {
+            unfile(task, entry);
+        }
+        entries.remove(task);
+        for (int i = 0; i < entry.count; i++) {
+            add(task);
+        }
+    }
+
+    /**
+     * Lists the tasks falling on any day of the range, each once, sorted by start date. A task is taken from
+     * the first day of the range it falls on, so every day after the first contributes only the tasks starting
+     * on it and the days can simply be read in order.
+     *
+     * @param firstDay The first day of the range
+     * @param lastDay  The last day of the range
+     * @return The tasks of the range in order of their start dates
+     */
+    ArrayList<Task> tasksBetween(LocalDate firstDay, LocalDate lastDay) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (Map.Entry<LocalDate, ArrayList<Task>> day : days.subMap(firstDay, true, lastDay, true).entrySet()) {
+            for (Task task : day.getValue()) {
+                if (day.getKey().equals(entries.get(task).startDay) || day.getKey().equals(firstDay)) {
+                    tasks.add(task);
+                }
+            }
+        }
+        return tasks;
+    }
+
+    private void file(Task task, Entry entry) {
+        if (entry.startDate == null) {
+            return;
+        }
+        for (LocalDate day = entry.startDay; !day.isAfter(entry.lastDay); day = day.plusDays(1)) {
+            ArrayList<Task> tasks = days.computeIfAbsent(day, key -> new ArrayList<>());
+            tasks.add(insertionPoint(tasks, entry.startMinute), task);
+        }
+    }
+
+    private void unfile(Task task, Entry entry) {
+        if (entry.startDate == null) {
+            return;
+        }
+        for (LocalDate day = entry.startDay; !day.isAfter(entry.lastDay); day = day.plusDays(1)) {
+            ArrayList<Task> tasks = days.get(day);
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                if (tasks.get(i) == task) {
+                    tasks.remove(i);
+                    break;
+                }
+            }
+            if (tasks.isEmpty()) {
+                days.remove(day);
+            }
+        }
+    }
+
+    /**
+     * Finds the last day a task starting on the given day is filed under. Tasks ending before they start are
+     * filed under their start day alone.
+     */
+    static LocalDate lastDay(LocalDate startDay, LocalDateTime endDate) {
+        if (endDate == null || endDate.toLocalDate().isBefore(startDay)) {
+            return startDay;
+        }
+        return endDate.toLocalDate();
+    }
+
+    /**
+     * Finds the position after every task of the day starting no later than the given date, so that tasks
+     * starting together keep the order they were added in.
+     */
+    private int insertionPoint(ArrayList<Task> tasks, long startMinute) {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries.get(tasks.get(middle)).startMinute > startMinute) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
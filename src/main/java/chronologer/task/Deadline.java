@@ -14,8 +14,6 @@ import java.time.LocalDateTime;
  */
 public class Deadline extends Task implements Serializable {
 
-    private static final String DEADLINE = "DEADLINE";
-
     /**
      * Constructor for deadline task.
      *
@@ -26,7 +24,7 @@ public class Deadline extends Task implements Serializable {
         super(description);
         this.startDate = atDate;
         setReminder(DEFAULT_REMINDER_VALUE);
-        this.type = DEADLINE;
+        this.kind = TaskKind.DEADLINE;
     }
 
     // @@author hanskw4267
@@ -40,13 +38,13 @@ public class Deadline extends Task implements Serializable {
         super(description);
         this.startDate = atDate;
         this.modCode = modCode;
-        this.type = DEADLINE;
+        this.kind = TaskKind.DEADLINE;
         setReminder(3);
     }
     // @@author
 
     @Override
-    public String toString() {
+    String render() {
         String message = "";
         if (modCode.isBlank()) {
             message = super.getPriorityIcon() + "[D]" + "[" + super.getStatusIcon() + "] " + this.description;
@@ -68,10 +66,11 @@ public class Deadline extends Task implements Serializable {
 
     @Override
     public boolean isClash(Task taskToCheck) {
+        long startMinute = getStartMinute();
         if (taskToCheck.endDate == null) {
-            return (this.startDate.isEqual(taskToCheck.startDate));
+            return startMinute == taskToCheck.getStartMinute();
         } else {
-            return (taskToCheck.startDate.isBefore(this.startDate) && taskToCheck.endDate.isAfter(this.startDate));
+            return taskToCheck.getStartMinute() < startMinute && taskToCheck.getEndMinute() > startMinute;
         }
     }
 
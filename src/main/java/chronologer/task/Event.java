@@ -14,8 +14,6 @@ import java.time.LocalDateTime;
  */
 public class Event extends Task implements Serializable, Comparable<Event> {
 
-    private static final String EVENT = "EVENT";
-
     /**
      * Creates a new Event task.
      *
@@ -28,7 +26,7 @@ public class Event extends Task implements Serializable, Comparable<Event> {
         this.endDate = endDate;
         this.startDate = startDate;
         setReminder(DEFAULT_REMINDER_VALUE);
-        this.type = EVENT;
+        this.kind = TaskKind.EVENT;
     }
 
     // @@author hanskw4267
@@ -45,7 +43,7 @@ public class Event extends Task implements Serializable, Comparable<Event> {
         this.endDate = endDate;
         this.startDate = startDate;
         this.modCode = modCode;
-        this.type = EVENT;
+        this.kind = TaskKind.EVENT;
         if (description.equals("exam")) {
             this.priority = Priority.HIGH;
         }
@@ -58,11 +56,11 @@ public class Event extends Task implements Serializable, Comparable<Event> {
      */
     @Override
     public int compareTo(Event o) {
-        return this.startDate.compareTo(o.startDate);
+        return Long.compare(getStartMinute(), o.getStartMinute());
     }
 
     @Override
-    public String toString() {
+    String render() {
         String message = "";
         if (modCode.isBlank()) {
             message = super.getPriorityIcon() + "[E]" + "[" + super.getStatusIcon() + "] " + this.description;
@@ -85,10 +83,12 @@ public class Event extends Task implements Serializable, Comparable<Event> {
 
     @Override
     boolean isClash(Task taskToCheck) {
+        long startMinute = getStartMinute();
+        long endMinute = getEndMinute();
         if (taskToCheck.endDate == null) {
-            return (this.startDate.isBefore(taskToCheck.startDate) && this.endDate.isAfter(taskToCheck.startDate));
+            return startMinute < taskToCheck.getStartMinute() && endMinute > taskToCheck.getStartMinute();
         } else {
-            return this.startDate.isBefore(taskToCheck.endDate) && this.endDate.isAfter(taskToCheck.startDate);
+            return startMinute < taskToCheck.getEndMinute() && endMinute > taskToCheck.getStartMinute();
         }
     }
 
@@ -0,0 +1,49 @@
+package chronologer.task;
+
+import java.time.LocalDateTime;
+
+//@@author fauzt
+/**
+ * A period of time in which no timed task keeps the user busy.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class FreeSlot {
+
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final long minutes;
+
+    FreeSlot(LocalDateTime startDate, LocalDateTime endDate, long minutes) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.minutes = minutes;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    /**
+     * Returns the date the slot ends on.
+     *
+     * @return The end date, or null if nothing is scheduled after the start of the slot.
+     */
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    /**
+     * Returns the length of the slot in minutes.
+     *
+     * @return The minutes of the slot, or Long.MAX_VALUE if the slot has no end.
+     */
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public boolean isOpenEnded() {
+        return endDate == null;
+    }
+}
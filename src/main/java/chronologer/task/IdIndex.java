@@ -0,0 +1,88 @@
+package chronologer.task;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+//@@author fauzt
+/**
+ * Hash index from the identifiers of the tasks to the tasks, so a task is found by its identifier in constant
+ * time however the list is ordered. Identifiers are handed out above the largest one in use.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class IdIndex implements TaskIndex {
+
+    private final HashMap<Long, Task> tasksOfIds = new HashMap<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+    private long nextId = 1;
+
+    /**
+     * The identifier a task was indexed under, which may differ from its current one until it is updated.
+     */
+    private static class Entry {
+        private long id;
+        private int count = 1;
+
+        Entry(long id) {
+            this.id = id;
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        Entry entry = entries.get(task);
+        if (entry != null) {
+            entry.count++;
+            return;
+        }
+        entries.put(task, new Entry(task.id));
+        index(task);
+    }
+
+    @Override
+    public void remove(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || --entry.count > 0) {
+            return;
+        }
+        entries.remove(task);
+        tasksOfIds.remove(entry.id, task);
+    }
+
+    @Override
+    public void update(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || entry.id == task.id) {
+            return;
+        }
+        tasksOfIds.remove(entry.id, task);
+        entry.id = task.id;
+        index(task);
+    }
+
+    Task get(long id) {
+        return tasksOfIds.get(id);
+    }
+
+    /**
+     * Checks whether a task needs a new identifier before it is indexed, because it has none yet or because
+     * another task of the list already holds its identifier.
+     */
+    boolean needsId(Task task) {
+        if (task.id <= 0) {
+            return true;
+        }
+        Task holder = tasksOfIds.get(task.id);
+        return holder != null && holder != task;
+    }
+
+    long nextId() {
+        return nextId++;
+    }
+
+    private void index(Task task) {
+        tasksOfIds.put(task.id, task);
+        nextId = Math.max(nextId, task.id + 1);
+    }
+}
@@ -0,0 +1,199 @@
+package chronologer.task;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+//@@author fauzt
+/**
+ * Balanced search tree of time intervals in epoch minutes, ordered by start and augmented with the latest end in
+ * every subtree, so that the intervals overlapping a query can be found without visiting the subtrees that cannot
+ * hold any. Balance is kept by random priorities, as in a treap.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class IntervalTree {
+
+    private final Random random = new Random();
+    private Node root;
+    private long nextOrder;
+    private int size;
+
+    /**
+     * Handle on an interval held by the tree, used to remove it again.
+     */
+    static final class Node {
+        private final long start;
+        private final long end;
+        private final Task task;
+        private final long order;
+        private final int priority;
+        private long maxEnd;
+        private Node left;
+        private Node right;
+
+        private Node(long start, long end, Task task, long order, int priority) {
+            this.start = start;
+            this.end = end;
+            this.task = task;
+            this.order = order;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds the interval of a task.
+     *
+     * @return The handle to remove the interval with
+     */
+    Node insert(long start, long end, Task task) {
+        Node node = new Node(start, end, task, nextOrder++, random.nextInt());
+        root = insert(root, node);
+        size++;
+        return node;
+    }
+
+    void remove(Node node) {
+        root = remove(root, node);
+        size--;
+    }
+
+    /**
+     * Checks whether any interval starts before the upper bound and ends after the lower bound.
+     */
+    boolean hasOverlap(long lowerBound, long upperBound) {
+        return findOverlaps(root, lowerBound, upperBound, null);
+    }
+
+    /**
+     * Collects the tasks of every interval that starts before the upper bound and ends after the lower bound,
+     * in order of their start.
+     */
+    ArrayList<Task> overlaps(long lowerBound, long upperBound) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        findOverlaps(root, lowerBound, upperBound, tasks);
+        return tasks;
+    }
+
+    /**
+     * Searches the subtree for overlapping intervals, stopping at the first one found if no list is given.
+     *
+     * @return True if an overlapping interval was found
+     */
+    private static boolean findOverlaps(Node node, long lowerBound, long upperBound,
+                                        ArrayList<Task> tasks) {
+        if (node == null || node.maxEnd <= lowerBound) {
+            return false;
+        }
+        boolean isFound = findOverlaps(node.left, lowerBound, upperBound, tasks);
+        if (isFound && tasks == null) {
+            return true;
+        }
+        if (node.start >= upperBound) {
+            return isFound;
+        }
+        if (node.end > lowerBound) {
+            if (tasks == null) {
+                return true;
+            }
+            tasks.add(node.task);
+            isFound = true;
+        }
+        return findOverlaps(node.right, lowerBound, upperBound, tasks) || isFound;
+    }
+
+    private static int compare(Node first, Node second) {
+        int comparison = Long.compare(first.start, second.start);
+        if (comparison == 0) {
+            comparison = Long.compare(first.end, second.end);
+        }
+        if (comparison == 0) {
+            comparison = Long.compare(first.order, second.order);
+        }
+        return comparison;
+    }
+
+    private static Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (compare(node, subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        update(subtree);
+        return subtree;
+    }
+
+    private static Node remove(Node subtree, Node node) {
+        if (subtree == null) {
+            return null;
+        }
+        if (subtree != node) {
+            if (compare(node, subtree) < 0) {
+                subtree.left = remove(subtree.left, node);
+            } else {
+                subtree.right = remove(subtree.right, node);
+            }
+            update(subtree);
+            return subtree;
+        }
+        if (subtree.left == null) {
+            return subtree.right;
+        }
+        if (subtree.right == null) {
+            return subtree.left;
+        }
+        Node promoted;
+        if (subtree.left.priority > subtree.right.priority) {
+            promoted = rotateRight(subtree);
+            promoted.right = remove(promoted.right, node);
+        } else {
+            promoted = rotateLeft(subtree);
+            promoted.left = remove(promoted.left, node);
+        }
+        update(promoted);
+        return promoted;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private static void update(Node node) {
+        long maxEnd = node.end;
+        if (node.left != null && node.left.maxEnd > maxEnd) {
+            maxEnd = node.left.maxEnd;
+        }
+        if (node.right != null && node.right.maxEnd > maxEnd) {
+            maxEnd = node.right.maxEnd;
+        }
+        node.maxEnd = maxEnd;
+    }
+}
@@ -0,0 +1,262 @@
+package chronologer.task;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+//@@author fauzt
+/**
+ * Groups the tasks by module code and keeps the totals shown for a module up to date as tasks are added, edited
+ * and removed: the deadlines not done yet and their number, the minutes of events falling in each week, and the
+ * exams not done yet, both ordered by date.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class ModuleIndex implements TaskIndex {
+
+    private static final String EXAM_DESCRIPTION = "exam";
+    private static final long MINUTES_PER_WEEK = 7 * 24 * 60;
+
+    private final HashMap<String, Module> modules = new HashMap<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * The tasks and totals of a module.
+     */
+    private static class Module {
+        private final TreeMap<Long, Task> tasksOfIds = new TreeMap<>();
+        private final TreeMap<LocalDate, Long> minutesOfWeeks = new TreeMap<>();
+        private final TreeMap<Long, ArrayList<Task>> exams = new TreeMap<>();
+        private final TreeMap<Long, ArrayList<Task>> deadlines = new TreeMap<>();
+        private int pendingDeadlines;
+
+        boolean isEmpty() {
+            return tasksOfIds.isEmpty();
+        }
+    }
+
+    /**
+     * The state a task was filed with, which may differ from its current one until it is updated.
+     */
+    private static class Entry {
+        private final long id;
+        private final String modCode;
+        private final TaskKind kind;
+        private final String description;
+        private final boolean isDone;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final long startMinute;
+        private final long endMinute;
+        private int count;
+
+        Entry(Task task) {
+            this.id = task.id;
+            this.modCode = task.modCode == null ? "" : task.modCode.toUpperCase();
+            this.kind = task.kind;
+            this.description = task.description;
+            this.isDone = task.isDone;
+            this.startDate = task.startDate;
+            this.endDate = task.endDate;
+            this.startMinute = task.getStartMinute();
+            this.endMinute = task.getEndMinute();
+        }
+
+        boolean isCurrent(Task task) {
+            return task.id == id && modCode.equalsIgnoreCase(task.modCode == null ? "" : task.modCode)
+                && task.kind == kind && task.description == description && task.isDone == isDone
+                && task.startDate == startDate && task.endDate == endDate;
+        }
+
+        boolean isPendingDeadline() {
+            return kind == TaskKind.DEADLINE && !isDone;
+        }
+
+        boolean isScheduledEvent() {
+            return kind == TaskKind.EVENT && startDate != null && endDate != null;
+        }
+
+        boolean isPendingExam() {
+            return kind == TaskKind.EVENT && startDate != null && !isDone
+                && EXAM_DESCRIPTION.equalsIgnoreCase(description);
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        Entry entry = entries.computeIfAbsent(task, key -> new Entry(task));
+        if (entry.count++ == 0) {
+            file(task, entry);
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || --entry.count > 0) {
+            return;
+        }
+        entries.remove(task);
+        unfile(task, entry);
+    }
+
+    @Override
+    public void update(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || entry.isCurrent(task)) {
+            return;
+        }
+        unfile(task, entry);
+        Entry updatedEntry = new Entry(task);
+        updatedEntry.count = entry.count;
+        entries.put(task, updatedEntry);
+        file(task, updatedEntry);
+    }
+
+    /**
+     * Lists the tasks of a module in the order they were added.
+     *
+     * @param modCode The module code, in any case
+     * @return The tasks of the module
+     */
+    ArrayList<Task> tasksOf(String modCode) {
+        Module module = modules.get(modCode.toUpperCase());
+        return module == null ? new ArrayList<>() : new ArrayList<>(module.tasksOfIds.values());
+    }
+
+    /**
+     * Counts the deadlines of a module that are not done yet.
+     *
+     * @param modCode The module code, in any case
+     * @return The number of pending deadlines
+     */
+    int countPendingDeadlines(String modCode) {
+        Module module = modules.get(modCode.toUpperCase());
+        return module == null ? 0 : module.pendingDeadlines;
+    }
+
+    /**
+     * Totals the minutes of the events of a module falling in the week starting on the given Monday.
+     *
+     * @param modCode  The module code, in any case
+     * @param firstDay The Monday starting the week
+     * @return The minutes of events in the week
+     */
+    long minutesInWeek(String modCode, LocalDate firstDay) {
+        Module module = modules.get(modCode.toUpperCase());
+        return module == null ? 0 : module.minutesOfWeeks.getOrDefault(firstDay, 0L);
+    }
+
+    /**
+     * Finds the exam of a module not done yet that starts the soonest at or after the given time.
+     *
+     * @param modCode The module code, in any case
+     * @param now     The time to look from
+     * @return The next exam, or null if there is none
+     */
+    Task nextExam(String modCode, LocalDateTime now) {
+        Module module = modules.get(modCode.toUpperCase());
+        if (module == null) {
+            return null;
+        }
+        return firstFrom(module.exams, now);
+    }
+
+    /**
+     * Finds the deadline of a module not done yet that is due the soonest at or after the given time.
+     *
+     * @param modCode The module code, in any case
+     * @param now     The time to look from
+     * @return The next deadline, or null if there is none
+     */
+    Task nextDeadline(String modCode, LocalDateTime now) {
+        Module module = modules.get(modCode.toUpperCase());
+        return module == null ? null : firstFrom(module.deadlines, now);
+    }
+
+    private static Task firstFrom(TreeMap<Long, ArrayList<Task>> tasksOfMinutes, LocalDateTime now) {
+        Map.Entry<Long, ArrayList<Task>> tasks = tasksOfMinutes.ceilingEntry(Task.toEpochMinute(now));
+        return tasks == null ? null : tasks.getValue().get(0);
+    }
+
+    private void file(Task task, Entry entry) {
+        if (entry.modCode.isEmpty()) {
+            return;
+        }
+        Module module = modules.computeIfAbsent(entry.modCode, key -> new Module());
+        module.tasksOfIds.put(entry.id, task);
+        if (entry.isPendingDeadline()) {
+            module.pendingDeadlines++;
+            fileByMinute(module.deadlines, entry.startMinute, task);
+        }
+        if (entry.isScheduledEvent()) {
+            addMinutesOfWeeks(module, entry, 1);
+        }
+        if (entry.isPendingExam()) {
+            fileByMinute(module.exams, entry.startMinute, task);
+        }
+    }
+
+    private void unfile(Task task, Entry entry) {
+        Module module = modules.get(entry.modCode);
+        if (module == null) {
+            return;
+        }
+        module.tasksOfIds.remove(entry.id, task);
+        if (entry.isPendingDeadline()) {
+            module.pendingDeadlines--;
+            unfileByMinute(module.deadlines, entry.startMinute, task);
+        }
+        if (entry.isScheduledEvent()) {
+            addMinutesOfWeeks(module, entry, -1);
+        }
+        if (entry.isPendingExam()) {
+            unfileByMinute(module.exams, entry.startMinute, task);
+        }
+        if (module.isEmpty()) {
+            modules.remove(entry.modCode);
+        }
+    }
+
+    private static void fileByMinute(TreeMap<Long, ArrayList<Task>> tasksOfMinutes, long minute, Task task) {
+        tasksOfMinutes.computeIfAbsent(minute, key -> new ArrayList<>()).add(task);
+    }
+
+    private static void unfileByMinute(TreeMap<Long, ArrayList<Task>> tasksOfMinutes, long minute, Task task) {
+        ArrayList<Task> tasks = tasksOfMinutes.get(minute);
+        tasks.removeIf(other -> other == task);
+        if (tasks.isEmpty()) {
+            tasksOfMinutes.remove(minute);
+        }
+    }
+
+    /**
+     * Adds or takes away the minutes of an event from each week it falls in, splitting events across the
+     * midnight starting a Monday.
+     */
+    private static void addMinutesOfWeeks(Module module, Entry entry, int sign) {
+        LocalDate firstDay = entry.startDate.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long weekStartMinute = Task.toEpochMinute(firstDay.atStartOfDay());
+        while (weekStartMinute < entry.endMinute) {
+            long weekEndMinute = weekStartMinute + MINUTES_PER_WEEK;
+            long minutes = Math.min(entry.endMinute, weekEndMinute) - Math.max(entry.startMinute, weekStartMinute);
+            if (minutes > 0) {
+                long total = module.minutesOfWeeks.getOrDefault(firstDay, 0L) + sign * minutes;
+                if (total == 0) {
+                    module.minutesOfWeeks.remove(firstDay);
+                } else {
+                    module.minutesOfWeeks.put(firstDay, total);
+                }
+            }
+            firstDay = firstDay.plusWeeks(1);
+            weekStartMinute = weekEndMinute;
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package chronologer.task;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+//@@author fauzt
+/**
+ * Immutable list of task records kept as a weight-balanced tree. Every change returns a new list that copies
+ * only the path from the root to the changed position, so any number of snapshots can be held at once while
+ * sharing almost all of their structure.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public final class PersistentTaskList implements Iterable<TaskRecord>, Serializable {
+
+    private static final PersistentTaskList EMPTY = new PersistentTaskList(null);
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private final Node root;
+
+    private PersistentTaskList(Node root) {
+        this.root = root;
+    }
+
+    public static PersistentTaskList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a list holding the given records in order.
+     *
+     * @param records The records to hold
+     * @return The list
+     */
+    public static PersistentTaskList of(List<TaskRecord> records) {
+        return new PersistentTaskList(build(records, 0, records.size()));
+    }
+
+    /**
+     * Creates a list holding a record of each of the given tasks.
+     *
+     * @param tasks The tasks to capture
+     * @return The list
+     */
+    public static PersistentTaskList ofTasks(List<Task> tasks) {
+        ArrayList<TaskRecord> records = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            records.add(TaskRecord.of(task));
+        }
+        return of(records);
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the record at the given position.
+     *
+     * @param index The position of the record
+     * @return The record
+     */
+    public TaskRecord get(int index) {
+        checkIndex(index, size());
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.record;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the record at the given position replaced.
+     *
+     * @param index  The position to replace
+     * @param record The new record
+     * @return The changed list
+     */
+    public PersistentTaskList set(int index, TaskRecord record) {
+        checkIndex(index, size());
+        return new PersistentTaskList(set(root, index, record));
+    }
+
+    /**
+     * Returns a list with the record inserted at the given position.
+     *
+     * @param index  The position to insert at, which may be the size of the list
+     * @param record The record to insert
+     * @return The changed list
+     */
+    public PersistentTaskList insert(int index, TaskRecord record) {
+        checkIndex(index, size() + 1);
+        return new PersistentTaskList(insert(root, index, record));
+    }
+
+    public PersistentTaskList add(TaskRecord record) {
+        return insert(size(), record);
+    }
+
+    /**
+     * Returns a list with the record at the given position removed.
+     *
+     * @param index The position to remove
+     * @return The changed list
+     */
+    public PersistentTaskList remove(int index) {
+        checkIndex(index, size());
+        return new PersistentTaskList(remove(root, index));
+    }
+
+    /**
+     * Returns a list with a range of records replaced by the given records.
+     *
+     * @param start        The first position to replace
+     * @param removedCount The number of records to remove from the start position
+     * @param records      The records to insert at the start position
+     * @return The changed list
+     */
+    public PersistentTaskList splice(int start, int removedCount, List<TaskRecord> records) {
+        Node node = root;
+        int replaced = Math.min(removedCount, records.size());
+        for (int i = 0; i < replaced; i++) {
+            node = set(node, start + i, records.get(i));
+        }
+        for (int i = replaced; i < removedCount; i++) {
+            node = remove(node, start + replaced);
+        }
+        for (int i = replaced; i < records.size(); i++) {
+            node = insert(node, start + i, records.get(i));
+        }
+        return new PersistentTaskList(node);
+    }
+
+    /**
+     * Creates a live task from every record, in order.
+     *
+     * @return A new list of tasks
+     */
+    public ArrayList<Task> toTasks() {
+        ArrayList<Task> tasks = new ArrayList<>(size());
+        for (TaskRecord record : this) {
+            Task task = record.toTask();
+            if (task != null) {
+                tasks.add(task);
+            }
+        }
+        return tasks;
+    }
+
+    @Override
+    public Iterator<TaskRecord> iterator() {
+        return new Iterator<>() {
+            private final ArrayDeque<Node> path = new ArrayDeque<>();
+            private Node next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public TaskRecord next() {
+                while (next != null) {
+                    path.push(next);
+                    next = next.left;
+                }
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = path.pop();
+                next = node.right;
+                return node.record;
+            }
+        };
+    }
+
+    private static Node build(List<TaskRecord> records, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node(build(records, from, middle), records.get(middle), build(records, middle + 1, to));
+    }
+
+    private static Node set(Node node, int index, TaskRecord record) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node(set(node.left, index, record), node.record, node.right);
+        } else if (index == leftSize) {
+            return new Node(node.left, record, node.right);
+        } else {
+            return new Node(node.left, node.record, set(node.right, index - leftSize - 1, record));
+        }
+    }
+
+    private static Node insert(Node node, int index, TaskRecord record) {
+        if (node == null) {
+            return new Node(null, record, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, record), node.record, node.right);
+        } else {
+            return balance(node.left, node.record, insert(node.right, index - leftSize - 1, record));
+        }
+    }
+
+    private static Node remove(Node node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.record, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.record, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else if (size(node.left) > size(node.right)) {
+            TaskRecord last = get(node.left, size(node.left) - 1);
+            return balance(remove(node.left, size(node.left) - 1), last, node.right);
+        } else {
+            TaskRecord first = get(node.right, 0);
+            return balance(node.left, first, remove(node.right, 0));
+        }
+    }
+
+    private static TaskRecord get(Node node, int index) {
+        return new PersistentTaskList(node).get(index);
+    }
+
+    /**
+     * Rebuilds a node whose subtrees differ in weight by at most one record from a balanced node, rotating
+     * once or twice to restore the weight balance.
+     */
+    private static Node balance(Node left, TaskRecord record, Node right) {
+        int leftSize = size(left);
+        int rightSize = size(right);
+        if (leftSize + rightSize <= 1) {
+            return new Node(left, record, right);
+        }
+        if (rightSize > DELTA * leftSize) {
+            if (size(right.left) < RATIO * size(right.right)) {
+                return new Node(new Node(left, record, right.left), right.record, right.right);
+            }
+            Node middle = right.left;
+            return new Node(new Node(left, record, middle.left), middle.record,
+                new Node(middle.right, right.record, right.right));
+        }
+        if (leftSize > DELTA * rightSize) {
+            if (size(left.right) < RATIO * size(left.left)) {
+                return new Node(left.left, left.record, new Node(left.right, record, right));
+            }
+            Node middle = left.right;
+            return new Node(new Node(left.left, left.record, middle.left), middle.record,
+                new Node(middle.right, record, right));
+        }
+        return new Node(left, record, right);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static final class Node implements Serializable {
+        private final Node left;
+        private final TaskRecord record;
+        private final Node right;
+        private final int size;
+
+        Node(Node left, TaskRecord record, Node right) {
+            this.left = left;
+            this.record = record;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+}
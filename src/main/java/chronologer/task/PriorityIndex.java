@@ -0,0 +1,163 @@
+package chronologer.task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.TreeMap;
+
+//@@author fauzt
+/**
+ * Calendar of the dated tasks split by priority. Like the {@link DayIndex}, a task is filed under every day from
+ * its start date to its end date, but each day keeps one list per priority level, sorted by start date, so the
+ * tasks of a day are listed by priority and then by start date by reading its lists in turn.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class PriorityIndex implements TaskIndex {
+
+    private static final Priority[] PRIORITIES_BY_URGENCY = {Priority.HIGH, Priority.MEDIUM, Priority.LOW};
+
+    private final TreeMap<LocalDate, EnumMap<Priority, ArrayList<Task>>> days = new TreeMap<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * The dates and priority a task was filed under, which may differ from its current ones until it is updated.
+     */
+    private static class Entry {
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final Priority priority;
+        private final long startMinute;
+        private final LocalDate startDay;
+        private final LocalDate lastDay;
+        private int count;
+
+        Entry(Task task) {
+            this.startDate = task.startDate;
+            this.endDate = task.endDate;
+            this.priority = task.priority == null ? Priority.MEDIUM : task.priority;
+            this.startMinute = task.getStartMinute();
+            this.startDay = startDate == null ? null : startDate.toLocalDate();
+            this.lastDay = startDate == null ? null : DayIndex.lastDay(startDay, endDate);
+        }
+
+        boolean isCurrent(Task task) {
+            return task.startDate == startDate && task.endDate == endDate
+                && (task.priority == null ? Priority.MEDIUM : task.priority) == priority;
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        Entry entry = entries.computeIfAbsent(task, key -> new Entry(task));
+        entry.count++;
+        file(task, entry);
+    }
+
+    @Override
+    public void remove(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null) {
+            return;
+        }
+        unfile(task, entry);
+        if (--entry.count == 0) {
+            entries.remove(task);
+        }
+    }
+
+    @Override
+    public void update(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || entry.isCurrent(task)) {
+            return;
+        }
+        for (int i = 0; i < entry.count; i++) {
+            unfile(task, entry);
+        }
+        entries.remove(task);
+        for (int i = 0; i < entry.count; i++) {
+            add(task);
+        }
+    }
+
+    /**
+     * Lists the tasks falling on a day with at least the given priority, the most urgent first and then in order
+     * of their start dates.
+     *
+     * @param day            The day to list
+     * @param lowestPriority The lowest priority to include
+     * @return The tasks of the day
+     */
+    ArrayList<Task> tasksOn(LocalDate day, Priority lowestPriority) {
+        ArrayList<Task> tasks = new ArrayList<>();
+        EnumMap<Priority, ArrayList<Task>> tasksOfPriorities = days.get(day);
+        if (tasksOfPriorities == null) {
+            return tasks;
+        }
+        for (Priority priority : PRIORITIES_BY_URGENCY) {
+            ArrayList<Task> tasksOfPriority = tasksOfPriorities.get(priority);
+            if (tasksOfPriority != null) {
+                tasks.addAll(tasksOfPriority);
+            }
+            if (priority == lowestPriority) {
+                break;
+            }
+        }
+        return tasks;
+    }
+
+    private void file(Task task, Entry entry) {
+        if (entry.startDate == null) {
+            return;
+        }
+        for (LocalDate day = entry.startDay; !day.isAfter(entry.lastDay); day = day.plusDays(1)) {
+            ArrayList<Task> tasks = days.computeIfAbsent(day, key -> new EnumMap<>(Priority.class))
+                .computeIfAbsent(entry.priority, key -> new ArrayList<>());
+            tasks.add(insertionPoint(tasks, entry.startMinute), task);
+        }
+    }
+
+    private void unfile(Task task, Entry entry) {
+        if (entry.startDate == null) {
+            return;
+        }
+        for (LocalDate day = entry.startDay; !day.isAfter(entry.lastDay); day = day.plusDays(1)) {
+            EnumMap<Priority, ArrayList<Task>> tasksOfPriorities = days.get(day);
+            ArrayList<Task> tasks = tasksOfPriorities.get(entry.priority);
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                if (tasks.get(i) == task) {
+                    tasks.remove(i);
+                    break;
+                }
+            }
+            if (tasks.isEmpty()) {
+                tasksOfPriorities.remove(entry.priority);
+                if (tasksOfPriorities.isEmpty()) {
+                    days.remove(day);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the position after every task starting no later than the given minute, so that tasks starting
+     * together keep the order they were added in.
+     */
+    private int insertionPoint(ArrayList<Task> tasks, long startMinute) {
+        int low = 0;
+        int high = tasks.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (entries.get(tasks.get(middle)).startMinute > startMinute) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+}
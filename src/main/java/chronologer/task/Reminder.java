@@ -20,6 +20,10 @@ class Reminder implements Serializable {
         reminderDate = LocalDateTime.now().plusDays(days);
     }
 
+    Reminder(LocalDateTime reminderDate) {
+        this.reminderDate = reminderDate;
+    }
+
     boolean isReminderTrigger() {
         return LocalDateTime.now().isAfter(reminderDate);
     }
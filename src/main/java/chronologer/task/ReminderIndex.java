@@ -0,0 +1,145 @@
+package chronologer.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+//@@author fauzt
+/**
+ * View of the reminders of the tasks that are neither done nor ignored. Reminders wait in a queue ordered by the
+ * date they trigger on until a refresh passes that date, when they move to the triggered reminders, so a refresh
+ * only touches the reminders that triggered since the previous one.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class ReminderIndex implements TaskIndex {
+
+    private final TreeMap<LocalDateTime, ArrayList<Task>> pendingReminders = new TreeMap<>();
+    private final TreeMap<LocalDateTime, ArrayList<Task>> triggeredReminders = new TreeMap<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+    private LocalDateTime lastRefresh = LocalDateTime.MIN;
+
+    /**
+     * The reminder a task was queued with, which may differ from its current one until it is updated.
+     */
+    private static class Entry {
+        private final Reminder reminder;
+        private final LocalDateTime reminderDate;
+        private final boolean isIgnored;
+        private final boolean isDone;
+        private int count;
+
+        Entry(Task task) {
+            this.reminder = task.reminder;
+            this.reminderDate = reminder == null ? null : reminder.reminderDate;
+            this.isIgnored = task.isIgnored;
+            this.isDone = task.isDone;
+        }
+
+        boolean isQueued() {
+            return reminderDate != null && !isIgnored && !isDone;
+        }
+
+        boolean isCurrent(Task task) {
+            return task.reminder == reminder && (reminder == null || reminder.reminderDate == reminderDate)
+                && task.isIgnored == isIgnored && task.isDone == isDone;
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        Entry entry = entries.computeIfAbsent(task, key -> new Entry(task));
+        entry.count++;
+        if (entry.isQueued()) {
+            TreeMap<LocalDateTime, ArrayList<Task>> reminders =
+                lastRefresh.isAfter(entry.reminderDate) ? triggeredReminders : pendingReminders;
+            reminders.computeIfAbsent(entry.reminderDate, key -> new ArrayList<>()).add(task);
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null) {
+            return;
+        }
+        dequeue(task, entry);
+        if (--entry.count == 0) {
+            entries.remove(task);
+        }
+    }
+
+    @Override
+    public void update(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || entry.isCurrent(task)) {
+            return;
+        }
+        for (int i = 0; i < entry.count; i++) {
+            dequeue(task, entry);
+        }
+        entries.remove(task);
+        for (int i = 0; i < entry.count; i++) {
+            add(task);
+        }
+    }
+
+    /**
+     * Lists the tasks whose reminders have triggered by the given time, the earliest reminder first. Only the
+     * reminders passed since the previous refresh are moved, unless the time moved backwards.
+     *
+     * @param now The current time
+     * @return The tasks to remind of
+     */
+    ArrayList<Task> triggeredAt(LocalDateTime now) {
+        if (now.isAfter(lastRefresh)) {
+            move(pendingReminders.headMap(now, false), triggeredReminders);
+        } else {
+            move(triggeredReminders.tailMap(now, true), pendingReminders);
+        }
+        lastRefresh = now;
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (ArrayList<Task> tasksOfDate : triggeredReminders.values()) {
+            tasks.addAll(tasksOfDate);
+        }
+        return tasks;
+    }
+
+    private static void move(Map<LocalDateTime, ArrayList<Task>> reminders,
+                             TreeMap<LocalDateTime, ArrayList<Task>> destination) {
+        for (Map.Entry<LocalDateTime, ArrayList<Task>> reminder : reminders.entrySet()) {
+            destination.computeIfAbsent(reminder.getKey(), key -> new ArrayList<>()).addAll(reminder.getValue());
+        }
+        reminders.clear();
+    }
+
+    private void dequeue(Task task, Entry entry) {
+        if (!entry.isQueued()) {
+            return;
+        }
+        if (!dequeue(task, entry.reminderDate, triggeredReminders)) {
+            dequeue(task, entry.reminderDate, pendingReminders);
+        }
+    }
+
+    private static boolean dequeue(Task task, LocalDateTime reminderDate,
+                                   TreeMap<LocalDateTime, ArrayList<Task>> reminders) {
+        ArrayList<Task> tasks = reminders.get(reminderDate);
+        if (tasks == null) {
+            return false;
+        }
+        for (int i = tasks.size() - 1; i >= 0; i--) {
+            if (tasks.get(i) == task) {
+                tasks.remove(i);
+                if (tasks.isEmpty()) {
+                    reminders.remove(reminderDate);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
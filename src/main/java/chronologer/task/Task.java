@@ -2,6 +2,7 @@ package chronologer.task;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 /**
  * This Task class is extended by the other tasks and serves as a template for
@@ -12,7 +13,7 @@ import java.time.LocalDateTime;
  */
 public abstract class Task implements Serializable {
 
-    protected String type;
+    protected TaskKind kind;
     protected String description;
     protected LocalDateTime startDate = null;
     protected LocalDateTime endDate = null;
@@ -23,6 +24,18 @@ public abstract class Task implements Serializable {
     protected boolean isIgnored;
     protected boolean isDone;
     protected String modCode;
+    protected long id;
+    private transient int modificationCount;
+    private transient LocalDateTime minuteStartDate;
+    private transient long startMinute;
+    private transient LocalDateTime minuteEndDate;
+    private transient long endMinute;
+    private transient String renderedString;
+    private transient int renderedVersion;
+    private transient String scheduleLabel;
+    private transient int scheduleLabelVersion;
+    transient TaskList owner;
+    transient int position;
 
     private static final String TICK = "\u2713"; // Tick symbol
     private static final String CROSS = "\u2718"; // Cross symbol
@@ -30,6 +43,13 @@ public abstract class Task implements Serializable {
     private static final String PRIORITY_MED = "[\u2605\u2605]";// Med priority symbol
     private static final String PRIORITY_HIGH = "[\u2605\u2605\u2605]"; // High priority symbol
     static final int DEFAULT_REMINDER_VALUE = 1;
+    public static final long NO_MINUTE = Long.MIN_VALUE;
+    private static final String ZERO_PADDING = "0";
+    private static final String EMPTY = "";
+    private static final String DEADLINE_TIMING_PREFIX = "D: ";
+    private static final String START_TIME_PREFIX = "S: ";
+    private static final String END_TIME_PREFIX = "E: ";
+    private static final int SECONDS_PER_MINUTE = 60;
 
     /**
      * Constructor for task.
@@ -86,10 +106,86 @@ public abstract class Task implements Serializable {
         return (isDone ? TICK : CROSS); // Return tick or cross symbol
     }
 
+    //@@author fauzt
+    /**
+     * Converts the task to a string. The string is only rendered again once the task has been modified since it
+     * was last rendered, so listing unchanged tasks reuses their strings.
+     */
+    @Override
+    public final String toString() {
+        if (renderedString == null || renderedVersion != modificationCount) {
+            renderedString = render();
+            renderedVersion = modificationCount;
+        }
+        return renderedString;
+    }
+
+    /**
+     * Returns the label of the task in the timeline and the reminders, holding its module code, description and
+     * timings. Like {@link #toString()}, it is only rendered again once the task has been modified.
+     *
+     * @return The label of the task.
+     */
+    public String getScheduleLabel() {
+        if (scheduleLabel == null || scheduleLabelVersion != modificationCount) {
+            String name = modCode.equals("") ? description.trim() : modCode.trim() + " " + description.trim();
+            scheduleLabel = name + "\n" + getStartTime() + getEndTime();
+            scheduleLabelVersion = modificationCount;
+        }
+        return scheduleLabel;
+    }
+
+    private String getStartTime() {
+        String time;
+        if (startDate == null) {
+            return EMPTY;
+        }
+
+        int hour = startDate.getHour();
+        int minute = startDate.getMinute();
+        time = getFormattedTime(hour, minute);
+        if (endDate == null) {
+            time = DEADLINE_TIMING_PREFIX + time;
+        } else {
+            time = START_TIME_PREFIX + time + " ";
+        }
+
+        return time;
+    }
+
+    private String getEndTime() {
+        String time;
+        if (endDate == null) {
+            return EMPTY;
+        }
+        int hour = endDate.getHour();
+        int minute = endDate.getMinute();
+        time = getFormattedTime(hour, minute);
+        time = END_TIME_PREFIX + time;
+
+        return time;
+    }
+
+    private static String getFormattedTime(int hour, int minute) {
+        String time;
+        String formattedHour = Integer.toString(hour);
+        String formattedMinute = Integer.toString(minute);
+        if (formattedHour.length() == 1) {
+            formattedHour = ZERO_PADDING + formattedHour;
+        }
+        if (formattedMinute.length() == 1) {
+            formattedMinute = ZERO_PADDING + formattedMinute;
+        }
+        time = formattedHour + formattedMinute;
+        return time;
+    }
+
+    //@@author
+
     /**
      * converts the task to a string.
      */
-    public String toString() {
+    String render() {
         String message = getPriorityIcon() + "[" + getStatusIcon() + "] " + description;
         if (!comment.isBlank()) {
             message = message + "\nNote to self: " + comment;
@@ -101,9 +197,55 @@ public abstract class Task implements Serializable {
     }
 
     public String getType() {
-        return type;
+        return kind.getType();
     }
 
+    //@@author fauzt
+    public TaskKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the start date in whole minutes since the epoch, so that dates can be compared without going through
+     * LocalDateTime. The value is cached until the start date is replaced.
+     *
+     * @return The start minute, or {@link #NO_MINUTE} if the task has no start date.
+     */
+    public long getStartMinute() {
+        if (startDate == null) {
+            return NO_MINUTE;
+        }
+        if (startDate != minuteStartDate) {
+            startMinute = toEpochMinute(startDate);
+            minuteStartDate = startDate;
+        }
+        return startMinute;
+    }
+
+    /**
+     * Returns the end date in whole minutes since the epoch, cached like {@link #getStartMinute()}.
+     *
+     * @return The end minute, or {@link #NO_MINUTE} if the task has no end date.
+     */
+    public long getEndMinute() {
+        if (endDate == null) {
+            return NO_MINUTE;
+        }
+        if (endDate != minuteEndDate) {
+            endMinute = toEpochMinute(endDate);
+            minuteEndDate = endDate;
+        }
+        return endMinute;
+    }
+
+    /**
+     * Converts a date to whole minutes since the epoch, dropping any seconds.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE);
+    }
+    //@@author
+
     abstract boolean isClash(Task taskToCheck);
 
     public String getDescription() {
@@ -112,10 +254,12 @@ public abstract class Task implements Serializable {
 
     public void setDescription(String description) {
         this.description = description;
+        markModified();
     }
 
     public void setStartDate(LocalDateTime startDate) {
         this.startDate = startDate;
+        markModified();
     }
 
     public LocalDateTime getStartDate() {
@@ -124,18 +268,35 @@ public abstract class Task implements Serializable {
 
     public void setEndDate(LocalDateTime endDate) {
         this.endDate = endDate;
+        markModified();
     }
 
     public LocalDateTime getEndDate() {
         return endDate;
     }
 
+    //@@author fauzt
+    /**
+     * Moves the task to new dates at once, so that the indexes following the task see a single change and
+     * never a task that starts after it ends.
+     *
+     * @param startDate The new start date.
+     * @param endDate   The new end date.
+     */
+    public void setDates(LocalDateTime startDate, LocalDateTime endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        markModified();
+    }
+    //@@author
+
     public String getLocation() {
         return location;
     }
 
     public void setLocation(String location) {
         this.location = location;
+        markModified();
     }
 
     public Priority getPriority() {
@@ -144,6 +305,7 @@ public abstract class Task implements Serializable {
 
     public void setPriority(Priority priority) {
         this.priority = priority;
+        markModified();
     }
 
     public Reminder getReminder() {
@@ -152,6 +314,33 @@ public abstract class Task implements Serializable {
 
     public void setReminder(int days) {
         reminder = new Reminder(days, startDate);
+        markModified();
+    }
+
+    /**
+     * Returns the date on which the reminder of this task triggers.
+     *
+     * @return The reminder date, or null if the task has no reminder.
+     */
+    public LocalDateTime getReminderDate() {
+        if (reminder == null) {
+            return null;
+        }
+        return reminder.reminderDate;
+    }
+
+    /**
+     * Restores a reminder that triggers on the given date, used when reading tasks back from storage.
+     *
+     * @param reminderDate The date the reminder triggers on, or null to remove the reminder.
+     */
+    public void setReminderDate(LocalDateTime reminderDate) {
+        if (reminderDate == null) {
+            reminder = null;
+        } else {
+            reminder = new Reminder(reminderDate);
+        }
+        markModified();
     }
 
     public String getComment() {
@@ -160,6 +349,7 @@ public abstract class Task implements Serializable {
 
     public void setComment(String comment) {
         this.comment = comment;
+        markModified();
     }
 
     public boolean isIgnored() {
@@ -168,6 +358,7 @@ public abstract class Task implements Serializable {
 
     public void setIgnored(boolean isIgnored) {
         this.isIgnored = isIgnored;
+        markModified();
     }
 
     public boolean isDone() {
@@ -176,10 +367,46 @@ public abstract class Task implements Serializable {
 
     public void setDone(boolean isDone) {
         this.isDone = isDone;
+        markModified();
     }
 
     public String getModCode() {
         return modCode;
     }
 
+    public void setModCode(String modCode) {
+        this.modCode = modCode;
+        markModified();
+    }
+
+    //@@author fauzt
+    /**
+     * Returns the identifier of this task, which stays the same as other tasks are added, deleted or reordered.
+     *
+     * @return The identifier, or 0 if the task has not been added to a task list yet.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+        markModified();
+    }
+    //@@author
+
+    /**
+     * Records that this task has been changed so that storage can tell which tasks need to be persisted again.
+     */
+    protected void markModified() {
+        modificationCount++;
+        if (owner != null) {
+            owner.markModified(this);
+        }
+    }
+
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package chronologer.task;
+
+//@@author fauzt
+/**
+ * Secondary index over the tasks of a task list. The task list reports every task it gains or loses, and every
+ * task of it that is changed in place, so that queries can be answered from the index without a scan.
+ *
+ * <p>The same task may be added more than once, in which case it stays indexed until it is removed as many
+ * times.</p>
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+interface TaskIndex {
+
+    void add(Task task);
+
+    void remove(Task task);
+
+    /**
+     * Brings the entry of a task up to date after the task was changed in place. Tasks that are not indexed
+     * are ignored.
+     *
+     * @param task The changed task
+     */
+    void update(Task task);
+}
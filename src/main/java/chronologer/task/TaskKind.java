@@ -0,0 +1,43 @@
+package chronologer.task;
+
+//@@author fauzt
+/**
+ * This enumeration defines the kinds of tasks, each with the type name written to the save file.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public enum TaskKind {
+    DEADLINE("DEADLINE"),
+    EVENT("EVENT"),
+    TODO("TODO"),
+    TODO_DURATION("TODO DURATION"),
+    TODO_PERIOD("TODO PERIOD");
+
+    private static final TaskKind[] KINDS = values();
+
+    private final String type;
+
+    TaskKind(String type) {
+        this.type = type;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * Obtains the kind of task named by a type in the save file.
+     *
+     * @param type The type name of the task
+     * @return The kind of task, or null if the type is not a known task type
+     */
+    public static TaskKind of(String type) {
+        for (TaskKind kind : KINDS) {
+            if (kind.type.equals(type)) {
+                return kind;
+            }
+        }
+        return null;
+    }
+}
@@ -13,6 +13,10 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * The TaskList class handles all operations performed on the TaskList as well
@@ -23,11 +27,6 @@ import java.util.Comparator;
  */
 public class TaskList {
 
-    private static final String ZERO_PADDING = "0";
-    private static final String EMPTY = "";
-    private static final String DEADLINE_TIMING_PREFIX = "D: ";
-    private static final String START_TIME_PREFIX = "S: ";
-    private static final String END_TIME_PREFIX = "E: ";
     private static final int CURRENT_WEEK_INDICATOR = -1;
     private static final int DARK_MODE = 0;
     private static final int THEME_SETTING = 0;
@@ -42,6 +41,7 @@ public class TaskList {
         firstDay.with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY));
     private static final LocalDate firstSundayOfSemester =
         firstMondayOfSemester.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+    private static final int REMOVED = -1;
 
     private static int previousTheme = 0;
     private static int previousWeek = -1;
@@ -49,52 +49,43 @@ public class TaskList {
     private ObservableList<Task> observableListOfTasks;
     private ObservableList<Integer> currentSetting =
         FXCollections.observableArrayList(DARK_MODE, CURRENT_WEEK_INDICATOR);
+    private PersistentTaskList snapshot;
+    private Set<Task> modifiedTasks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private ArrayList<TaskIndex> indexes = new ArrayList<>();
+    private IdIndex idIndex = new IdIndex();
+    private ClashIndex clashIndex;
+    private DayIndex dayIndex;
+    private ModuleIndex moduleIndex;
+    private PriorityIndex priorityIndex;
+    private ReminderIndex reminderIndex;
+    private UndatedIndex undatedIndex;
+    private TextIndex textIndex;
+    private Availability availability = Availability.ALWAYS;
 
     public TaskList(ArrayList<Task> listOfTasks) {
         this.listOfTasks = listOfTasks;
         this.observableListOfTasks = FXCollections.observableArrayList(listOfTasks);
+        identify(listOfTasks);
+        adopt(listOfTasks);
     }
 
-    /**
-     * This custom comparator allows the sorting of both deadlines and events.
-     */
-    private static final Comparator<Task> DateComparator = (firstDate, secondDate) -> {
-        if (firstDate.startDate == null && secondDate != null) {
-            return -1;
-        } else if (firstDate.startDate != null && secondDate.startDate == null) {
-            return 1;
-        }
-        assert firstDate.startDate != null;
-        if (firstDate.startDate.isBefore(secondDate.startDate)) {
-            return -1;
-        } else if (firstDate.startDate.isEqual(secondDate.startDate)) {
-            return 0;
-        } else {
-            return 1;
-        }
-    };
-
-    /**
-     * This custom comparator allows the sorting of both deadlines and events.
-     */
-    private static final Comparator<Task> PriorityComparator = (firstPriority, secondPriority) -> {
-        if (firstPriority.priority.equals(Priority.HIGH) && secondPriority.priority.equals(Priority.MEDIUM)) {
-            return -1;
-        } else if (firstPriority.priority.equals(Priority.MEDIUM) && secondPriority.priority.equals(Priority.MEDIUM)) {
-            return 1;
-        } else {
-            return 0;
-        }
-    };
-
     /**
      * This function allows the use to add a particular task.
      *
      * @param task contains the task that needs to be added.
      */
     public void add(Task task) {
+        identify(task);
         listOfTasks.add(task);
         observableListOfTasks.add(task);
+        task.owner = this;
+        task.position = listOfTasks.size() - 1;
+        if (snapshot != null) {
+            snapshot = snapshot.add(TaskRecord.of(task));
+        }
+        for (TaskIndex index : indexes) {
+            index.add(task);
+        }
     }
 
     /**
@@ -103,28 +94,200 @@ public class TaskList {
      * @param indexOfTask this is the index of the task which needs to be deleted.
      */
     public Task delete(int indexOfTask) {
-        Task task = listOfTasks.get(indexOfTask);
-        listOfTasks.remove(task);
+        Task task = listOfTasks.remove(indexOfTask);
+        task.position = REMOVED;
+        renumber(indexOfTask);
         observableListOfTasks.remove(task);
+        if (snapshot != null) {
+            snapshot = snapshot.remove(indexOfTask);
+        }
+        idIndex.remove(task);
+        for (TaskIndex index : indexes) {
+            index.remove(task);
+        }
         return task;
     }
 
+    //@@author fauzt
+    /**
+     * Looks a task up by its id.
+     *
+     * @param id The id of the task.
+     * @return The task, or null if no task in this list holds the id.
+     */
+    public Task getById(long id) {
+        return idIndex.get(id);
+    }
+
+    /**
+     * Finds the current index of the task holding an id. Every task keeps its position in the list, which is
+     * renumbered as tasks are deleted or replaced, so the index is found without searching the list.
+     *
+     * @param id The id of the task.
+     * @return The index of the task, or -1 if no task in this list holds the id.
+     */
+    public int indexOfId(long id) {
+        Task task = idIndex.get(id);
+        return task == null ? -1 : positionOf(task);
+    }
+
     /**
-     * This function allows the user to find tasks with a particular keyword.
+     * Deletes the task holding an id.
      *
-     * @param keyWord this string contains the keyword the user is searching for.
+     * @param id The id of the task.
+     * @return The deleted task, or null if no task in this list holds the id.
+     */
+    public Task deleteById(long id) {
+        int indexOfTask = indexOfId(id);
+        return indexOfTask < 0 ? null : delete(indexOfTask);
+    }
+    //@@author
+
+    /**
+     * This function allows the user to find tasks with particular keywords. Every keyword has to begin a word
+     * of the description, module code, comment or location of a task, ignoring case.
+     *
+     * @param keyWord this string contains the keywords the user is searching for.
      */
     public ArrayList<Task> find(String keyWord) {
+        Set<Task> matchingTasks = textIndex().find(keyWord);
         ArrayList<Task> holdFoundTasks = new ArrayList<>();
-        for (int i = 0; i < listOfTasks.size(); i++) {
-            String findMatch = listOfTasks.get(i).toString();
-            if (findMatch.contains(keyWord)) {
-                holdFoundTasks.add(listOfTasks.get(i));
+        if (matchingTasks.isEmpty()) {
+            return holdFoundTasks;
+        }
+        for (Task task : listOfTasks) {
+            if (matchingTasks.contains(task)) {
+                holdFoundTasks.add(task);
             }
         }
         return holdFoundTasks;
     }
 
+    //@@author fauzt
+    /**
+     * Finds the tasks of a list that is not a task list, such as the archived tasks, with the same rules as
+     * {@link #find(String)}.
+     *
+     * @param listOfTasks The tasks to search.
+     * @param keyWord     The keywords to search for.
+     * @return The matching tasks in the order of the list.
+     */
+    public static ArrayList<Task> findAmong(List<Task> listOfTasks, String keyWord) {
+        ArrayList<Task> foundTasks = new ArrayList<>();
+        for (Task task : listOfTasks) {
+            if (TextIndex.matches(task, keyWord)) {
+                foundTasks.add(task);
+            }
+        }
+        return foundTasks;
+    }
+
+    /**
+     * Finds the tasks loosely matching every keyword, so that mistyped keywords still find their tasks. A keyword
+     * matches a word beginning with it, containing it or within a few typing mistakes of it.
+     *
+     * @param keyWord The keywords to search for.
+     * @return The matching tasks, closest matches first and in the order of the list otherwise.
+     */
+    public ArrayList<Task> findSimilar(String keyWord) {
+        IdentityHashMap<Task, Double> scores = textIndex().findSimilar(keyWord);
+        if (scores.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return rankByScore(listOfTasks, scores);
+    }
+
+    /**
+     * Finds the tasks of a list that is not a task list with the same rules as {@link #findSimilar(String)}.
+     *
+     * @param listOfTasks The tasks to search.
+     * @param keyWord     The keywords to search for.
+     * @return The matching tasks, closest matches first and in the order of the list otherwise.
+     */
+    public static ArrayList<Task> findSimilarAmong(List<Task> listOfTasks, String keyWord) {
+        IdentityHashMap<Task, Double> scores = new IdentityHashMap<>();
+        for (Task task : listOfTasks) {
+            double score = TextIndex.similarity(task, keyWord);
+            if (score > 0) {
+                scores.put(task, score);
+            }
+        }
+        return rankByScore(listOfTasks, scores);
+    }
+
+    /**
+     * Orders the scored tasks by descending score, keeping the order of the list among tasks of equal score.
+     * Matches only take a few distinct scores, so the tasks are gathered per score instead of being sorted.
+     */
+    private static ArrayList<Task> rankByScore(List<Task> listOfTasks, IdentityHashMap<Task, Double> scores) {
+        TreeMap<Double, ArrayList<Task>> tasksOfScores = new TreeMap<>(Comparator.reverseOrder());
+        for (Task task : listOfTasks) {
+            Double score = scores.get(task);
+            if (score != null) {
+                tasksOfScores.computeIfAbsent(score, key -> new ArrayList<>()).add(task);
+            }
+        }
+        ArrayList<Task> rankedTasks = new ArrayList<>();
+        for (ArrayList<Task> tasks : tasksOfScores.values()) {
+            rankedTasks.addAll(tasks);
+        }
+        return rankedTasks;
+    }
+
+    /**
+     * Lists the tasks of a module in the order they were added.
+     *
+     * @param modCode The module code, in any case.
+     * @return The tasks of the module.
+     */
+    public ArrayList<Task> tasksOfModule(String modCode) {
+        return moduleIndex().tasksOf(modCode);
+    }
+
+    /**
+     * Counts the deadlines of a module that are not done yet.
+     *
+     * @param modCode The module code, in any case.
+     * @return The number of pending deadlines.
+     */
+    public int countPendingDeadlines(String modCode) {
+        return moduleIndex().countPendingDeadlines(modCode);
+    }
+
+    /**
+     * Totals the minutes of the events of a module falling in the Monday to Sunday week of the given day.
+     *
+     * @param modCode   The module code, in any case.
+     * @param dayInWeek Any day of the week.
+     * @return The minutes of events in the week.
+     */
+    public long countEventMinutesInWeek(String modCode, LocalDate dayInWeek) {
+        return moduleIndex().minutesInWeek(modCode, dayInWeek.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+    }
+
+    /**
+     * Finds the exam of a module not done yet that starts the soonest at or after the given time.
+     *
+     * @param modCode The module code, in any case.
+     * @param now     The time to look from.
+     * @return The next exam, or null if there is none.
+     */
+    public Task findNextExam(String modCode, LocalDateTime now) {
+        return moduleIndex().nextExam(modCode, now);
+    }
+
+    /**
+     * Finds the deadline of a module not done yet that is due the soonest at or after the given time.
+     *
+     * @param modCode The module code, in any case.
+     * @param now     The time to look from.
+     * @return The next deadline, or null if there is none.
+     */
+    public Task findNextDeadline(String modCode, LocalDateTime now) {
+        return moduleIndex().nextDeadline(modCode, now);
+    }
+    //@@author
+
     /**
      * Performs a check as to determine if the task being added has a clash with
      * another task already scheduled.
@@ -133,13 +296,21 @@ public class TaskList {
      * @return boolean true if there is a clash, false if there is not clash.
      */
     public boolean isClash(Task taskToCheck) {
-        for (Task task : listOfTasks) {
-            if (task.isClash(taskToCheck)) {
-                return true;
-            }
-        }
-        return false;
+        return clashIndex().isClash(taskToCheck);
+    }
+
+    //@@author fauzt
+    /**
+     * Moves a task to new dates, keeping the indexes of this list up to date.
+     *
+     * @param task      The task to move.
+     * @param startDate The new start date.
+     * @param endDate   The new end date, or null if the task only has a start date.
+     */
+    public void postpone(Task task, LocalDateTime startDate, LocalDateTime endDate) {
+        task.setDates(startDate, endDate == null ? task.getEndDate() : endDate);
     }
+    //@@author
 
     /**
      * This function allows the user to mark a particular task as done.
@@ -205,119 +376,142 @@ public class TaskList {
     public ArrayList<Task> schedule(String dayToFind) {
         assert dayToFind != null;
         LocalDate dateToFind = LocalDate.parse(dayToFind, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
-        ArrayList<Task> sortedDateList = new ArrayList<>();
-        for (Task task : listOfTasks) {
-            if (task.startDate == null && task.endDate == null) {
-                continue;
-            }
-            assert task.startDate != null;
-            if (isOnDate(dateToFind, task.startDate)) {
-                sortedDateList.add(task);
-                continue;
-            }
-            if (task.endDate == null) {
-                continue;
-            }
-            if (isWithinDates(dateToFind, task.startDate, task.endDate)) {
-                sortedDateList.add(task);
-            }
-        }
-        sortedDateList.sort(DateComparator);
-        return sortedDateList;
+        return schedule(dateToFind);
     }
 
-    private boolean isOnDate(LocalDate dateToCheck, LocalDateTime startDate) {
-        return (dateToCheck.isEqual(startDate.toLocalDate()));
+    //@@author fauzt
+    /**
+     * Obtains the tasks on a particular date from the calendar index, sorted by start date.
+     *
+     * @param dateToFind The desired date of schedule.
+     * @return The tasks starting on the date or spanning it.
+     */
+    public ArrayList<Task> schedule(LocalDate dateToFind) {
+        return dayIndex().tasksBetween(dateToFind, dateToFind);
     }
 
-    private boolean isWithinDates(LocalDate dateToCheck, LocalDateTime startDate, LocalDateTime endDate) {
-        return !(dateToCheck.isBefore(startDate.toLocalDate()) || dateToCheck.isAfter(endDate.toLocalDate()));
+    /**
+     * Obtains the tasks on any date of a range, each task once, sorted by start date.
+     *
+     * @param firstDate The first date of the range.
+     * @param lastDate  The last date of the range.
+     * @return The tasks falling on any date of the range.
+     */
+    public ArrayList<Task> schedule(LocalDate firstDate, LocalDate lastDate) {
+        return dayIndex().tasksBetween(firstDate, lastDate);
     }
+    //@@author
 
     /**
      * This function allows the user to obtain the tasks on a particular date sorted
      * by priority.
      *
      * @param dayToFind is of String type which contains the desired date of
-     *                  schedule.
+     *                  schedule, in the dd/MM/yyyy format.
      * @return priorityList the tasks of the given day sorted by priority
      */
     public ArrayList<String> obtainPriorityList(String dayToFind) {
-        ArrayList<Task> priorityList = new ArrayList<>();
+        return obtainPriorityList(LocalDate.parse(dayToFind, DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+    }
+
+    //@@author fauzt
+    /**
+     * Lists the high and medium priority tasks falling on a day for display, the most urgent first and then in
+     * order of their start dates.
+     *
+     * @param dayToFind The day to list
+     * @return The display strings of the tasks
+     */
+    public ArrayList<String> obtainPriorityList(LocalDate dayToFind) {
         ArrayList<String> stringPriorityList = new ArrayList<>();
-        for (Task listOfTask : listOfTasks) {
-            if (listOfTask.toString().contains(dayToFind) && !listOfTask.priority.equals(Priority.LOW)) {
-                priorityList.add(listOfTask);
-            }
-        }
-        priorityList.sort(PriorityComparator);
-        for (int i = 0; i < priorityList.size(); i++) {
-            stringPriorityList.add(priorityList.get(i).toString());
+        for (Task task : prioritizedTasks(dayToFind, Priority.MEDIUM)) {
+            stringPriorityList.add(task.toString());
         }
         return stringPriorityList;
     }
 
     /**
-     * Fetches all tasks without dates.
+     * Lists the tasks falling on any part of a day with at least the given priority, the most urgent first and
+     * then in order of their start dates. Tasks spanning several days are listed under each of them.
+     *
+     * @param dayToFind      The day to list
+     * @param lowestPriority The lowest priority to include
+     * @return The tasks of the day
+     */
+    public ArrayList<Task> prioritizedTasks(LocalDate dayToFind, Priority lowestPriority) {
+        return priorityIndex().tasksOn(dayToFind, lowestPriority);
+    }
+    //@@author
+
+    /**
+     * Fetches all tasks without dates, in the order they were added.
      *
      * @return tasksWithoutDates tasks with no time constraint.
      */
     public ArrayList<String> obtainTasksWithoutDates() {
         ArrayList<String> tasksWithoutDates = new ArrayList<>();
-        for (int i = 0; i < listOfTasks.size(); i++) {
-            if (listOfTasks.get(i).startDate == null) {
-                tasksWithoutDates.add(listOfTasks.get(i).getDescription());
-            }
+        for (Task task : undatedIndex().undatedTasks()) {
+            tasksWithoutDates.add(task.getDescription());
         }
         return tasksWithoutDates;
     }
 
     //@@author fauzt
     /**
-     * Retrieves all Event tasks in the main task list in chronologically-ordered list.
+     * Finds the periods of a window in which no event, todo within a period or deadline keeps the user busy, at
+     * minute resolution. A deadline not done yet keeps the user busy for a short buffer before it is due. Only the
+     * hours the user is available count as free.
      *
-     * @param deadlineDate is the cut-off time to search all prior relevant events
-     * @return all the events in the main task list in chronological order
+     * @param from           is the start of the window
+     * @param to             is the end of the window, or null to search without an end
+     * @param minimumMinutes is the minutes a free slot must last to be listed
+     * @return the free slots in order of their start dates, the last one without an end if the window has none
      */
-    public ArrayList<Event> obtainEventList(LocalDateTime deadlineDate) {
-        ArrayList<Event> eventList = new ArrayList<>();
-        for (Task task : listOfTasks) {
-            if (isAnEventBeforeDeadline(task, deadlineDate)) {
-                eventList.add((Event) task);
-            }
+    public ArrayList<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, long minimumMinutes) {
+        if (to != null && !to.isAfter(from)) {
+            return new ArrayList<>();
         }
-        Collections.sort(eventList);
+        LocalDate lastDay = to == null ? LocalDate.MAX : to.toLocalDate().plusDays(1);
+        return BusyTimeline.of(dayIndex().tasksBetween(from.toLocalDate(), lastDay), availability)
+            .findFreeSlots(from, to, minimumMinutes);
+    }
 
-        return eventList;
+    /**
+     * Captures the busy periods of every task in a timeline that does not change with the list, so that free
+     * slots can be searched from other threads while the list is edited.
+     *
+     * @return the busy timeline of the list as it is now
+     */
+    public BusyTimeline snapshotBusyTimeline() {
+        return BusyTimeline.of(listOfTasks, availability);
     }
 
-    private boolean isAnEventBeforeDeadline(Task task, LocalDateTime deadlineDate) {
-        return task.getClass() == Event.class && task.startDate.isBefore(deadlineDate)
-            && task.endDate.isAfter(LocalDateTime.now());
+    public Availability getAvailability() {
+        return availability;
+    }
+
+    /**
+     * Sets the hours the user is available, which every later search for free slots is cut down to.
+     *
+     * @param availability the hours the user is available
+     */
+    public void setAvailability(Availability availability) {
+        assert availability != null;
+        this.availability = availability;
     }
 
     //@@author E0310898
 
     /**
      * Fetches all reminders for the current date. (Tasks within the next 3 days)
+     * The earliest reminder comes first.
      *
      * @return Holds reminders for the current date.
      */
     public ArrayList<String> fetchReminders() {
         ArrayList<String> reminders = new ArrayList<>();
-        for (Task task : listOfTasks) {
-            if (task.isReminderTrigger()) {
-                if (task.getModCode().equals("")) {
-                    reminders.add(task.getDescription().trim() + "\n"
-                        + getStartTime(task)
-                        + getEndTime(task));
-                } else {
-                    reminders.add(task.getModCode().trim() + " "
-                        + task.getDescription().trim() + "\n"
-                        + getStartTime(task)
-                        + getEndTime(task));
-                }
-            }
+        for (Task task : reminderIndex().triggeredAt(LocalDateTime.now())) {
+            reminders.add(task.getScheduleLabel());
         }
         return reminders;
     }
@@ -331,67 +525,28 @@ public class TaskList {
      * @return sortDateList which contains only the descriptions of the tasks.
      */
     public ArrayList<String> scheduleForDay(String dayToFind) {
-        ArrayList<Task> obtainDescriptions = schedule(dayToFind);
-        ArrayList<String> scheduleDescriptionOnly = new ArrayList<>();
-        for (Task task : obtainDescriptions) {
-            if (task.getModCode().equals("")) {
-                scheduleDescriptionOnly.add(task.getDescription().trim() + "\n"
-                    + getStartTime(task)
-                    + getEndTime(task));
-            } else {
-                scheduleDescriptionOnly.add(task.getModCode().trim() + " "
-                    + task.getDescription().trim() + "\n"
-                    + getStartTime(task)
-                    + getEndTime(task));
-            }
-        }
-        return scheduleDescriptionOnly;
+        return describeSchedule(schedule(dayToFind));
     }
 
     //@@author fauzt
-    private String getStartTime(Task task) {
-        String time;
-        if (task.startDate == null) {
-            return EMPTY;
-        }
-
-        int hour = task.startDate.getHour();
-        int minute = task.startDate.getMinute();
-        time = getFormattedTime(hour, minute);
-        if (task.endDate == null) {
-            time = DEADLINE_TIMING_PREFIX + time;
-        } else {
-            time = START_TIME_PREFIX + time + " ";
-        }
-
-        return time;
-    }
-
-    private String getEndTime(Task task) {
-        String time;
-        if (task.endDate == null) {
-            return EMPTY;
-        }
-        int hour = task.endDate.getHour();
-        int minute = task.endDate.getMinute();
-        time = getFormattedTime(hour, minute);
-        time = END_TIME_PREFIX + time;
-
-        return time;
+    /**
+     * Allows the GUI to obtain the descriptions of the tasks on a particular date without formatting and
+     * reparsing the date.
+     *
+     * @param dayToFind The desired date of schedule.
+     * @return The descriptions and timings of the tasks on the date.
+     */
+    public ArrayList<String> scheduleForDay(LocalDate dayToFind) {
+        return describeSchedule(schedule(dayToFind));
     }
 
-    private String getFormattedTime(int hour, int minute) {
-        String time;
-        String formattedHour = Integer.toString(hour);
-        String formattedMinute = Integer.toString(minute);
-        if (formattedHour.length() == 1) {
-            formattedHour = ZERO_PADDING + formattedHour;
-        }
-        if (formattedMinute.length() == 1) {
-            formattedMinute = ZERO_PADDING + formattedMinute;
+    //@@author E0310898
+    private ArrayList<String> describeSchedule(ArrayList<Task> obtainDescriptions) {
+        ArrayList<String> scheduleDescriptionOnly = new ArrayList<>();
+        for (Task task : obtainDescriptions) {
+            scheduleDescriptionOnly.add(task.getScheduleLabel());
         }
-        time = formattedHour + formattedMinute;
-        return time;
+        return scheduleDescriptionOnly;
     }
 
     //@@author
@@ -431,8 +586,10 @@ public class TaskList {
     }
 
     public void updateListOfTasks(ArrayList<Task> updatedListOfTasks) {
+        replaceChangedRange(updatedListOfTasks);
         listOfTasks.clear();
         listOfTasks = updatedListOfTasks;
+        adopt(updatedListOfTasks);
     }
 
     /**
@@ -478,6 +635,188 @@ public class TaskList {
         return listOfTasks;
     }
 
+    //@@author fauzt
+    /**
+     * Returns an immutable snapshot of the tasks. The snapshot is kept up to date as tasks are added, deleted
+     * and replaced, and the records of tasks edited in place since the last snapshot are replaced at their
+     * tracked positions, so taking one costs as much as the edits made since the last one.
+     *
+     * @return The snapshot of the current tasks
+     */
+    public PersistentTaskList snapshot() {
+        if (snapshot == null) {
+            snapshot = PersistentTaskList.ofTasks(listOfTasks);
+            modifiedTasks.clear();
+        } else if (!modifiedTasks.isEmpty()) {
+            for (Task task : modifiedTasks) {
+                int position = positionOf(task);
+                if (position >= 0) {
+                    snapshot = snapshot.set(position, TaskRecord.of(task));
+                }
+            }
+            modifiedTasks.clear();
+        }
+        return snapshot;
+    }
+
+    void markModified(Task task) {
+        if (snapshot != null) {
+            modifiedTasks.add(task);
+        }
+        idIndex.update(task);
+        for (TaskIndex index : indexes) {
+            index.update(task);
+        }
+    }
+
+    private TextIndex textIndex() {
+        if (textIndex == null) {
+            textIndex = register(new TextIndex());
+        }
+        return textIndex;
+    }
+
+    private DayIndex dayIndex() {
+        if (dayIndex == null) {
+            dayIndex = register(new DayIndex());
+        }
+        return dayIndex;
+    }
+
+    private PriorityIndex priorityIndex() {
+        if (priorityIndex == null) {
+            priorityIndex = register(new PriorityIndex());
+        }
+        return priorityIndex;
+    }
+
+    private ReminderIndex reminderIndex() {
+        if (reminderIndex == null) {
+            reminderIndex = register(new ReminderIndex());
+        }
+        return reminderIndex;
+    }
+
+    private UndatedIndex undatedIndex() {
+        if (undatedIndex == null) {
+            undatedIndex = register(new UndatedIndex());
+        }
+        return undatedIndex;
+    }
+
+    private ModuleIndex moduleIndex() {
+        if (moduleIndex == null) {
+            moduleIndex = register(new ModuleIndex());
+        }
+        return moduleIndex;
+    }
+
+    private ClashIndex clashIndex() {
+        if (clashIndex == null) {
+            clashIndex = register(new ClashIndex());
+        }
+        return clashIndex;
+    }
+
+    /**
+     * Fills a new index with the current tasks and keeps it up to date from then on.
+     */
+    private <T extends TaskIndex> T register(T index) {
+        for (Task task : listOfTasks) {
+            index.add(task);
+        }
+        indexes.add(index);
+        return index;
+    }
+
+    /**
+     * Indexes the ids of tasks joining this list. Tasks keep the ids they were stored with, and the tasks
+     * without one, or whose id is already held by another task, are given new ids once every kept id is known.
+     */
+    private void identify(List<Task> tasks) {
+        ArrayList<Task> tasksNeedingIds = new ArrayList<>();
+        for (Task task : tasks) {
+            if (idIndex.needsId(task)) {
+                tasksNeedingIds.add(task);
+            } else {
+                idIndex.add(task);
+            }
+        }
+        for (Task task : tasksNeedingIds) {
+            identify(task);
+        }
+    }
+
+    private void identify(Task task) {
+        if (idIndex.needsId(task)) {
+            task.setId(idIndex.nextId());
+        }
+        idIndex.add(task);
+    }
+
+    private void adopt(ArrayList<Task> tasks) {
+        for (Task task : tasks) {
+            task.owner = this;
+        }
+        renumber(0);
+    }
+
+    private void renumber(int fromIndex) {
+        for (int i = fromIndex; i < listOfTasks.size(); i++) {
+            listOfTasks.get(i).position = i;
+        }
+    }
+
+    /**
+     * Returns the position of a task in this list. The list itself is handed out by {@link #getTasks()}, so a
+     * position that no longer points back at its task is renumbered once before the task is given up on.
+     */
+    private int positionOf(Task task) {
+        if (task.position == REMOVED) {
+            return -1;
+        }
+        if (!isAt(task, task.position)) {
+            renumber(0);
+        }
+        return isAt(task, task.position) ? task.position : -1;
+    }
+
+    private boolean isAt(Task task, int position) {
+        return position >= 0 && position < listOfTasks.size() && listOfTasks.get(position) == task;
+    }
+
+    /**
+     * Replaces the records and index entries of the tasks that differ between the current and the updated list,
+     * found by skipping the tasks both lists share at their start and end. The replaced tasks are removed from
+     * every index before the new ones are given ids, so a task brought back by undo keeps its id.
+     */
+    private void replaceChangedRange(ArrayList<Task> updatedListOfTasks) {
+        ChangedRange range = ChangedRange.between(listOfTasks.size(), updatedListOfTasks.size(),
+            (oldIndex, newIndex) -> listOfTasks.get(oldIndex) == updatedListOfTasks.get(newIndex));
+        for (int i = range.getStart(); i < range.getOldEnd(); i++) {
+            Task task = listOfTasks.get(i);
+            task.position = REMOVED;
+            idIndex.remove(task);
+            for (TaskIndex index : indexes) {
+                index.remove(task);
+            }
+        }
+        identify(updatedListOfTasks.subList(range.getStart(), range.getNewEnd()));
+        for (TaskIndex index : indexes) {
+            for (int i = range.getStart(); i < range.getNewEnd(); i++) {
+                index.add(updatedListOfTasks.get(i));
+            }
+        }
+        if (snapshot != null) {
+            ArrayList<TaskRecord> records = new ArrayList<>(range.getInsertedCount());
+            for (int i = range.getStart(); i < range.getNewEnd(); i++) {
+                records.add(TaskRecord.of(updatedListOfTasks.get(i)));
+            }
+            snapshot = snapshot.splice(range.getStart(), range.getRemovedCount(), records);
+        }
+    }
+    //@@author
+
     public ObservableList<Task> getObservableListOfTasks() {
         return observableListOfTasks;
     }
@@ -0,0 +1,166 @@
+package chronologer.task;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+//@@author fauzt
+/**
+ * Immutable image of a task at one point in time. Records are shared freely between snapshots of the task
+ * list, and a live task can be recreated from a record whenever one is needed.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public final class TaskRecord implements Serializable {
+
+    private final TaskKind kind;
+    private final String description;
+    private final LocalDateTime startDate;
+    private final LocalDateTime endDate;
+    private final String location;
+    private final Priority priority;
+    private final LocalDateTime reminderDate;
+    private final String comment;
+    private final boolean isIgnored;
+    private final boolean isDone;
+    private final String modCode;
+    private final int duration;
+    private final long id;
+
+    /**
+     * Creates a record holding the given task fields.
+     */
+    public TaskRecord(TaskKind kind, String description, LocalDateTime startDate, LocalDateTime endDate,
+                      String location, Priority priority, LocalDateTime reminderDate, String comment,
+                      boolean isIgnored, boolean isDone, String modCode, int duration, long id) {
+        this.kind = kind;
+        this.description = description;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.location = location;
+        this.priority = priority;
+        this.reminderDate = reminderDate;
+        this.comment = comment;
+        this.isIgnored = isIgnored;
+        this.isDone = isDone;
+        this.modCode = modCode;
+        this.duration = duration;
+        this.id = id;
+    }
+
+    /**
+     * Captures the current state of a task.
+     *
+     * @param task The task to capture
+     * @return The record of the task
+     */
+    public static TaskRecord of(Task task) {
+        int duration = task instanceof Todo ? ((Todo) task).duration : 0;
+        return new TaskRecord(task.kind, task.description, task.startDate, task.endDate, task.location,
+            task.priority, task.getReminderDate(), task.comment, task.isIgnored, task.isDone, task.modCode,
+            duration, task.id);
+    }
+
+    /**
+     * Creates a new live task holding the fields of this record.
+     *
+     * @return The task, or null if the type of this record is not a known task type
+     */
+    public Task toTask() {
+        Task task = createTask();
+        if (task == null) {
+            return null;
+        }
+        task.location = location == null ? "" : location;
+        task.priority = priority == null ? Priority.MEDIUM : priority;
+        task.comment = comment == null ? "" : comment;
+        task.isIgnored = isIgnored;
+        task.isDone = isDone;
+        task.modCode = modCode == null ? "" : modCode;
+        task.reminder = reminderDate == null ? null : new Reminder(reminderDate);
+        task.id = id;
+        return task;
+    }
+
+    private Task createTask() {
+        if (kind == null) {
+            return null;
+        }
+        String taskDescription = description == null ? "" : description;
+        switch (kind) {
+        case DEADLINE:
+            return new Deadline(taskDescription, startDate);
+        case EVENT:
+            return new Event(taskDescription, startDate, endDate);
+        case TODO_PERIOD:
+            return createTodo(new Todo(taskDescription, startDate, endDate));
+        case TODO_DURATION:
+            return createTodo(new Todo(taskDescription, duration));
+        case TODO:
+            return createTodo(new Todo(taskDescription));
+        default:
+            return null;
+        }
+    }
+
+    private Todo createTodo(Todo todo) {
+        todo.duration = duration;
+        return todo;
+    }
+
+    public String getType() {
+        return kind == null ? null : kind.getType();
+    }
+
+    public TaskKind getKind() {
+        return kind;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public LocalDateTime getReminderDate() {
+        return reminderDate;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public boolean isIgnored() {
+        return isIgnored;
+    }
+
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public String getModCode() {
+        return modCode;
+    }
+
+    public int getDuration() {
+        return duration;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,311 @@
+package chronologer.task;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+//@@author fauzt
+/**
+ * Inverted index from the words of a task's description, module code, comment and location to the tasks using
+ * them. Words are compared without case, and every term of a query has to begin some word of a task for the
+ * task to match.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class TextIndex implements TaskIndex {
+
+    private static final int POSTING_CAPACITY = 2;
+
+    private final TreeMap<String, Posting> postings = new TreeMap<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+    private TrigramIndex trigrams;
+
+    /**
+     * The tasks using a word. Every entry refers to the word of the posting rather than to its own copy, so the
+     * words of all tasks are the same few strings.
+     */
+    private static class Posting {
+        private final String word;
+        private final Set<Task> tasks = Collections.newSetFromMap(new IdentityHashMap<>(POSTING_CAPACITY));
+
+        Posting(String word) {
+            this.word = word;
+        }
+    }
+
+    /**
+     * The text a task was indexed under, which may differ from its current text until it is updated.
+     */
+    private static class Entry {
+        private final String description;
+        private final String modCode;
+        private final String comment;
+        private final String location;
+        private final ArrayList<String> words;
+        private int count = 1;
+
+        Entry(Task task) {
+            this.description = task.description;
+            this.modCode = task.modCode;
+            this.comment = task.comment;
+            this.location = task.location;
+            this.words = wordsOf(task);
+        }
+
+        boolean isCurrent(Task task) {
+            return task.description == description && task.modCode == modCode && task.comment == comment
+                && task.location == location;
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        Entry entry = entries.get(task);
+        if (entry != null) {
+            entry.count++;
+            return;
+        }
+        entry = new Entry(task);
+        entries.put(task, entry);
+        index(task, entry);
+    }
+
+    @Override
+    public void remove(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || --entry.count > 0) {
+            return;
+        }
+        entries.remove(task);
+        unindex(task, entry);
+    }
+
+    @Override
+    public void update(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || entry.isCurrent(task)) {
+            return;
+        }
+        unindex(task, entry);
+        Entry updatedEntry = new Entry(task);
+        updatedEntry.count = entry.count;
+        entries.put(task, updatedEntry);
+        index(task, updatedEntry);
+    }
+
+    /**
+     * Finds the tasks matching every term of the query, starting from the term with the fewest matches.
+     *
+     * @param query The terms to search for
+     * @return The matching tasks, in no particular order, or an empty set if the query has no terms
+     */
+    Set<Task> find(String query) {
+        ArrayList<Set<Task>> matchesOfTerms = new ArrayList<>();
+        for (String term : tokenize(query)) {
+            matchesOfTerms.add(tasksWithPrefix(term));
+        }
+        if (matchesOfTerms.isEmpty()) {
+            return Collections.emptySet();
+        }
+        matchesOfTerms.sort((first, second) -> Integer.compare(first.size(), second.size()));
+        Set<Task> matches = matchesOfTerms.get(0);
+        for (int i = 1; i < matchesOfTerms.size() && !matches.isEmpty(); i++) {
+            matches.retainAll(matchesOfTerms.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Checks whether a task that is not indexed matches every term of the query, with the same rules as
+     * {@link #find(String)}.
+     */
+    static boolean matches(Task task, String query) {
+        ArrayList<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return false;
+        }
+        ArrayList<String> words = wordsOf(task);
+        for (String term : terms) {
+            if (words.stream().noneMatch(word -> word.startsWith(term))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Scores the tasks matching every term of the query, letting each term match a word that begins with it,
+     * contains it or is within a few edits of it. A task scores the sum over the terms of its best matching word.
+     * Only the tasks of the term matching the fewest tasks are gathered, and the other terms are checked against
+     * the words of those tasks.
+     *
+     * @param query The terms to search for
+     * @return The scores of the matching tasks, higher for closer matches
+     */
+    IdentityHashMap<Task, Double> findSimilar(String query) {
+        ArrayList<Map<String, Double>> wordsOfTerms = new ArrayList<>();
+        for (String term : tokenize(query)) {
+            wordsOfTerms.add(similarWords(term));
+        }
+        IdentityHashMap<Task, Double> scores = new IdentityHashMap<>();
+        if (wordsOfTerms.isEmpty()) {
+            return scores;
+        }
+        wordsOfTerms.sort(Comparator.comparingLong(this::countPostings));
+        for (Map.Entry<String, Double> word : wordsOfTerms.get(0).entrySet()) {
+            for (Task task : postings.get(word.getKey()).tasks) {
+                scores.merge(task, word.getValue(), Math::max);
+            }
+        }
+        for (int i = 1; i < wordsOfTerms.size(); i++) {
+            Map<String, Double> similarWords = wordsOfTerms.get(i);
+            scores.entrySet().removeIf(score -> {
+                double bestScore = 0;
+                for (String word : entries.get(score.getKey()).words) {
+                    bestScore = Math.max(bestScore, similarWords.getOrDefault(word, 0.0));
+                }
+                score.setValue(score.getValue() + bestScore);
+                return bestScore == 0;
+            });
+        }
+        return scores;
+    }
+
+    private long countPostings(Map<String, Double> similarWords) {
+        long count = 0;
+        for (String word : similarWords.keySet()) {
+            count += postings.get(word).tasks.size();
+        }
+        return count;
+    }
+
+    /**
+     * Scores a task that is not indexed against the query, with the same rules as {@link #findSimilar(String)}.
+     *
+     * @return The score of the task, or 0 if it does not match
+     */
+    static double similarity(Task task, String query) {
+        ArrayList<String> words = wordsOf(task);
+        double totalScore = 0;
+        for (String term : tokenize(query)) {
+            double bestScore = 0;
+            for (String word : words) {
+                bestScore = Math.max(bestScore, TrigramIndex.score(term, word));
+            }
+            if (bestScore == 0) {
+                return 0;
+            }
+            totalScore += bestScore;
+        }
+        return totalScore;
+    }
+
+    /**
+     * Finds the words matching a term. Terms too short to have trigrams of their own only match the words they
+     * begin.
+     */
+    private Map<String, Double> similarWords(String term) {
+        if (term.length() >= TrigramIndex.MIN_TERM_LENGTH) {
+            return trigrams().similarWords(term);
+        }
+        HashMap<String, Double> similarWords = new HashMap<>();
+        for (String word : postings.tailMap(term, true).keySet()) {
+            if (!word.startsWith(term)) {
+                break;
+            }
+            similarWords.put(word, TrigramIndex.score(term, word));
+        }
+        return similarWords;
+    }
+
+    /**
+     * Builds the trigram index of the words the first time a similar word is looked for, and keeps it up to date
+     * from then on.
+     */
+    private TrigramIndex trigrams() {
+        if (trigrams == null) {
+            trigrams = new TrigramIndex();
+            for (String word : postings.keySet()) {
+                trigrams.add(word);
+            }
+        }
+        return trigrams;
+    }
+
+    private Set<Task> tasksWithPrefix(String term) {
+        Set<Task> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Posting posting : postings.tailMap(term, true).values()) {
+            if (!posting.word.startsWith(term)) {
+                break;
+            }
+            tasks.addAll(posting.tasks);
+        }
+        return tasks;
+    }
+
+    private void index(Task task, Entry entry) {
+        for (int i = 0; i < entry.words.size(); i++) {
+            String word = entry.words.get(i);
+            Posting posting = postings.get(word);
+            if (posting == null) {
+                posting = new Posting(word);
+                postings.put(word, posting);
+                if (trigrams != null) {
+                    trigrams.add(word);
+                }
+            }
+            entry.words.set(i, posting.word);
+            posting.tasks.add(task);
+        }
+    }
+
+    private void unindex(Task task, Entry entry) {
+        for (String word : entry.words) {
+            Posting posting = postings.get(word);
+            posting.tasks.remove(task);
+            if (posting.tasks.isEmpty()) {
+                postings.remove(word);
+                if (trigrams != null) {
+                    trigrams.remove(word);
+                }
+            }
+        }
+    }
+
+    private static ArrayList<String> wordsOf(Task task) {
+        LinkedHashSet<String> words = new LinkedHashSet<>();
+        for (String field : new String[] {task.description, task.modCode, task.comment, task.location}) {
+            words.addAll(tokenize(field));
+        }
+        return new ArrayList<>(words);
+    }
+
+    /**
+     * Splits the text into lower case words made of letters and digits.
+     */
+    static ArrayList<String> tokenize(String text) {
+        ArrayList<String> words = new ArrayList<>();
+        if (text == null) {
+            return words;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordCharacter = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordCharacter && start < 0) {
+                start = i;
+            } else if (!isWordCharacter && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+}
@@ -15,15 +15,11 @@ import java.io.Serializable;
  */
 public class Todo extends Task implements Serializable {
 
-    private static final String TODO = "TODO";
-    private static final String TODO_DURATION = "TODO DURATION";
-    private static final String TODO_PERIOD = "TODO PERIOD";
-
     public int duration = 0;
 
     public Todo(String description) {
         super(description);
-        this.type = TODO;
+        this.kind = TaskKind.TODO;
     }
 
     /**
@@ -35,7 +31,7 @@ public class Todo extends Task implements Serializable {
     public Todo(String description, int duration) {
         super(description);
         this.duration = duration;
-        this.type = TODO_DURATION;
+        this.kind = TaskKind.TODO_DURATION;
     }
 
     /**
@@ -49,18 +45,34 @@ public class Todo extends Task implements Serializable {
         super(description);
         this.startDate = startDate;
         this.endDate = endDate;
-        this.type = TODO_PERIOD;
+        this.kind = TaskKind.TODO_PERIOD;
+    }
+
+    //@@author fauzt
+    /**
+     * Turns a todo with a duration into a todo within the given period, once a free period has been planned for it.
+     *
+     * @param startDate start time of the task
+     * @param endDate   end time of the task
+     */
+    public void setPeriod(LocalDateTime startDate, LocalDateTime endDate) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.duration = 0;
+        this.kind = TaskKind.TODO_PERIOD;
+        markModified();
     }
+    //@@author
 
     /**
-     * This override of the toString function of the task class etches the different
+     * This override of the render function of the task class etches the different
      * portions of the user input into a single string.
      *
      * @return This function returns a string of the required task in the desired
      *         output format of string type.
      */
     @Override
-    public String toString() {
+    String render() {
         String message = "";
         if (this.duration == 0 && this.startDate == null) {
             message = super.getPriorityIcon() + "[T]" + "[" + super.getStatusIcon() + "] " + this.description;
@@ -87,6 +99,7 @@ public class Todo extends Task implements Serializable {
     @Override
     public void setReminder(int days) {
         reminder = new Reminder(days);
+        markModified();
     }
 
     @Override
@@ -0,0 +1,153 @@
+package chronologer.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+//@@author fauzt
+/**
+ * Index from the trigrams of the words used by the tasks to those words, used to find the words close to a
+ * mistyped term without comparing the term to every word. Words are padded with two markers on each side, so a
+ * word within k edits of a term of length n shares at least n + 2 - 3k of its trigrams, and a word containing the
+ * term shares at least the n - 2 trigrams inside it, fewer by any trigram the term repeats. A word sharing t of the
+ * term's m trigrams has one of any m - t + 1 of them, so only the words of the rarest m - t + 1 trigrams are
+ * compared to the term.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class TrigramIndex {
+
+    static final int MIN_TERM_LENGTH = 3;
+    private static final String PADDING = "$$";
+    private static final int SHORT_TERM_LENGTH = 4;
+
+    private final HashMap<String, Set<String>> wordsOfTrigrams = new HashMap<>();
+
+    void add(String word) {
+        for (String trigram : trigramsOf(word)) {
+            wordsOfTrigrams.computeIfAbsent(trigram, key -> new HashSet<>()).add(word);
+        }
+    }
+
+    void remove(String word) {
+        for (String trigram : trigramsOf(word)) {
+            Set<String> words = wordsOfTrigrams.get(trigram);
+            if (words != null) {
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordsOfTrigrams.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the indexed words that contain the term or are within a few edits of it.
+     *
+     * @param term A lower case term of at least {@link #MIN_TERM_LENGTH} characters
+     * @return The matching words with their scores, as given by {@link #score(String, String)}
+     */
+    HashMap<String, Double> similarWords(String term) {
+        assert term.length() >= MIN_TERM_LENGTH;
+        Set<String> trigramsOfTerm = new HashSet<>(Arrays.asList(trigramsOf(term)));
+        int repeatedTrigrams = term.length() + 2 - trigramsOfTerm.size();
+        int minimumShared = Math.max(1, Math.min(term.length() - 2, term.length() + 2 - 3 * maxEdits(term))
+            - repeatedTrigrams);
+        ArrayList<Set<String>> wordsOfTermTrigrams = new ArrayList<>();
+        for (String trigram : trigramsOfTerm) {
+            wordsOfTermTrigrams.add(wordsOfTrigrams.getOrDefault(trigram, Collections.emptySet()));
+        }
+        wordsOfTermTrigrams.sort(Comparator.comparingInt(Set::size));
+        HashMap<String, Double> similarWords = new HashMap<>();
+        Set<String> comparedWords = new HashSet<>();
+        for (int i = 0; i < wordsOfTermTrigrams.size() - minimumShared + 1; i++) {
+            for (String word : wordsOfTermTrigrams.get(i)) {
+                if (comparedWords.add(word)) {
+                    double score = score(term, word);
+                    if (score > 0) {
+                        similarWords.put(word, score);
+                    }
+                }
+            }
+        }
+        return similarWords;
+    }
+
+    /**
+     * Scores how well a word matches a term. A word equal to the term scores 3, a word beginning with it between
+     * 2 and 3, a word containing it between 1 and 2, and a word within a few edits of it between 0 and 1, higher
+     * for fewer edits.
+     *
+     * @param term The lower case term
+     * @param word The lower case word
+     * @return The score, or 0 if the word does not match the term
+     */
+    static double score(String term, String word) {
+        if (word.equals(term)) {
+            return 3;
+        }
+        double coverage = (double) term.length() / word.length();
+        if (word.startsWith(term)) {
+            return 2 + coverage;
+        }
+        if (term.length() < MIN_TERM_LENGTH) {
+            return 0;
+        }
+        if (word.contains(term)) {
+            return 1 + coverage;
+        }
+        int maxEdits = maxEdits(term);
+        int edits = editDistance(term, word, maxEdits);
+        return edits > maxEdits ? 0 : 1 - (double) edits / term.length();
+    }
+
+    private static int maxEdits(String term) {
+        return term.length() <= SHORT_TERM_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Computes the Levenshtein distance of two strings, giving up once it exceeds the limit.
+     *
+     * @return The distance, or limit + 1 if it exceeds the limit
+     */
+    static int editDistance(String first, String second, int limit) {
+        if (Math.abs(first.length() - second.length()) > limit) {
+            return limit + 1;
+        }
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > limit) {
+                return limit + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return Math.min(previous[second.length()], limit + 1);
+    }
+
+    private static String[] trigramsOf(String word) {
+        String paddedWord = PADDING + word + PADDING;
+        String[] trigrams = new String[paddedWord.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = paddedWord.substring(i, i + 3);
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,85 @@
+package chronologer.task;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.TreeMap;
+
+//@@author fauzt
+/**
+ * View of the tasks without a start date, ordered by id so that tasks are listed in the order they were added.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class UndatedIndex implements TaskIndex {
+
+    private final TreeMap<Long, Task> tasksOfIds = new TreeMap<>();
+    private final IdentityHashMap<Task, Entry> entries = new IdentityHashMap<>();
+
+    /**
+     * The id a task was filed under and whether it was undated, which may differ from its current state until it
+     * is updated.
+     */
+    private static class Entry {
+        private final long id;
+        private final boolean isUndated;
+        private int count;
+
+        Entry(Task task) {
+            this.id = task.id;
+            this.isUndated = task.startDate == null;
+        }
+
+        boolean isCurrent(Task task) {
+            return task.id == id && (task.startDate == null) == isUndated;
+        }
+    }
+
+    @Override
+    public void add(Task task) {
+        Entry entry = entries.computeIfAbsent(task, key -> new Entry(task));
+        entry.count++;
+        if (entry.isUndated) {
+            tasksOfIds.put(entry.id, task);
+        }
+    }
+
+    @Override
+    public void remove(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || --entry.count > 0) {
+            return;
+        }
+        entries.remove(task);
+        if (entry.isUndated) {
+            tasksOfIds.remove(entry.id, task);
+        }
+    }
+
+    @Override
+    public void update(Task task) {
+        Entry entry = entries.get(task);
+        if (entry == null || entry.isCurrent(task)) {
+            return;
+        }
+        entries.remove(task);
+        if (entry.isUndated) {
+            tasksOfIds.remove(entry.id, task);
+        }
+        Entry updatedEntry = new Entry(task);
+        updatedEntry.count = entry.count;
+        entries.put(task, updatedEntry);
+        if (updatedEntry.isUndated) {
+            tasksOfIds.put(updatedEntry.id, task);
+        }
+    }
+
+    /**
+     * Lists the tasks without a start date in the order they were added.
+     *
+     * @return The undated tasks
+     */
+    ArrayList<Task> undatedTasks() {
+        return new ArrayList<>(tasksOfIds.values());
+    }
+}
@@ -173,9 +173,7 @@ public class TimelineWindow extends UiComponent<Region> {
      */
     private void prioritizedTodayTasks() {
         ObservableList<String> holdPriorityTasks;
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        LocalDateTime now = LocalDateTime.now();
-        holdPriorityTasks = FXCollections.observableArrayList(tasks.obtainPriorityList(dtf.format(now)));
+        holdPriorityTasks = FXCollections.observableArrayList(tasks.obtainPriorityList(LocalDate.now()));
         priorityTask.setItems(holdPriorityTasks);
     }
 
@@ -265,14 +263,14 @@ public class TimelineWindow extends UiComponent<Region> {
      * Populates the ListViews of the timeline.
      */
     private void populateEveryDay() {
-        String monday = getDay(MONDAY);
-        currentWeekLabel.setText("Your timeline for week staring with " + monday);
-        String tuesday = getDay(TUESDAY);
-        String wednesday = getDay(WEDNESDAY);
-        String thursday = getDay(THURSDAY);
-        String friday = getDay(FRIDAY);
-        String saturday = getDay(SATURDAY);
-        String sunday = getDay(SUNDAY);
+        currentWeekLabel.setText("Your timeline for week staring with " + getDay(MONDAY));
+        LocalDate monday = getDate(MONDAY);
+        LocalDate tuesday = getDate(TUESDAY);
+        LocalDate wednesday = getDate(WEDNESDAY);
+        LocalDate thursday = getDate(THURSDAY);
+        LocalDate friday = getDate(FRIDAY);
+        LocalDate saturday = getDate(SATURDAY);
+        LocalDate sunday = getDate(SUNDAY);
 
         setTasks(monday, tuesday, wednesday, mondayTask, tuesdayTask, wednesdayTask);
         setTasks(thursday, friday, saturday, thursdayTask, fridayTask, saturdayTask);
@@ -280,13 +278,21 @@ public class TimelineWindow extends UiComponent<Region> {
         sundayTask.setItems(sundayTasks);
     }
 
+    /**
+     * Returns date required of particular day.
+     * @param dayAdjuster Holds the days to subtract from Sunday eg. to get Monday subtract 6.
+     */
+    private LocalDate getDate(int dayAdjuster) {
+        return currentSundayDate.minusDays(dayAdjuster);
+    }
+
     /**
      * Returns date required of particular day as a String.
      * @param dayAdjuster Holds the days to subtract from Sunday eg. to get Monday subtract 6.
      */
     private String getDay(int dayAdjuster) {
         DateTimeFormatter dtf = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        return dtf.format(currentSundayDate.minusDays(dayAdjuster));
+        return dtf.format(getDate(dayAdjuster));
     }
 
     /**
@@ -333,7 +339,7 @@ public class TimelineWindow extends UiComponent<Region> {
     /**
      * Sets the tasks of the given day.
      */
-    private void setTasks(String day1, String day2, String day3, ListView<String> day1Task,
+    private void setTasks(LocalDate day1, LocalDate day2, LocalDate day3, ListView<String> day1Task,
                           ListView<String> day2Task, ListView<String> day3Task) {
         ObservableList<String> day1Tasks = FXCollections.observableArrayList(tasks.scheduleForDay(day1));
         day1Task.setItems(day1Tasks);
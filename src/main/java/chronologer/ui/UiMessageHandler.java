@@ -22,22 +22,40 @@ public class UiMessageHandler {
         TUTORIAL("6. Tutorials - tutorial<space>/m<space>module code<space>/at<space>day of week<space>"
                 + "start time-end time\n"),
         EXAM("7. Exams - exam<space>/m<space>module code<space>/at<space>date-time-date-time\n"),
-        LIST("8. To list out all your tasks simply enter list\n"),
+        LIST("8. To list out all your tasks simply enter list, add -r to also show the id of each task\n"),
         DONE("9. Done - done<space> index of the task as listed\n"),
-        FIND("10. Find - find<space>any word in the task\n"),
-        DELETE("11. Delete - delete<space> index of task as listed\n"),
+        FIND("10. Find - find<space>words or beginnings of words in the task, add --all to search archived tasks "
+                + "too\n"
+                + "\tstart with ~ to also match misspelt words, eg. find ~lectre, and add -r to show the id of each "
+                + "task\n"),
+        MODULE("10a. Module - module<space>module code, shows its tasks, pending deadlines, event hours this week "
+                + "and next exam\n"),
+        DELETE("11. Delete - delete<space> index of task as listed\n"
+                + "\tany command taking an index also takes # followed by the id of the task, eg. delete #12, as shown "
+                + "by list -r\n"),
         SEARCH("12. Search - search<space>duration of task in hours\n"),
         SCHEDULE("13. Schedule - schedule<space>index of todo to be scheduled<space>"
                 + "/by<space>index of deadline to be done by OR a raw date-time input\n"
                 + "\teg. schedule 5 /by 4 OR schedule 5 /by 05/01/2015 0900\n"),
         SCHEDULE_RAW("13a. Schedule with raw duration - schedule<space>duration value<space>-r<space>"
                 + "/by<space>index of deadline OR raw date-time\n"
-                + "\teg. schedule 2 -r /by 4 OR schedule 2 -r /by 05/01/2015 0900\n"),
+                + "\teg. schedule 2 -r /by 4 OR schedule 2 -r /by 05/01/2015 0900\n"
+                + "\tend either with /split<space>least minutes of a session<space>most sessions a day to split the "
+                + "duration\n"
+                + "\tinto sessions, eg. schedule 5 /by 4 /split 45 2, or /split alone for sessions of an hour, two a "
+                + "day\n"),
+        PLAN("13b. Plan - plan<space>optionally /by<space>date-time, places every todo with a duration in your free "
+                + "time\n"
+                + "\tbefore the next deadline of its module, or else before the date given or within 30 days\n"),
+        AVAILABLE("13c. Available hours - available, shows the hours searched for free slots, and changes them with\n"
+                + "\tavailable<space>day<space>HHmm<space>HHmm OR off OR any, eg. available mon 0900 1800\n"
+                + "\tavailable sleep<space>HHmm<space>HHmm OR none, available block OR unblock<space>dd/MM/yyyy, "
+                + "available reset\n"),
         COMMENT("14. Comment - comment<space>index of task as listed<space>your comment\n"),
         LOCATION("15. Location - location<space>index of task as listed<space>your location\n"),
         UNDO_REDO("16. Undo/Redo - undo or redo changes to your tasks\n"),
         THEME("17. Theme - theme<space>dark or light\n"),
-        STORE("18. Store/Restore - store or restore<space> index of storage\n"),
+        STORE("18. Store/Restore - store or restore<space>name of the version, enter versions to list them\n"),
         EXIT("19. To exit, enter bye\n\n"),
         USER_GUIDE("20. If still unclear, enter manual to see our user guide!");
 
@@ -0,0 +1,99 @@
+import chronologer.exception.ChronologerException;
+import chronologer.parser.ParserFactory;
+import chronologer.storage.Storage;
+import chronologer.task.Deadline;
+import chronologer.task.Event;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+import chronologer.ui.UiMessageHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests moving old tasks into the archive and reading them back.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class ArchiveTest {
+
+    private File file;
+    private File archive;
+
+    @BeforeEach
+    void setup() {
+        file = new File(System.getProperty("user.dir") + "/src/test/ArchiveTest");
+        archive = new File(file.getPath() + ".archive.gz");
+        file.delete();
+        archive.delete();
+    }
+
+    private static ArrayList<Task> createTasks() {
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(60);
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        Deadline doneDeadline = new Deadline("old assignment", longAgo);
+        doneDeadline.setDone(true);
+        listOfTasks.add(doneDeadline);
+        listOfTasks.add(new Event("old lecture", longAgo, longAgo.plusHours(2)));
+        listOfTasks.add(new Deadline("overdue assignment", longAgo));
+        listOfTasks.add(new Event("next lecture", LocalDateTime.now().plusDays(1),
+            LocalDateTime.now().plusDays(1).plusHours(2)));
+        Todo doneTodo = new Todo("read");
+        doneTodo.setDone(true);
+        listOfTasks.add(doneTodo);
+        return listOfTasks;
+    }
+
+    @Test
+    void testOldTasksMoveToArchive() throws ChronologerException {
+        Storage storage = new Storage(file);
+        TaskList tasks = new TaskList(createTasks());
+        Assertions.assertEquals(2, storage.archiveTasks(tasks));
+
+        Assertions.assertEquals(3, tasks.getSize());
+        Assertions.assertEquals("overdue assignment", tasks.getTasks().get(0).getDescription());
+        Assertions.assertEquals(3, new Storage(file).loadFile(file).getSize());
+        ArrayList<Task> archivedTasks = new Storage(file).loadArchive();
+        Assertions.assertEquals(2, archivedTasks.size());
+        Assertions.assertEquals("old lecture", archivedTasks.get(1).getDescription());
+        Assertions.assertEquals(0, storage.archiveTasks(tasks));
+    }
+
+    @Test
+    void testArchivalAppendsToExistingArchive() throws ChronologerException {
+        Storage storage = new Storage(file);
+        storage.archiveTasks(new TaskList(createTasks()));
+        storage.archiveTasks(new TaskList(createTasks()));
+        Assertions.assertEquals(4, new Storage(file).loadArchive().size());
+        Assertions.assertEquals(4, storage.loadArchive().size());
+    }
+
+    @Test
+    void testFindAllSearchesArchive() throws ChronologerException {
+        Storage storage = new Storage(file);
+        TaskList tasks = new TaskList(createTasks());
+        storage.archiveTasks(tasks);
+
+        ParserFactory.parse("find lecture").execute(tasks, storage, null);
+        Assertions.assertFalse(UiMessageHandler.getOutputForGui().contains("old lecture"));
+        ParserFactory.parse("find lecture --all").execute(tasks, storage, null);
+        String output = UiMessageHandler.getOutputForGui();
+        Assertions.assertTrue(output.contains("next lecture"));
+        Assertions.assertTrue(output.contains("archived"));
+        Assertions.assertTrue(output.contains("old lecture"));
+    }
+
+    @AfterEach
+    void teardown() {
+        file.delete();
+        archive.delete();
+    }
+}
@@ -0,0 +1,99 @@
+import chronologer.exception.ChronologerException;
+import chronologer.storage.Storage;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests saving through the background writer of Storage.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class AsyncSaveTest {
+
+    private File file;
+    private File journal;
+
+    @BeforeEach
+    void setup() {
+        file = new File(System.getProperty("user.dir") + "/src/test/AsyncSaveTest");
+        journal = new File(file.getPath() + ".journal");
+        file.delete();
+        journal.delete();
+    }
+
+    @Test
+    void testFlushWritesLatestStateOfBurst() throws ChronologerException {
+        Storage storage = new Storage(file);
+        storage.startBackgroundSaves();
+        TaskList tasks = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 500; i++) {
+            tasks.add(new Todo("task " + i));
+            storage.saveFile(tasks);
+        }
+        tasks.getTasks().get(0).setDescription("edited");
+        storage.saveFile(tasks);
+        storage.flush();
+
+        ArrayList<Task> loaded = new Storage(file).loadFile(file).getTasks();
+        Assertions.assertEquals(500, loaded.size());
+        Assertions.assertEquals("edited", loaded.get(0).getDescription());
+    }
+
+    @Test
+    void testChangeAfterSaveIsNotWritten() throws ChronologerException {
+        Storage storage = new Storage(file);
+        storage.startBackgroundSaves();
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.add(new Todo("saved"));
+        storage.saveFile(tasks);
+        tasks.getTasks().get(0).setDescription("unsaved");
+        storage.flush();
+
+        Assertions.assertEquals("saved", new Storage(file).loadFile(file).getTasks().get(0).getDescription());
+    }
+
+    @Test
+    void testJournaledBurstIsCoalesced() throws ChronologerException {
+        Storage storage = new Storage(file, true);
+        storage.startBackgroundSaves();
+        TaskList tasks = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new Todo("task " + i));
+            storage.saveFile(tasks);
+        }
+        storage.flush();
+
+        Assertions.assertEquals(100, new Storage(file, true).loadFile(file).getSize());
+    }
+
+    @Test
+    void testFailedWriteIsReportedOnFlush() {
+        File directory = new File(file.getPath() + "Directory");
+        directory.mkdirs();
+        Storage storage = new Storage(directory);
+        storage.startBackgroundSaves();
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(new Todo("lost"));
+
+        Assertions.assertDoesNotThrow(() -> storage.saveFile(listOfTasks));
+        Assertions.assertThrows(ChronologerException.class, storage::flush);
+        Assertions.assertDoesNotThrow(storage::flush);
+        directory.delete();
+    }
+
+    @AfterEach
+    void teardown() {
+        file.delete();
+        journal.delete();
+    }
+}
@@ -0,0 +1,72 @@
+import chronologer.exception.ChronologerException;
+import chronologer.storage.DurabilityPolicy;
+import chronologer.storage.Storage;
+import chronologer.task.Task;
+import chronologer.task.Todo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests the atomic saves and durability policies of Storage.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class AtomicSaveTest {
+
+    private File file;
+    private File tempFile;
+
+    @BeforeEach
+    void setup() {
+        file = new File(System.getProperty("user.dir") + "/src/test/AtomicSaveTest");
+        tempFile = new File(file.getPath() + ".tmp");
+        file.delete();
+        tempFile.delete();
+    }
+
+    @Test
+    void testFailedSaveKeepsPreviousFile() throws ChronologerException {
+        Storage storage = new Storage(file);
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(new Todo("kept"));
+        storage.saveFile(listOfTasks);
+
+        Assertions.assertTrue(tempFile.mkdir());
+        listOfTasks.add(new Todo("lost"));
+        Assertions.assertThrows(ChronologerException.class, () -> storage.saveFile(listOfTasks));
+
+        Assertions.assertFalse(tempFile.exists());
+        ArrayList<Task> loaded = storage.loadFile(file).getTasks();
+        Assertions.assertEquals(1, loaded.size());
+        Assertions.assertEquals("kept", loaded.get(0).getDescription());
+    }
+
+    @Test
+    void testEveryPolicySavesTheList() throws ChronologerException {
+        for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+            Storage storage = new Storage(file);
+            storage.setDurabilityPolicy(policy, 10);
+            ArrayList<Task> listOfTasks = new ArrayList<>();
+            listOfTasks.add(new Todo(policy.name()));
+            storage.saveFile(listOfTasks);
+            storage.flush();
+            storage.setDurabilityPolicy(DurabilityPolicy.NEVER);
+
+            Assertions.assertEquals(policy.name(), storage.loadFile(file).getTasks().get(0).getDescription());
+            Assertions.assertFalse(tempFile.exists());
+        }
+    }
+
+    @AfterEach
+    void teardown() {
+        file.delete();
+        tempFile.delete();
+    }
+}
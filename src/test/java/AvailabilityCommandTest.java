@@ -0,0 +1,87 @@
+import chronologer.command.AvailabilityCommand;
+import chronologer.command.Command;
+import chronologer.command.SearchCommand;
+import chronologer.exception.ChronologerException;
+import chronologer.parser.ParserFactory;
+import chronologer.storage.Storage;
+import chronologer.task.Availability;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.ui.UiMessageHandler;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests both positive/negative cases for setting the available hours of the user and keeping them in storage.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class AvailabilityCommandTest {
+
+    private static final File FILE = new File(System.getProperty("user.dir") + "/src/test/AvailabilityTest");
+
+    @Test
+    public void testAvailabilityCommand() throws ChronologerException {
+        TaskList tasks = new TaskList(new ArrayList<Task>());
+        Storage storage = new Storage(FILE);
+
+        Command available = ParserFactory.parse("available mon 0900 1800");
+        Assertions.assertTrue(available instanceof AvailabilityCommand);
+        available.execute(tasks, storage, null);
+        ParserFactory.parse("available sleep 2300 0700").execute(tasks, storage, null);
+        ParserFactory.parse("available block 25/12/2019").execute(tasks, storage, null);
+        ParserFactory.parse("available sun off").execute(tasks, storage, null);
+        Assertions.assertArrayEquals(new int[] {540, 1080},
+            tasks.getAvailability().getWorkingMinutes(DayOfWeek.MONDAY));
+        Assertions.assertTrue(UiMessageHandler.getOutputForGui()
+            .startsWith("Your available hours:\nMonday: 0900-1800\n"));
+
+        Availability storedAvailability = new Storage(FILE).loadAvailability();
+        Assertions.assertEquals(tasks.getAvailability().toString(), storedAvailability.toString());
+        Assertions.assertTrue(storedAvailability.getBlockedDates().contains(LocalDate.of(2019, 12, 25)));
+
+        ParserFactory.parse("available").execute(tasks, storage, null);
+        Assertions.assertTrue(UiMessageHandler.getOutputForGui().contains("Sleep: 2300-0700\n"));
+        ParserFactory.parse("available reset").execute(tasks, storage, null);
+        Assertions.assertTrue(new Storage(FILE).loadAvailability().isAlways());
+    }
+
+    @Test
+    public void testSearchWithinAvailableHours() throws ChronologerException {
+        TaskList tasks = new TaskList(new ArrayList<Task>());
+        Availability availability = Availability.ALWAYS;
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            availability = availability.withWorkingHours(dayOfWeek, 9 * 60, 17 * 60);
+        }
+        tasks.setAvailability(availability);
+        new SearchCommand((long) 10).execute(tasks, null, null);
+        Assertions.assertEquals("There is no free slot of this duration within your available hours in the next year",
+            UiMessageHandler.getOutputForGui());
+        new SearchCommand((long) 2).execute(tasks, null, null);
+        Assertions.assertTrue(UiMessageHandler.getOutputForGui().startsWith("Next free time slot of duration 2hrs")
+            || UiMessageHandler.getOutputForGui().startsWith("You can schedule something from now till"));
+    }
+
+    @Test
+    public void testInvalidAvailability() {
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("available mon 1800 0900"));
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("available mon 0960 1800"));
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("available mo 0900 1800"));
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("available sleep 2400 0700"));
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("available block 2019-12-25"));
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("available reset all"));
+    }
+
+    @AfterAll
+    static void teardown() {
+        new File(FILE.getPath() + ".availability.json").delete();
+    }
+}
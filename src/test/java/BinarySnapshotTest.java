@@ -0,0 +1,136 @@
+import chronologer.exception.ChronologerException;
+import chronologer.storage.BinarySnapshot;
+import chronologer.storage.Storage;
+import chronologer.task.Deadline;
+import chronologer.task.Event;
+import chronologer.task.Priority;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests the binary snapshot format and its use by Storage.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class BinarySnapshotTest {
+
+    private File file;
+    private File journal;
+
+    @BeforeEach
+    void setup() {
+        file = new File(System.getProperty("user.dir") + "/src/test/BinarySnapshotTest");
+        journal = new File(file.getPath() + ".journal");
+        file.delete();
+        journal.delete();
+    }
+
+    private ArrayList<Task> createTasks() {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        Deadline deadline = new Deadline("assignment", LocalDateTime.of(2019, 11, 1, 23, 59));
+        deadline.setModCode("CS2113");
+        deadline.setPriority(Priority.HIGH);
+        listOfTasks.add(deadline);
+        Event event = new Event("lecture", LocalDateTime.of(2019, 11, 2, 10, 0),
+            LocalDateTime.of(2019, 11, 2, 12, 0));
+        event.setLocation("LT19");
+        event.setDone(true);
+        listOfTasks.add(event);
+        Todo todo = new Todo("read", 3);
+        todo.setComment("chapter 3 \u2713");
+        todo.setIgnored(true);
+        listOfTasks.add(todo);
+        listOfTasks.add(new Todo("revise", LocalDateTime.of(2019, 11, 3, 9, 0),
+            LocalDateTime.of(2019, 11, 3, 11, 0)));
+        return listOfTasks;
+    }
+
+    @Test
+    void testRoundTripKeepsEveryField() throws IOException {
+        ArrayList<Task> listOfTasks = createTasks();
+        new TaskList(listOfTasks);
+        BinarySnapshot.write(file, listOfTasks);
+        ArrayList<Task> loaded = BinarySnapshot.read(file);
+
+        Assertions.assertEquals(listOfTasks.size(), loaded.size());
+        for (int i = 0; i < listOfTasks.size(); i++) {
+            Assertions.assertEquals(listOfTasks.get(i).toString(), loaded.get(i).toString());
+            Assertions.assertEquals(listOfTasks.get(i).getType(), loaded.get(i).getType());
+            Assertions.assertEquals(listOfTasks.get(i).getReminderDate(), loaded.get(i).getReminderDate());
+            Assertions.assertEquals(listOfTasks.get(i).isIgnored(), loaded.get(i).isIgnored());
+            Assertions.assertEquals(listOfTasks.get(i).getId(), loaded.get(i).getId());
+        }
+        Assertions.assertEquals(3, ((Todo) loaded.get(2)).duration);
+    }
+
+    @Test
+    void testSnapshotWithoutIdsIsStillRead() throws IOException {
+        BinarySnapshot.write(file, createTasks());
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        int recordCount = snapshot.getInt(8);
+        int recordsStart = 20 + snapshot.getInt(16);
+        int recordBytes = (snapshot.capacity() - recordsStart) / recordCount;
+        ByteBuffer legacySnapshot = ByteBuffer.allocate(recordsStart + (recordBytes - Long.BYTES) * recordCount);
+        legacySnapshot.put(snapshot.array(), 0, recordsStart).putInt(4, 1);
+        for (int i = 0; i < recordCount; i++) {
+            legacySnapshot.put(snapshot.array(), recordsStart + i * recordBytes, recordBytes - Long.BYTES);
+        }
+        Files.write(file.toPath(), legacySnapshot.array());
+
+        ArrayList<Task> loaded = BinarySnapshot.read(file);
+        Assertions.assertEquals(recordCount, loaded.size());
+        Assertions.assertEquals("revise", loaded.get(3).getDescription());
+        Assertions.assertEquals(0, loaded.get(3).getId());
+        Assertions.assertEquals(4, new TaskList(loaded).getById(4).getId());
+    }
+
+    @Test
+    void testConvertedFileIsDetectedAndStaysBinary() throws ChronologerException, IOException {
+        Storage storage = new Storage(file);
+        storage.saveFile(createTasks());
+        Assertions.assertFalse(BinarySnapshot.isSnapshot(file));
+        BinarySnapshot.convert(file, file);
+        Assertions.assertTrue(BinarySnapshot.isSnapshot(file));
+
+        ArrayList<Task> loaded = storage.loadFile(file).getTasks();
+        Assertions.assertEquals("assignment", loaded.get(0).getDescription());
+        loaded.remove(0);
+        storage.saveFile(loaded);
+
+        Assertions.assertTrue(BinarySnapshot.isSnapshot(file));
+        Assertions.assertEquals(3, new Storage(file).loadFile(file).getSize());
+    }
+
+    @Test
+    void testJournalCompactionKeepsBinarySnapshot() throws ChronologerException, IOException {
+        BinarySnapshot.write(file, createTasks());
+        Storage storage = new Storage(file, true);
+        ArrayList<Task> loaded = storage.loadFile(file).getTasks();
+        loaded.add(new Todo("new"));
+        storage.saveFile(loaded);
+        storage.compactJournal();
+
+        Assertions.assertTrue(BinarySnapshot.isSnapshot(file));
+        Assertions.assertEquals(5, BinarySnapshot.read(file).size());
+    }
+
+    @AfterEach
+    void teardown() {
+        file.delete();
+        journal.delete();
+    }
+}
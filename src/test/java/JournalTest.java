@@ -0,0 +1,131 @@
+import chronologer.exception.ChronologerException;
+import chronologer.storage.Storage;
+import chronologer.task.Deadline;
+import chronologer.task.Priority;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests the journaled storage mode.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class JournalTest {
+
+    private File file;
+    private File journal;
+
+    @BeforeEach
+    void setup() {
+        file = new File(System.getProperty("user.dir") + "/src/test/JournalTest");
+        journal = new File(file.getPath() + ".journal");
+        file.delete();
+        journal.delete();
+    }
+
+    @Test
+    void testChangesAreAppendedAndReplayed() throws ChronologerException, IOException {
+        Storage storage = new Storage(file, true);
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.add(new Todo("first"));
+        tasks.add(new Todo("third"));
+        storage.saveFile(tasks);
+        long journalLengthAfterFirstSave = journal.length();
+
+        tasks.add(new Deadline("second", LocalDateTime.of(2019, 12, 12, 19, 0)));
+        tasks.getTasks().get(1).setPriority(Priority.HIGH);
+        storage.saveFile(tasks);
+        String appended = new String(Files.readAllBytes(journal.toPath()), StandardCharsets.UTF_8)
+            .substring((int) journalLengthAfterFirstSave);
+
+        Assertions.assertFalse(file.exists());
+        Assertions.assertFalse(appended.contains("first\""), "Unchanged tasks should not be rewritten");
+        Assertions.assertTrue(appended.contains("\"op\":\"ADD\""));
+        Assertions.assertTrue(appended.contains("\"op\":\"UPDATE\""));
+
+        TaskList loaded = new Storage(file, true).loadFile(file);
+        Assertions.assertEquals(3, loaded.getSize());
+        Assertions.assertEquals(Priority.MEDIUM, loaded.getTasks().get(0).getPriority());
+        Assertions.assertEquals(Priority.HIGH, loaded.getTasks().get(1).getPriority());
+        Assertions.assertEquals("second", loaded.getTasks().get(2).getDescription());
+    }
+
+    @Test
+    void testEditsAfterLoadAreAppendedAsUpdates() throws ChronologerException, IOException {
+        Storage storage = new Storage(file, true);
+        TaskList tasks = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 50; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        storage.saveFile(tasks);
+
+        Storage reopened = new Storage(file, true);
+        TaskList loaded = reopened.loadFile(file);
+        long journalLengthAfterLoad = journal.length();
+        loaded.getTasks().get(3).setPriority(Priority.HIGH);
+        loaded.getTasks().get(40).setPriority(Priority.LOW);
+        reopened.saveFile(loaded);
+        String appended = new String(Files.readAllBytes(journal.toPath()), StandardCharsets.UTF_8)
+            .substring((int) journalLengthAfterLoad);
+
+        Assertions.assertFalse(appended.contains("\"op\":\"RESET\""));
+        Assertions.assertEquals(2, appended.split("\"op\":\"UPDATE\"", -1).length - 1);
+        TaskList reloaded = new Storage(file, true).loadFile(file);
+        Assertions.assertEquals(Priority.HIGH, reloaded.getTasks().get(3).getPriority());
+        Assertions.assertEquals(Priority.LOW, reloaded.getTasks().get(40).getPriority());
+    }
+
+    @Test
+    void testCompactionFoldsJournalIntoFile() throws ChronologerException {
+        Storage storage = new Storage(file, true);
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.add(new Todo("first"));
+        tasks.add(new Todo("second"));
+        storage.saveFile(tasks);
+        tasks.delete(0);
+        storage.saveFile(tasks);
+        storage.compactJournal();
+
+        Assertions.assertTrue(file.exists());
+        TaskList loaded = new Storage(file).loadFile(file);
+        Assertions.assertEquals(1, loaded.getSize());
+        Assertions.assertEquals("second", loaded.getTasks().get(0).getDescription());
+        Assertions.assertEquals(1, new Storage(file, true).loadFile(file).getSize());
+    }
+
+    @Test
+    void testTornRecordIsIgnored() throws ChronologerException, IOException {
+        Storage storage = new Storage(file, true);
+        ArrayList<Task> list = new ArrayList<>();
+        list.add(new Todo("kept"));
+        storage.saveFile(list);
+        try (FileOutputStream outputStream = new FileOutputStream(journal, true)) {
+            outputStream.write("1234\t{\"op\":\"ADD\",\"ind".getBytes(StandardCharsets.UTF_8));
+        }
+
+        TaskList loaded = new Storage(file, true).loadFile(file);
+        Assertions.assertEquals(1, loaded.getSize());
+        Assertions.assertEquals("kept", loaded.getTasks().get(0).getDescription());
+    }
+
+    @AfterEach
+    void teardown() {
+        file.delete();
+        journal.delete();
+    }
+}
@@ -0,0 +1,48 @@
+import chronologer.command.Command;
+import chronologer.command.ModuleCommand;
+import chronologer.exception.ChronologerException;
+import chronologer.parser.ParserFactory;
+import chronologer.task.Deadline;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.ui.UiMessageHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests both positive/negative cases for listing the tasks of a module.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class ModuleCommandTest {
+
+    private static final String EMPTY_MODULE = "There are no tasks for this module in your list.";
+
+    @Test
+    public void testModuleCommand() throws ChronologerException {
+        TaskList tasks = new TaskList(new ArrayList<Task>());
+        Deadline report = new Deadline("Lab report", LocalDateTime.now().plusDays(3), "CS2113");
+        tasks.add(report);
+
+        Command module = ParserFactory.parse("module cs2113");
+        Assertions.assertTrue(module instanceof ModuleCommand);
+        module.execute(tasks, null, null);
+        Assertions.assertEquals("Here are the task(s) of CS2113:\n1." + report.toString() + "\n"
+            + "Pending deadlines: 1\nEvent hours this week: 0.0\nNext exam: none\n",
+            UiMessageHandler.getOutputForGui());
+
+        new ModuleCommand("CS2101").execute(tasks, null, null);
+        Assertions.assertEquals(EMPTY_MODULE, UiMessageHandler.getOutputForGui());
+    }
+
+    @Test
+    public void testInvalidModuleCode() {
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("module lab"));
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("module"));
+    }
+}
@@ -0,0 +1,112 @@
+import chronologer.task.Deadline;
+import chronologer.task.PersistentTaskList;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.task.TaskRecord;
+import chronologer.task.Todo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+//@@author fauzt
+/**
+ * Tests the persistent task list and the snapshots taken from a task list.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class PersistentTaskListTest {
+
+    private static TaskRecord record(String description) {
+        return TaskRecord.of(new Todo(description));
+    }
+
+    private static ArrayList<String> descriptionsOf(PersistentTaskList list) {
+        ArrayList<String> descriptions = new ArrayList<>();
+        for (TaskRecord record : list) {
+            descriptions.add(record.getDescription());
+        }
+        return descriptions;
+    }
+
+    @Test
+    void testRandomEditsMatchArrayList() {
+        Random random = new Random(7);
+        PersistentTaskList list = PersistentTaskList.empty();
+        ArrayList<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (operation <= 1 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.insert(index, record("task " + i));
+                expected.add(index, "task " + i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                list = list.remove(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.set(index, record("set " + i));
+                expected.set(index, "set " + i);
+            }
+        }
+        Assertions.assertEquals(expected.size(), list.size());
+        Assertions.assertEquals(expected, descriptionsOf(list));
+        Assertions.assertEquals(expected.get(expected.size() / 2), list.get(expected.size() / 2).getDescription());
+    }
+
+    @Test
+    void testChangesLeaveEarlierSnapshotsIntact() {
+        ArrayList<TaskRecord> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(record("task " + i));
+        }
+        PersistentTaskList original = PersistentTaskList.of(records);
+        PersistentTaskList changed = original.splice(2, 3, List.of(record("new")));
+
+        Assertions.assertEquals(10, original.size());
+        Assertions.assertEquals("task 2", original.get(2).getDescription());
+        Assertions.assertEquals(8, changed.size());
+        Assertions.assertEquals("new", changed.get(2).getDescription());
+        Assertions.assertSame(original.get(9), changed.get(7));
+    }
+
+    @Test
+    void testTaskListSnapshotFollowsChanges() {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(new Todo("read"));
+        listOfTasks.add(new Deadline("submit", LocalDateTime.of(2019, 11, 1, 23, 59)));
+        TaskList tasks = new TaskList(listOfTasks);
+
+        PersistentTaskList first = tasks.snapshot();
+        Assertions.assertSame(first, tasks.snapshot());
+
+        tasks.add(new Todo("revise"));
+        tasks.getTasks().get(0).setComment("chapter 1");
+        tasks.delete(1);
+        PersistentTaskList second = tasks.snapshot();
+
+        Assertions.assertEquals(2, first.size());
+        Assertions.assertEquals("", first.get(0).getComment());
+        Assertions.assertEquals(List.of("read", "revise"), descriptionsOf(second));
+        Assertions.assertEquals("chapter 1", second.get(0).getComment());
+
+        ArrayList<Task> restored = first.toTasks();
+        tasks.updateListOfTasks(restored);
+        Assertions.assertEquals(List.of("read", "submit"), descriptionsOf(tasks.snapshot()));
+        Assertions.assertEquals(restored.get(1).toString(), tasks.snapshot().get(1).toTask().toString());
+
+        tasks.add(new Todo("practise"));
+        tasks.getTasks().get(0).setComment("edited then deleted");
+        tasks.delete(0);
+        tasks.getTasks().get(1).setComment("shifted");
+        PersistentTaskList third = tasks.snapshot();
+        Assertions.assertEquals(List.of("submit", "practise"), descriptionsOf(third));
+        Assertions.assertEquals("", third.get(0).getComment());
+        Assertions.assertEquals("shifted", third.get(1).getComment());
+    }
+}
@@ -0,0 +1,110 @@
+import chronologer.command.Command;
+import chronologer.command.PlanCommand;
+import chronologer.command.TaskPlanner;
+import chronologer.exception.ChronologerException;
+import chronologer.parser.ParserFactory;
+import chronologer.storage.ChronologerStateList;
+import chronologer.storage.Storage;
+import chronologer.task.Deadline;
+import chronologer.task.Event;
+import chronologer.task.Task;
+import chronologer.task.TaskKind;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+import chronologer.ui.UiMessageHandler;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests both positive/negative cases for planning the todos with a duration into the free time of the user.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class PlanCommandTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2019, 10, 1, 8, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HHmm");
+    private static final String TEST_PATH = System.getProperty("user.dir") + "/src/test/";
+    private static final File FILE = new File(TEST_PATH + "PlanTest");
+    private static final File[] VERSIONS = {new File(TEST_PATH + "planV1"), new File(TEST_PATH + "planV2"),
+        new File(TEST_PATH + "planV3")};
+
+    @Test
+    public void testPlanEarliestDeadlineFirst() {
+        Todo revise = new Todo("Revise", 3);
+        revise.setModCode("CS2113");
+        Todo read = new Todo("Read", 2);
+        Todo essay = new Todo("Essay", 50);
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(new Event("Lecture", NOW, NOW.withHour(12)));
+        listOfTasks.add(new Deadline("Lab report", NOW.plusDays(1), "CS2113"));
+        listOfTasks.add(revise);
+        listOfTasks.add(read);
+        listOfTasks.add(essay);
+        TaskList tasks = new TaskList(listOfTasks);
+
+        ArrayList<TaskPlanner.Placement> placements = new TaskPlanner(tasks, CLOCK).plan(NOW.withHour(14));
+        Assertions.assertEquals(3, placements.size());
+        Assertions.assertSame(read, placements.get(0).getTodo());
+        Assertions.assertEquals(NOW.withHour(12), placements.get(0).getStartDate());
+        Assertions.assertEquals(NOW.withHour(14), placements.get(0).getEndDate());
+        Assertions.assertSame(essay, placements.get(1).getTodo());
+        Assertions.assertFalse(placements.get(1).isPlanned());
+        Assertions.assertSame(revise, placements.get(2).getTodo());
+        Assertions.assertEquals(NOW.withHour(14), placements.get(2).getStartDate());
+        Assertions.assertEquals(NOW.withHour(17), placements.get(2).getEndDate());
+        Assertions.assertEquals(TaskKind.TODO_DURATION, revise.getKind());
+    }
+
+    @Test
+    public void testPlanCommandIsUndoneAtOnce() throws ChronologerException {
+        Todo read = new Todo("Read", 1);
+        Todo revise = new Todo("Revise", 2);
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.add(read);
+        tasks.add(revise);
+        tasks.add(new Todo("Practise"));
+        ChronologerStateList history = new ChronologerStateList(VERSIONS[0], VERSIONS[1], VERSIONS[2]);
+        history.addState(tasks.getTasks());
+
+        Command plan = ParserFactory.parse("plan /by " + LocalDateTime.now().plusDays(2).format(DATE_FORMAT));
+        Assertions.assertTrue(plan instanceof PlanCommand);
+        plan.execute(tasks, new Storage(FILE), history);
+        Assertions.assertEquals(TaskKind.TODO_PERIOD, read.getKind());
+        Assertions.assertEquals(TaskKind.TODO_PERIOD, revise.getKind());
+        Assertions.assertEquals(read.getEndDate(), revise.getStartDate());
+        Assertions.assertTrue(UiMessageHandler.getOutputForGui().startsWith("Planned the following todo(s):\n"));
+
+        tasks.updateListOfTasks(history.undo());
+        Assertions.assertEquals(TaskKind.TODO_DURATION, tasks.getTasks().get(0).getKind());
+        Assertions.assertEquals(TaskKind.TODO_DURATION, tasks.getTasks().get(1).getKind());
+
+        new PlanCommand(null).execute(new TaskList(new ArrayList<>()), null, null);
+        Assertions.assertEquals("You have no todos with a duration to plan.", UiMessageHandler.getOutputForGui());
+    }
+
+    @Test
+    public void testInvalidPlanDate() {
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("plan /by"));
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("plan /by someday"));
+    }
+
+    @AfterAll
+    static void teardown() {
+        FILE.delete();
+        for (File version : VERSIONS) {
+            version.delete();
+        }
+    }
+}
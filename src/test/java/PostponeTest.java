@@ -64,6 +64,23 @@ public class PostponeTest {
         Assertions.assertEquals(eventTest.getEndDate(), LocalDateTime.of(2005, 5, 5, 5, 0));
     }
 
+    //@@author fauzt
+    @Test
+    void testPostponeChangesTheTaskOnce() {
+        Task event = new Event("Moved", LocalDateTime.of(2003, 1, 1, 10, 0), LocalDateTime.of(2003, 1, 1, 12, 0));
+        TaskList movedTasks = new TaskList(new ArrayList<>());
+        movedTasks.add(event);
+        int modifications = event.getModificationCount();
+
+        movedTasks.postpone(event, LocalDateTime.of(2003, 1, 2, 13, 0), LocalDateTime.of(2003, 1, 2, 15, 0));
+        Assertions.assertEquals(modifications + 1, event.getModificationCount());
+        Assertions.assertTrue(movedTasks.isClash(new Event("Overlap", LocalDateTime.of(2003, 1, 2, 14, 0),
+            LocalDateTime.of(2003, 1, 2, 16, 0))));
+        Assertions.assertFalse(movedTasks.isClash(new Event("Old slot", LocalDateTime.of(2003, 1, 1, 10, 0),
+            LocalDateTime.of(2003, 1, 1, 12, 0))));
+    }
+    //@@author
+
     @Test
     void testClash() {
         PostponeCommand command = new PostponeCommand(3, LocalDateTime.of(2004, 4, 4, 4, 0));
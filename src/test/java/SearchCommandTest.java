@@ -5,7 +5,15 @@ import org.junit.jupiter.api.Test;
 
 import chronologer.command.SearchCommand;
 import chronologer.exception.ChronologerException;
+import chronologer.parser.DateTimeExtractor;
 import chronologer.parser.ParserFactory;
+import chronologer.task.Event;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.ui.UiMessageHandler;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 
 /**
  * unit test for search command feature.
@@ -47,4 +55,17 @@ public class SearchCommandTest {
             ParserFactory.parse("search h");
         });
     }
-}
\ No newline at end of file
+
+    //@@author fauzt
+    @Test
+    @DisplayName("Test search skips gaps shorter than the duration")
+    void testSearchSkipsShortGaps() {
+        LocalDateTime start = LocalDateTime.now().plusHours(1);
+        TaskList tasks = new TaskList(new ArrayList<Task>());
+        tasks.add(new Event("first", start, start.plusHours(2)));
+        tasks.add(new Event("second", start.plusHours(3), start.plusHours(4)));
+        new SearchCommand((long) 2).execute(tasks, null, null);
+        Assertions.assertEquals("You can schedule something after "
+            + start.plusHours(4).format(DateTimeExtractor.DATE_FORMATTER), UiMessageHandler.getOutputForGui());
+    }
+}
@@ -0,0 +1,97 @@
+import chronologer.exception.ChronologerException;
+import chronologer.storage.ChronologerStateList;
+import chronologer.task.Priority;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests that the undo history only keeps the changes between states.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class StateHistoryTest {
+
+    private ChronologerStateList history;
+    private TaskList tasks;
+
+    @BeforeEach
+    void setup() {
+        File directory = new File(System.getProperty("user.dir") + "/src/test");
+        history = new ChronologerStateList(new File(directory, "v1"), new File(directory, "v2"),
+            new File(directory, "v3"));
+        tasks = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 10; i++) {
+            tasks.add(new Todo("task " + i));
+        }
+        history.addState(tasks.getTasks());
+    }
+
+    @Test
+    void testUndoAndRedoInPlaceEdit() throws ChronologerException {
+        Task edited = tasks.getTasks().get(4);
+        Task untouched = tasks.getTasks().get(5);
+        edited.setPriority(Priority.HIGH);
+        history.addState(tasks.getTasks());
+
+        tasks.updateListOfTasks(history.undo());
+        Assertions.assertEquals(Priority.MEDIUM, tasks.getTasks().get(4).getPriority());
+        Assertions.assertSame(untouched, tasks.getTasks().get(5), "Unchanged tasks should not be copied");
+
+        tasks.updateListOfTasks(history.redo());
+        Assertions.assertEquals(Priority.HIGH, tasks.getTasks().get(4).getPriority());
+        Assertions.assertEquals(10, tasks.getSize());
+    }
+
+    @Test
+    void testUndoAddAndDeleteInSequence() throws ChronologerException {
+        tasks.add(new Todo("added"));
+        history.addState(tasks.getTasks());
+        tasks.delete(0);
+        history.addState(tasks.getTasks());
+
+        tasks.updateListOfTasks(history.undo());
+        Assertions.assertEquals("task 0", tasks.getTasks().get(0).getDescription());
+        Assertions.assertEquals(11, tasks.getSize());
+        tasks.updateListOfTasks(history.undo());
+        Assertions.assertEquals(10, tasks.getSize());
+        Assertions.assertThrows(ChronologerException.class, history::undo);
+    }
+
+    @Test
+    void testNewStateClearsRedo() throws ChronologerException {
+        tasks.add(new Todo("added"));
+        history.addState(tasks.getTasks());
+        tasks.updateListOfTasks(history.undo());
+        tasks.getTasks().get(0).setDone(true);
+        history.addState(tasks.getTasks());
+
+        Assertions.assertThrows(ChronologerException.class, history::redo);
+    }
+
+    @Test
+    void testHistoryDepthIsBounded() throws ChronologerException {
+        for (int i = 0; i < 150; i++) {
+            tasks.getTasks().get(0).setComment("edit " + i);
+            history.addState(tasks.getTasks());
+        }
+        int undone = 0;
+        try {
+            while (true) {
+                tasks.updateListOfTasks(history.undo());
+                undone++;
+            }
+        } catch (ChronologerException e) {
+            Assertions.assertEquals(100, undone);
+        }
+        Assertions.assertEquals("edit 49", tasks.getTasks().get(0).getComment());
+    }
+}
@@ -4,6 +4,7 @@ import chronologer.task.Deadline;
 import chronologer.task.Priority;
 import chronologer.task.Task;
 import chronologer.task.TaskList;
+import chronologer.task.Todo;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -49,11 +50,9 @@ class StorageTest {
         String jsonString = Files.readString(Paths.get(String.valueOf(file)), StandardCharsets.US_ASCII);
 
         String expectedJson = "[{\"type\":\"DEADLINE\",\"description\":\"Test\","
-            + "\"startDate\":{\"date\":{\"year\":2019,\"month\":12,\"day\":12},"
-            + "\"time\":{\"hour\":19,\"minute\":0,\"second\":0,\"nano\":0}},\"location\":\"\",\"priority\":\"MEDIUM\","
-            + "\"reminder\":{\"reminderDate\":{\"date\":{\"year\":2019,\"month\":12,\"day\":11},"
-            + "\"time\":{\"hour\":19,\"minute\":0,\"second\":0,\"nano\":0}}},\"comment\":\"\","
-            + "\"isIgnored\":false,\"isDone\":false,\"modCode\":\"\"}]";
+            + "\"startDate\":\"2019-12-12T19:00\",\"location\":\"\",\"priority\":\"MEDIUM\","
+            + "\"reminder\":\"2019-12-11T19:00\",\"comment\":\"\",\"isIgnored\":false,\"isDone\":false,"
+            + "\"modCode\":\"\",\"id\":1}]";
 
         Assertions.assertEquals(expectedJson, jsonString);
     }
@@ -67,7 +66,56 @@ class StorageTest {
         Assertions.assertEquals(task.getDescription(), deadlineTest.getDescription());
         Assertions.assertEquals(task.getStartDate(), deadlineTest.getStartDate());
         Assertions.assertEquals(Priority.MEDIUM, task.getPriority());
+        Assertions.assertEquals(deadlineTest.getId(), task.getId());
+    }
+
+    //@@author fauzt
+    @Test
+    @Order(3)
+    void testStreamingLoadOfTodoFields() throws ChronologerException, IOException {
+        File todoFile = new File(System.getProperty("user.dir") + "/src/test/GsonTodoTest");
+        String json = "[{\"duration\":3,\"type\":\"TODO DURATION\",\"description\":\"Read\","
+            + "\"location\":\"Library\",\"priority\":\"HIGH\",\"comment\":\"ch 3\",\"isIgnored\":false,"
+            + "\"isDone\":true,\"modCode\":\"CS2113\",\"unknownField\":[1,{\"a\":2}]},"
+            + "{\"type\":\"UNKNOWN\",\"description\":\"Skipped\"}]";
+        Files.write(todoFile.toPath(), json.getBytes(StandardCharsets.US_ASCII));
+
+        ArrayList<Task> loaded = storage.loadFile(todoFile).getTasks();
+        assert todoFile.delete();
+        Assertions.assertEquals(1, loaded.size());
+        Todo todo = (Todo) loaded.get(0);
+        Assertions.assertEquals(3, todo.duration);
+        Assertions.assertEquals("TODO DURATION", todo.getType());
+        Assertions.assertEquals("Library", todo.getLocation());
+        Assertions.assertEquals(Priority.HIGH, todo.getPriority());
+        Assertions.assertEquals("ch 3", todo.getComment());
+        Assertions.assertTrue(todo.isDone());
+        Assertions.assertEquals("CS2113", todo.getModCode());
+        Assertions.assertNull(todo.getReminderDate());
+    }
+
+    @Test
+    @Order(4)
+    void testLoadLegacyNestedDates() throws ChronologerException, IOException {
+        File legacyFile = new File(System.getProperty("user.dir") + "/src/test/GsonLegacyTest");
+        String json = "[{\"type\":\"EVENT\",\"description\":\"Test\","
+            + "\"startDate\":{\"date\":{\"year\":2019,\"month\":12,\"day\":12},"
+            + "\"time\":{\"hour\":19,\"minute\":0,\"second\":0,\"nano\":0}},"
+            + "\"endDate\":{\"date\":{\"year\":2019,\"month\":12,\"day\":12},"
+            + "\"time\":{\"hour\":21,\"minute\":30,\"second\":0,\"nano\":0}},\"location\":\"\","
+            + "\"priority\":\"LOW\",\"reminder\":{\"reminderDate\":{\"date\":{\"year\":2019,\"month\":12,"
+            + "\"day\":11},\"time\":{\"hour\":19,\"minute\":0,\"second\":0,\"nano\":0}}},\"comment\":\"\","
+            + "\"isIgnored\":false,\"isDone\":false,\"modCode\":\"\"}]";
+        Files.write(legacyFile.toPath(), json.getBytes(StandardCharsets.US_ASCII));
+
+        Task task = storage.loadFile(legacyFile).getTasks().get(0);
+        assert legacyFile.delete();
+        Assertions.assertEquals(LocalDateTime.of(2019, 12, 12, 19, 0), task.getStartDate());
+        Assertions.assertEquals(LocalDateTime.of(2019, 12, 12, 21, 30), task.getEndDate());
+        Assertions.assertEquals(LocalDateTime.of(2019, 12, 11, 19, 0), task.getReminderDate());
+        Assertions.assertEquals(Priority.LOW, task.getPriority());
     }
+    //@@author
 
     @AfterAll
     static void teardownSetup() {
@@ -0,0 +1,109 @@
+import chronologer.command.TaskScheduler;
+import chronologer.task.Event;
+import chronologer.task.Priority;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+//@@author fauzt
+/**
+ * Stress tests a scheduler queried from several threads at once while its task list keeps being edited, checking
+ * that every answer matches the one given by a single thread.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class TaskSchedulerConcurrencyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2019, 10, 1, 8, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private static final int EVENTS = 2_000;
+    private static final int THREADS = 8;
+    private static final int QUERIES_PER_THREAD = 500;
+
+    private static String query(TaskScheduler scheduler, int i) {
+        long duration = 1 + i % 7;
+        if (i % 5 == 0) {
+            return scheduler.scheduleTask(duration);
+        }
+        return scheduler.scheduleByDeadline(duration, NOW.plusHours(12 + i % 97 * 5));
+    }
+
+    @Test
+    public void testConcurrentQueriesMatchSerialAnswers() throws Exception {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            LocalDateTime start = NOW.plusMinutes(i * 41L);
+            Event event = new Event("event " + i, start, start.plusMinutes(30 + i % 4 * 15));
+            event.setPriority(i % 3 == 0 ? Priority.LOW : Priority.MEDIUM);
+            listOfTasks.add(event);
+        }
+        TaskList tasks = new TaskList(listOfTasks);
+        TaskScheduler scheduler = new TaskScheduler(tasks, CLOCK);
+        ArrayList<String> expectedAnswers = new ArrayList<>();
+        for (int i = 0; i < QUERIES_PER_THREAD; i++) {
+            expectedAnswers.add(query(scheduler, i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> results = new ArrayList<>();
+        try {
+            for (int thread = 0; thread < THREADS; thread++) {
+                int offset = thread;
+                Callable<Integer> queries = () -> {
+                    int mismatches = 0;
+                    for (int j = 0; j < QUERIES_PER_THREAD; j++) {
+                        int i = (j + offset * 61) % QUERIES_PER_THREAD;
+                        if (!query(scheduler, i).equals(expectedAnswers.get(i))) {
+                            mismatches++;
+                        }
+                    }
+                    return mismatches;
+                };
+                results.add(executor.submit(queries));
+            }
+            for (int i = 0; i < 200; i++) {
+                tasks.add(new Event("added " + i, NOW.plusHours(i), NOW.plusHours(i).plusMinutes(40)));
+            }
+            for (Future<Integer> result : results) {
+                Assertions.assertEquals(0, result.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSchedulerKeepsItsSnapshot() {
+        TaskList tasks = new TaskList(new ArrayList<>());
+        TaskScheduler scheduler = new TaskScheduler(tasks, CLOCK);
+        tasks.add(new Event("lecture", NOW.plusHours(1), NOW.plusHours(2)));
+        Assertions.assertEquals("You can schedule this task anytime.\n", scheduler.scheduleTask((long) 2));
+        Assertions.assertNotEquals("You can schedule this task anytime.\n",
+            new TaskScheduler(tasks, CLOCK).scheduleTask((long) 2));
+    }
+
+    @Test
+    public void testHardLimitFollowsTheClock() {
+        TaskList tasks = new TaskList(new ArrayList<>());
+        tasks.add(new Event("lecture", NOW.plusHours(1), NOW.plusHours(2)));
+        Clock laterClock = Clock.offset(CLOCK, Duration.ofDays(40));
+        Assertions.assertEquals("You can schedule this task anytime.\n",
+            new TaskScheduler(tasks, laterClock).scheduleTask((long) 2));
+        Assertions.assertNotEquals("You can schedule this task anytime.\n",
+            new TaskScheduler(tasks, CLOCK).scheduleTask((long) 2));
+    }
+}
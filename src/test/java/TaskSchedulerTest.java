@@ -5,7 +5,9 @@ import chronologer.task.Event;
 import chronologer.task.TaskList;
 import org.junit.jupiter.api.*;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 
 //@@author fauzt
@@ -63,7 +65,7 @@ public class TaskSchedulerTest {
     @Test
     public void testTaskSchedulerForEmptySchedule() {
         Long taskDuration = (long) 2;
-        String testOutput = TaskScheduler.scheduleByDeadline(tasks, taskDuration, firstDeadlineStartDate);
+        String testOutput = new TaskScheduler(tasks).scheduleByDeadline(taskDuration, firstDeadlineStartDate);
         String expectedOutput = "You can schedule this task from now till the deadline.\n";
         Assertions.assertTrue(testOutput.contains(expectedOutput));
     }
@@ -71,7 +73,7 @@ public class TaskSchedulerTest {
     @Test
     public void testTaskSchedulerForFilledSchedule() {
         Long taskDuration = (long) 2;
-        String testOutput = TaskScheduler.scheduleByDeadline(tasks, taskDuration, secondDeadlineStartDate);
+        String testOutput = new TaskScheduler(tasks).scheduleByDeadline(taskDuration, secondDeadlineStartDate);
         String expectedOutput = String.format("You can schedule this task from now till %s\n",
                 firstEventStartDate.format(DateTimeExtractor.DATE_FORMATTER))
                 + String.format("You can schedule this task from %s till %s\n",
@@ -89,7 +91,7 @@ public class TaskSchedulerTest {
         TaskList testTasks = createNewTaskList();
         Event testEvent = new Event("test event", eventAtNowStartDate, eventAtNowEndDate);
         testTasks.add(testEvent);
-        String testOutput = TaskScheduler.scheduleByDeadline(testTasks, taskDuration, firstDeadlineStartDate);
+        String testOutput = new TaskScheduler(testTasks).scheduleByDeadline(taskDuration, firstDeadlineStartDate);
         String expectedOutput = String.format("You can schedule this task from %s till %s\n",
                 eventAtNowEndDate.format(DateTimeExtractor.DATE_FORMATTER),
                 firstDeadlineStartDate.format(DateTimeExtractor.DATE_FORMATTER));
@@ -103,7 +105,7 @@ public class TaskSchedulerTest {
         Event testEvent = new Event("test event", eventAtFirstDeadlineStartDate,
                 eventAtFirstDeadlineEndDate);
         testTasks.add(testEvent);
-        String testOutput = TaskScheduler.scheduleByDeadline(testTasks, taskDuration, firstDeadlineStartDate);
+        String testOutput = new TaskScheduler(testTasks).scheduleByDeadline(taskDuration, firstDeadlineStartDate);
         String expectedOutput = String.format("You can schedule this task from now till %s\n",
                 eventAtFirstDeadlineStartDate.format(DateTimeExtractor.DATE_FORMATTER));
         Assertions.assertTrue(testOutput.contains(expectedOutput));
@@ -112,7 +114,7 @@ public class TaskSchedulerTest {
     @Test
     public void testTaskSchedulerForNoFreeSlots() {
         Long taskDuration = (long) 29;
-        String testOutput = TaskScheduler.scheduleByDeadline(tasks, taskDuration, secondDeadlineStartDate);
+        String testOutput = new TaskScheduler(tasks).scheduleByDeadline(taskDuration, secondDeadlineStartDate);
         String expectedOutput = "There is no free slot to insert the task. Consider freeing up your schedule.\n";
         Assertions.assertTrue(testOutput.contains(expectedOutput));
     }
@@ -120,7 +122,7 @@ public class TaskSchedulerTest {
     @Test
     public void testForExceededDuration() {
         Long taskDuration = (long) 25;
-        String testOutput = TaskScheduler.scheduleByDeadline(tasks, taskDuration, firstDeadlineStartDate);
+        String testOutput = new TaskScheduler(tasks).scheduleByDeadline(taskDuration, firstDeadlineStartDate);
         String expectedOutput = "The duration is too long to be done within now and the deadline.\n";
         Assertions.assertTrue(testOutput.contains(expectedOutput));
     }
@@ -128,7 +130,7 @@ public class TaskSchedulerTest {
     @Test
     public void testForExceededDurationWithHardLimit() {
         Long taskDuration = (long) 24 * 30 + 1;
-        String testOutput = TaskScheduler.scheduleTask(tasks, taskDuration);
+        String testOutput = new TaskScheduler(tasks).scheduleTask(taskDuration);
         String expectedOutput = "The duration is too long to be done within the next 30 days.\n";
         Assertions.assertTrue(testOutput.contains(expectedOutput));
     }
@@ -137,7 +139,7 @@ public class TaskSchedulerTest {
     public void testSchedulingForEmptyScheduleWithHardLimit() {
         Long taskDuration = (long) 2;
         TaskList testTasks = createNewTaskList();
-        String testOutput = TaskScheduler.scheduleTask(testTasks, taskDuration);
+        String testOutput = new TaskScheduler(testTasks).scheduleTask(taskDuration);
         String expectedOutput = "You can schedule this task anytime.\n";
         Assertions.assertTrue(testOutput.contains(expectedOutput));
     }
@@ -145,7 +147,7 @@ public class TaskSchedulerTest {
     @Test
     public void testFilledScheduleWithHardLimit() {
         Long taskDuration = (long) 2;
-        String testOutput = TaskScheduler.scheduleTask(tasks, taskDuration);
+        String testOutput = new TaskScheduler(tasks).scheduleTask(taskDuration);
         String expectedOutput = String.format("You can schedule this task from now till %s\n",
                 firstEventStartDate.format(DateTimeExtractor.DATE_FORMATTER))
                 + String.format("You can schedule this task from %s till %s\n",
@@ -156,4 +158,62 @@ public class TaskSchedulerTest {
                 LocalDateTime.now().plusDays(30).format(DateTimeExtractor.DATE_FORMATTER));
         Assertions.assertTrue(testOutput.contains(expectedOutput));
     }
+
+    private static TaskList createBusyDays(LocalDateTime firstDay) {
+        TaskList testTasks = createNewTaskList();
+        for (int i = 0; i < 3; i++) {
+            LocalDateTime day = firstDay.plusDays(i);
+            testTasks.add(new Event("lessons", day.withHour(9), day.withHour(23)));
+            if (i > 0) {
+                testTasks.add(new Event("sleep", day.withHour(0), day.withHour(7)));
+            }
+        }
+        return testTasks;
+    }
+
+    @Test
+    public void testSplittingIntoSessions() {
+        LocalDateTime now = LocalDateTime.of(2019, 10, 1, 8, 0);
+        Clock clock = Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        TaskScheduler scheduler = new TaskScheduler(createBusyDays(now.withHour(0)), clock);
+        Long taskDuration = (long) 4;
+        LocalDateTime deadlineDate = now.plusDays(3).withHour(0);
+        Assertions.assertTrue(scheduler.scheduleByDeadline(taskDuration, deadlineDate)
+                .contains("There is no free slot to insert the task."));
+
+        ArrayList<TaskScheduler.Session> sessions = scheduler.planSessions(taskDuration, deadlineDate, 60, 2);
+        Assertions.assertEquals(3, sessions.size());
+        Assertions.assertEquals(now, sessions.get(0).getStartDate());
+        Assertions.assertEquals(now.withHour(9), sessions.get(0).getEndDate());
+        Assertions.assertEquals(now.withHour(23), sessions.get(1).getStartDate());
+        Assertions.assertEquals(now.plusDays(1).withHour(0), sessions.get(1).getEndDate());
+        Assertions.assertEquals(now.plusDays(1).withHour(7), sessions.get(2).getStartDate());
+        Assertions.assertEquals(now.plusDays(1).withHour(9), sessions.get(2).getEndDate());
+
+        sessions = scheduler.planSessions(taskDuration, deadlineDate, 60, 1);
+        Assertions.assertEquals(3, sessions.size());
+        Assertions.assertEquals(now, sessions.get(0).getStartDate());
+        Assertions.assertEquals(now.plusDays(1).withHour(7), sessions.get(1).getStartDate());
+        Assertions.assertEquals(now.plusDays(1).withHour(9), sessions.get(1).getEndDate());
+        Assertions.assertEquals(now.plusDays(2).withHour(7), sessions.get(2).getStartDate());
+        Assertions.assertEquals(now.plusDays(2).withHour(8), sessions.get(2).getEndDate());
+
+        String expectedOutput = "You can split this task into the following session(s):\n"
+                + String.format("1. from %s till %s\n", now.format(DateTimeExtractor.DATE_FORMATTER),
+                now.withHour(9).format(DateTimeExtractor.DATE_FORMATTER));
+        Assertions.assertTrue(scheduler.scheduleInSessions(taskDuration, deadlineDate, 60, 2)
+                .startsWith(expectedOutput));
+    }
+
+    @Test
+    public void testSplittingWithoutEnoughFreeTime() {
+        LocalDateTime now = LocalDateTime.of(2019, 10, 1, 8, 0);
+        Clock clock = Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        TaskScheduler scheduler = new TaskScheduler(createBusyDays(now.withHour(0)), clock);
+        LocalDateTime deadlineDate = now.plusDays(3).withHour(0);
+        Assertions.assertTrue(scheduler.planSessions((long) 4, deadlineDate, 150, 2).isEmpty());
+        Assertions.assertTrue(scheduler.planSessions((long) 9, deadlineDate, 60, 2).isEmpty());
+        Assertions.assertEquals("There is not enough free time to split the task into sessions of at least 150 "
+                + "minutes, at most 2 a day.\n", scheduler.scheduleInSessions((long) 4, deadlineDate, 150, 2));
+    }
 }
@@ -0,0 +1,120 @@
+import chronologer.exception.ChronologerException;
+import chronologer.storage.ChronologerStateList;
+import chronologer.storage.Storage;
+import chronologer.storage.VersionStore;
+import chronologer.task.Deadline;
+import chronologer.task.PersistentTaskList;
+import chronologer.task.Task;
+import chronologer.task.Todo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests the content-addressed version store and the named versions built on it.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class VersionStoreTest {
+
+    private File directory;
+
+    @BeforeEach
+    void setup() {
+        directory = new File(System.getProperty("user.dir") + "/src/test/VersionStoreTest");
+        teardown();
+    }
+
+    private static ArrayList<Task> createTasks(int count) {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            listOfTasks.add(new Deadline("assignment " + i, LocalDateTime.of(2019, 11, 1, 23, 59).plusDays(i)));
+        }
+        return listOfTasks;
+    }
+
+    @Test
+    void testUnchangedTasksAreStoredOnce() throws IOException {
+        VersionStore store = new VersionStore(directory);
+        ArrayList<Task> listOfTasks = createTasks(200);
+        store.store("first", PersistentTaskList.ofTasks(listOfTasks));
+        long firstLength = new File(directory, "chunks.pack").length();
+
+        listOfTasks.get(0).setComment("started");
+        listOfTasks.add(new Todo("revise"));
+        store.store("second", PersistentTaskList.ofTasks(listOfTasks));
+        long growth = new File(directory, "chunks.pack").length() - firstLength;
+
+        Assertions.assertTrue(growth < firstLength / 5, "pack grew by " + growth + " of " + firstLength);
+        Assertions.assertEquals(200, store.restore("first").size());
+        ArrayList<Task> second = store.restore("second");
+        Assertions.assertEquals(201, second.size());
+        Assertions.assertEquals("started", second.get(0).getComment());
+        Assertions.assertNull(store.restore("third"));
+    }
+
+    @Test
+    void testVersionsAreListedFromAReopenedStore() throws IOException {
+        VersionStore store = new VersionStore(directory);
+        store.store("before exams", PersistentTaskList.ofTasks(createTasks(3)));
+        store.store("after exams", PersistentTaskList.ofTasks(createTasks(1)));
+        store.store("before exams", PersistentTaskList.ofTasks(createTasks(2)));
+
+        ArrayList<VersionStore.Version> versions = new VersionStore(directory).listVersions();
+        Assertions.assertEquals(2, versions.size());
+        Assertions.assertEquals("after exams", versions.get(0).getName());
+        Assertions.assertEquals("before exams", versions.get(1).getName());
+        Assertions.assertEquals(2, versions.get(1).getTaskCount());
+    }
+
+    @Test
+    void testIncompleteChunkIsDiscarded() throws IOException {
+        VersionStore store = new VersionStore(directory);
+        store.store("kept", PersistentTaskList.ofTasks(createTasks(5)));
+        try (FileOutputStream outputStream = new FileOutputStream(new File(directory, "chunks.pack"), true)) {
+            outputStream.write(new byte[] {1, 2, 3, 4, 5, 6, 7});
+        }
+
+        VersionStore reopened = new VersionStore(directory);
+        reopened.store("added", PersistentTaskList.ofTasks(createTasks(6)));
+        Assertions.assertEquals(5, new VersionStore(directory).restore("kept").size());
+        Assertions.assertEquals(6, new VersionStore(directory).restore("added").size());
+    }
+
+    @Test
+    void testOldVersionFilesAreImported() throws ChronologerException {
+        directory.mkdirs();
+        File oldVersion = new File(directory, "Version2");
+        new Storage(oldVersion).saveFile(createTasks(4));
+
+        ChronologerStateList history = new ChronologerStateList(new File(directory, "Version1"), oldVersion,
+            new File(directory, "Version3"));
+        Assertions.assertEquals(1, history.listVersions().size());
+        Assertions.assertEquals(4, history.restoreVersion(new ArrayList<>(), "2").size());
+        Assertions.assertThrows(ChronologerException.class, () -> history.restoreVersion(new ArrayList<>(), "1"));
+    }
+
+    @AfterEach
+    void teardown() {
+        deleteRecursively(directory);
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+}
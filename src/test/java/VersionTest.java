@@ -25,9 +25,7 @@ import java.util.ArrayList;
 class VersionTest {
     private static Storage storage;
     private static File file;
-    private static File v1;
-    private static File v2;
-    private static File v3;
+    private static File versions;
     private static ChronologerStateList history;
     private static ArrayList<Task> testStore;
     private static ArrayList<Task> testCurrent;
@@ -56,11 +54,9 @@ class VersionTest {
 
         file = new File(System.getProperty("user.dir") + "/src/test/Test");
 
-        v1 = new File(System.getProperty("user.dir") + "/src/test/v1");
-        v2 = new File(System.getProperty("user.dir") + "/src/test/v2");
-        v3 = new File(System.getProperty("user.dir") + "/src/test/v3");
+        versions = new File(System.getProperty("user.dir") + "/src/test/VersionTestStore");
 
-        history = new ChronologerStateList(v1, v2, v3);
+        history = new ChronologerStateList(versions);
         storage = new Storage(file);
     }
 
@@ -80,7 +76,7 @@ class VersionTest {
 
     @Test
     public void testStoreVersionCommand() throws ChronologerException {
-        Command store = new StoreVersionCommand(1);
+        Command store = new StoreVersionCommand("1");
         store.execute(testVersionCommand, storage, history);
         testVersionCommand.updateListOfTasks(history.restoreVersion(testVersionCommand.getTasks(),1));
         Assertions.assertEquals(0, testVersionCommand.getSize());
@@ -88,14 +84,16 @@ class VersionTest {
 
     @Test
     public void testRestoreVersionCommand() throws ChronologerException {
-        Command restore = new RestoreVersionCommand(2);
+        Command restore = new RestoreVersionCommand("2");
         restore.execute(testVersionCommand, storage, history);
         Assertions.assertEquals(2, testVersionCommand.getSize());
     }
 
     @AfterAll
     static void teardownSetup() {
-        assert v1.delete();
-        assert v2.delete();
+        for (File versionFile : versions.listFiles()) {
+            assert versionFile.delete();
+        }
+        assert versions.delete();
     }
 }
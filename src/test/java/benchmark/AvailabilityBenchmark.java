@@ -0,0 +1,49 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.task.Availability;
+import chronologer.task.BusyTimeline;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares searching a semester for free slots at any hour and within working hours, a sleep window and blocked
+ * dates, which should cost about the same as both are linear in the busy periods and days searched.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class AvailabilityBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final LocalDateTime START = LocalDateTime.of(2019, 8, 12, 0, 0);
+
+    /**
+     * Runs the benchmark, printing one line per search.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Task> listOfTasks = StorageLoadBenchmark.generateTasks(SIZE);
+        TaskList tasks = new TaskList(listOfTasks);
+        BusyTimeline anyHour = tasks.snapshotBusyTimeline();
+        Availability availability = Availability.ALWAYS.withSleep(23 * 60, 7 * 60)
+            .withWorkingHours(DayOfWeek.SATURDAY, 10 * 60, 16 * 60).withWorkingHours(DayOfWeek.SUNDAY, 0, 0);
+        for (int i = 0; i < 20; i++) {
+            availability = availability.withBlockedDate(LocalDate.of(2019, 9, 1).plusDays(i * 5));
+        }
+        tasks.setAvailability(availability);
+        BusyTimeline availableHours = tasks.snapshotBusyTimeline();
+        System.out.printf("%,d tasks%n", SIZE);
+        StorageLoadBenchmark.report("  any hour", () -> anyHour.findFreeSlots(START, START.plusDays(120), 0).size());
+        StorageLoadBenchmark.report("  available hours", () -> availableHours.findFreeSlots(START,
+            START.plusDays(120), 0).size());
+    }
+}
@@ -0,0 +1,96 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.task.Deadline;
+import chronologer.task.Event;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares checking every new task for clashes by scanning the whole list and by asking the list's index, the way
+ * a semester of lectures and assignments is entered one task at a time. Most new tasks clash with nothing, so
+ * the scan has to look at every task already in the list.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class ClashBenchmark {
+
+    private static final int[] SIZES = {2_000, 20_000};
+
+    /**
+     * Runs the benchmark, printing one line per list size and clash check.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        for (int size : SIZES) {
+            ArrayList<Task> semester = generateSemester(size);
+            System.out.printf("%,d tasks%n", size);
+            StorageLoadBenchmark.report("  scan", () -> addWithScan(semester));
+            StorageLoadBenchmark.report("  interval index", () -> addWithIndex(semester));
+        }
+    }
+
+    private static ArrayList<Task> generateSemester(int size) {
+        ArrayList<Task> semester = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2019, 8, 12, 8, 0);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime date = start.plusHours(3L * i);
+            if (i % 3 == 0) {
+                semester.add(new Deadline("assignment " + i, date.plusMinutes(150)));
+            } else {
+                semester.add(new Event("lecture " + i, date, date.plusHours(1 + i % 2)));
+            }
+        }
+        return semester;
+    }
+
+    private static int addWithScan(ArrayList<Task> semester) {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        int clashes = 0;
+        for (Task task : semester) {
+            for (Task existingTask : listOfTasks) {
+                if (isClash(existingTask, task)) {
+                    clashes++;
+                    break;
+                }
+            }
+            listOfTasks.add(task);
+        }
+        return clashes;
+    }
+
+    private static int addWithIndex(ArrayList<Task> semester) {
+        TaskList tasks = new TaskList(new ArrayList<>());
+        int clashes = 0;
+        for (Task task : semester) {
+            if (tasks.isClash(task)) {
+                clashes++;
+            }
+            tasks.add(task);
+        }
+        return clashes;
+    }
+
+    /**
+     * Applies the clash rules of events and deadlines through their public getters.
+     */
+    private static boolean isClash(Task existingTask, Task taskToCheck) {
+        LocalDateTime checkStart = taskToCheck.getStartDate();
+        LocalDateTime checkEnd = taskToCheck.getEndDate();
+        if (existingTask instanceof Deadline) {
+            LocalDateTime date = existingTask.getStartDate();
+            return checkEnd == null ? date.isEqual(checkStart) : checkStart.isBefore(date) && checkEnd.isAfter(date);
+        } else if (existingTask instanceof Event) {
+            LocalDateTime to = checkEnd == null ? checkStart : checkEnd;
+            return existingTask.getStartDate().isBefore(to) && existingTask.getEndDate().isAfter(checkStart);
+        }
+        return false;
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.storage.DurabilityPolicy;
+import chronologer.storage.Storage;
+import chronologer.task.Task;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Measures the latency of a single save under each durability policy, for a plain Json file and for a
+ * journaled one where each save appends a single change.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class DurabilityBenchmark {
+
+    private static final int TASKS = 1_000;
+    private static final int SAVES = 200;
+    private static final long GROUP_COMMIT_MILLIS = 100;
+
+    /**
+     * Runs the benchmark, printing one line per storage mode and policy.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Task> listOfTasks = StorageLoadBenchmark.generateTasks(TASKS);
+        System.out.printf("%,d saves of %,d tasks%n", SAVES, TASKS);
+        for (boolean isJournaled : new boolean[] {false, true}) {
+            for (DurabilityPolicy policy : DurabilityPolicy.values()) {
+                File file = File.createTempFile("chronologer-bench", ".json");
+                File journal = new File(file.getPath() + ".journal");
+                Storage storage = new Storage(file, isJournaled);
+                storage.setDurabilityPolicy(policy, GROUP_COMMIT_MILLIS);
+                storage.saveFile(listOfTasks);
+
+                long start = System.nanoTime();
+                for (int i = 0; i < SAVES; i++) {
+                    listOfTasks.get(i % TASKS).setComment("edit " + i);
+                    storage.saveFile(listOfTasks);
+                }
+                long elapsed = System.nanoTime() - start;
+                storage.flush();
+                System.out.printf("  %-9s %-13s %8.3f ms per save%n", isJournaled ? "journal" : "json",
+                    policy, elapsed / 1e6 / SAVES);
+                storage.setDurabilityPolicy(DurabilityPolicy.NEVER);
+                file.delete();
+                journal.delete();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.task.Event;
+import chronologer.task.Task;
+import chronologer.task.TaskKind;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Random;
+
+//@@author fauzt
+/**
+ * Compares sorting events and checking them for clashes through their LocalDateTime fields and through the epoch
+ * minutes cached on every task. The clash check scans every pair of a window of events, as the scan over the list
+ * did before the clash index, so that the cost of a single comparison dominates.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class EpochMinuteBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int WINDOW = 2_000;
+
+    /**
+     * Runs the benchmark, printing one line per path and representation.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Event> events = new ArrayList<>();
+        for (Task task : StorageLoadBenchmark.generateTasks(SIZE)) {
+            if (task.getKind() == TaskKind.EVENT) {
+                events.add((Event) task);
+            }
+        }
+        Collections.shuffle(events, new Random(16));
+        System.out.printf("%,d events%n", events.size());
+        StorageLoadBenchmark.report("  sort by LocalDateTime", () -> sort(events,
+            Comparator.comparing(Task::getStartDate)));
+        StorageLoadBenchmark.report("  sort by epoch minute", () -> sort(events,
+            Comparator.comparingLong(Task::getStartMinute)));
+
+        ArrayList<Event> window = new ArrayList<>(events.subList(0, WINDOW));
+        System.out.printf("%,d clash checks%n", WINDOW * WINDOW);
+        StorageLoadBenchmark.report("  clash by LocalDateTime", () -> countClashesByDate(window));
+        StorageLoadBenchmark.report("  clash by epoch minute", () -> countClashesByMinute(window));
+    }
+
+    private static int sort(ArrayList<Event> events, Comparator<Task> comparator) {
+        ArrayList<Event> sortedEvents = new ArrayList<>(events);
+        sortedEvents.sort(comparator);
+        return sortedEvents.size();
+    }
+
+    private static int countClashesByDate(ArrayList<Event> events) {
+        int clashes = 0;
+        for (Event event : events) {
+            for (Event other : events) {
+                LocalDateTime start = event.getStartDate();
+                if (start.isBefore(other.getEndDate()) && event.getEndDate().isAfter(other.getStartDate())) {
+                    clashes++;
+                }
+            }
+        }
+        return clashes;
+    }
+
+    private static int countClashesByMinute(ArrayList<Event> events) {
+        int clashes = 0;
+        for (Event event : events) {
+            for (Event other : events) {
+                if (event.getStartMinute() < other.getEndMinute() && event.getEndMinute() > other.getStartMinute()) {
+                    clashes++;
+                }
+            }
+        }
+        return clashes;
+    }
+}
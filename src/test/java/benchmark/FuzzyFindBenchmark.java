@@ -0,0 +1,42 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares finding tasks by misspelt keywords by scoring every task and by looking the keywords up in the trigram
+ * index of the words used by the tasks.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class FuzzyFindBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final String[] QUERIES = {"asignment", "reivse 4217", "meetng com2", "chaptr"};
+
+    /**
+     * Runs the benchmark, printing one line per query and search.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Task> listOfTasks = StorageLoadBenchmark.generateTasks(SIZE);
+        TaskList tasks = new TaskList(listOfTasks);
+        System.out.printf("%,d tasks%n", SIZE);
+        long start = System.nanoTime();
+        int found = tasks.findSimilar("warm").size();
+        System.out.printf("  building the indexes  %8.1f ms (%d found)%n", (System.nanoTime() - start) / 1e6, found);
+
+        for (String query : QUERIES) {
+            System.out.printf("\"%s\" finds %,d tasks%n", query, tasks.findSimilar(query).size());
+            StorageLoadBenchmark.report("  scan", () -> TaskList.findSimilarAmong(listOfTasks, query).size());
+            StorageLoadBenchmark.report("  trigram index", () -> tasks.findSimilar(query).size());
+        }
+    }
+}
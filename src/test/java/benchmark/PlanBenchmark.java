@@ -0,0 +1,70 @@
+package benchmark;
+
+import chronologer.command.TaskPlanner;
+import chronologer.exception.ChronologerException;
+import chronologer.task.Deadline;
+import chronologer.task.Event;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Times planning a semester worth of todos with a duration around the lessons and deadlines of several modules.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class PlanBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 8, 12, 8, 0);
+    private static final Clock CLOCK = Clock.fixed(START.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private static final String[] MODULES = {"CS2113", "CS2101", "CG2027", "CG2028", "MA1508E"};
+    private static final int EVENTS = 5_000;
+    private static final int DEADLINES = 100;
+    private static final int TODOS = 500;
+
+    /**
+     * Runs the benchmark, printing one line for the plan.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            LocalDateTime start = START.plusMinutes(i * 35L);
+            listOfTasks.add(new Event("Lesson " + i, start, start.plusMinutes(15 + i % 3 * 5),
+                MODULES[i % MODULES.length]));
+        }
+        for (int i = 0; i < DEADLINES; i++) {
+            listOfTasks.add(new Deadline("Assignment " + i, START.plusDays(7 + i), MODULES[i % MODULES.length]));
+        }
+        for (int i = 0; i < TODOS; i++) {
+            Todo todo = new Todo("Study " + i, 1 + i % 3);
+            if (i % 4 != 0) {
+                todo.setModCode(MODULES[i % MODULES.length]);
+            }
+            listOfTasks.add(todo);
+        }
+        TaskList tasks = new TaskList(listOfTasks);
+        TaskPlanner planner = new TaskPlanner(tasks, CLOCK);
+        System.out.printf("%,d events, %,d deadlines, %,d todos%n", EVENTS, DEADLINES, TODOS);
+        StorageLoadBenchmark.report("  plan", () -> countPlanned(planner.plan(START.plusDays(120))));
+    }
+
+    private static int countPlanned(ArrayList<TaskPlanner.Placement> placements) {
+        int count = 0;
+        for (TaskPlanner.Placement placement : placements) {
+            if (placement.isPlanned()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
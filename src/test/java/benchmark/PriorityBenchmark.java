@@ -0,0 +1,65 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.task.Priority;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares listing the prioritized tasks of a month of days by scanning the display string of every task for the
+ * day, as the list did before, and by reading the lists of the priority index.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class PriorityBenchmark {
+
+    private static final int SIZE = 100_000;
+    private static final int DAYS = 30;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2019, 9, 2);
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    /**
+     * Runs the benchmark, printing one line per listing.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Task> listOfTasks = StorageLoadBenchmark.generateTasks(SIZE);
+        for (int i = 0; i < listOfTasks.size(); i++) {
+            listOfTasks.get(i).setPriority(Priority.values()[i % Priority.values().length]);
+        }
+        TaskList tasks = new TaskList(listOfTasks);
+        tasks.obtainPriorityList(FIRST_DAY);
+        System.out.printf("%,d tasks, %d days%n", SIZE, DAYS);
+        StorageLoadBenchmark.report("  display string scan", () -> listWithScan(listOfTasks));
+        StorageLoadBenchmark.report("  priority index", () -> listWithIndex(tasks));
+    }
+
+    private static int listWithScan(ArrayList<Task> listOfTasks) {
+        int count = 0;
+        for (int i = 0; i < DAYS; i++) {
+            String day = DAY_FORMAT.format(FIRST_DAY.plusDays(i));
+            for (Task task : listOfTasks) {
+                if (task.toString().contains(day) && task.getPriority() != Priority.LOW) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private static int listWithIndex(TaskList tasks) {
+        int count = 0;
+        for (int i = 0; i < DAYS; i++) {
+            count += tasks.obtainPriorityList(FIRST_DAY.plusDays(i)).size();
+        }
+        return count;
+    }
+}
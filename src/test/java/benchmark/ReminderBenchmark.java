@@ -0,0 +1,50 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares refreshing the reminders and the undated tasks of the timeline by scanning every task, as the list did
+ * before, and by reading the views the list keeps.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class ReminderBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    /**
+     * Runs the benchmark, printing one line per refresh.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Task> listOfTasks = StorageLoadBenchmark.generateTasks(SIZE);
+        TaskList tasks = new TaskList(listOfTasks);
+        System.out.printf("%,d tasks%n", SIZE);
+        StorageLoadBenchmark.report("  scan", () -> refreshWithScan(listOfTasks));
+        StorageLoadBenchmark.report("  views", () -> tasks.fetchReminders().size()
+            + tasks.obtainTasksWithoutDates().size());
+    }
+
+    private static int refreshWithScan(ArrayList<Task> listOfTasks) {
+        int count = 0;
+        for (Task task : listOfTasks) {
+            if (task.isReminderTrigger()) {
+                count += task.getScheduleLabel().length();
+            }
+        }
+        for (Task task : listOfTasks) {
+            if (task.getStartDate() == null) {
+                count += task.getDescription().length();
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,57 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.task.Task;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares rendering every task of a list for display and for the timeline when every task was just modified, so
+ * its strings are rendered again, and when no task changed since the last refresh, so the cached strings are
+ * reused.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class RenderBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    /**
+     * Runs the benchmark, printing one line per rendering and cache state.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Task> listOfTasks = StorageLoadBenchmark.generateTasks(SIZE);
+        System.out.printf("%,d tasks%n", SIZE);
+        StorageLoadBenchmark.report("  display, all modified", () -> renderDisplay(listOfTasks, true));
+        StorageLoadBenchmark.report("  display, unchanged", () -> renderDisplay(listOfTasks, false));
+        StorageLoadBenchmark.report("  timeline, all modified", () -> renderTimeline(listOfTasks, true));
+        StorageLoadBenchmark.report("  timeline, unchanged", () -> renderTimeline(listOfTasks, false));
+    }
+
+    private static int renderDisplay(ArrayList<Task> listOfTasks, boolean isModified) {
+        int length = 0;
+        for (Task task : listOfTasks) {
+            if (isModified) {
+                task.setPriority(task.getPriority());
+            }
+            length += task.toString().length();
+        }
+        return length;
+    }
+
+    private static int renderTimeline(ArrayList<Task> listOfTasks, boolean isModified) {
+        int length = 0;
+        for (Task task : listOfTasks) {
+            if (isModified) {
+                task.setPriority(task.getPriority());
+            }
+            length += task.getScheduleLabel().length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,45 @@
+package benchmark;
+
+import chronologer.command.TaskScheduler;
+import chronologer.exception.ChronologerException;
+import chronologer.task.Event;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Times splitting long durations into sessions across a month of short gaps between lessons, none of which can
+ * hold a whole duration.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class SessionBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 8, 12, 8, 0);
+    private static final Clock CLOCK = Clock.fixed(START.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private static final int EVENTS = 30 * 24 * 2;
+
+    /**
+     * Runs the benchmark, printing one line per session limit.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            LocalDateTime start = START.plusMinutes(i * 30L);
+            listOfTasks.add(new Event("Lesson " + i, start, start.plusMinutes(10 + i % 3 * 5)));
+        }
+        TaskScheduler scheduler = new TaskScheduler(new TaskList(listOfTasks), CLOCK);
+        System.out.printf("%,d events%n", EVENTS);
+        StorageLoadBenchmark.report("  10 min, 4 a day", () -> scheduler.planSessions(2L, null, 10, 4).size());
+        StorageLoadBenchmark.report("  15 min, 48 a day", () -> scheduler.planSessions(100L, null, 15, 48).size());
+    }
+}
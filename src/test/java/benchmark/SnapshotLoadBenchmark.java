@@ -0,0 +1,47 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.storage.BinarySnapshot;
+import chronologer.storage.Storage;
+import chronologer.task.Task;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares loading large task lists from the Json save file and from a binary snapshot.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class SnapshotLoadBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+
+    /**
+     * Runs the benchmark, printing one line per list size and file format.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        for (int size : SIZES) {
+            ArrayList<Task> listOfTasks = StorageLoadBenchmark.generateTasks(size);
+            File jsonFile = File.createTempFile("chronologer-bench", ".json");
+            jsonFile.deleteOnExit();
+            Storage storage = new Storage(jsonFile);
+            storage.saveFile(listOfTasks);
+            File snapshotFile = File.createTempFile("chronologer-bench", ".bin");
+            snapshotFile.deleteOnExit();
+            BinarySnapshot.convert(jsonFile, snapshotFile);
+            System.out.printf("%,d tasks (%,d KB Json, %,d KB binary)%n", size, jsonFile.length() / 1024,
+                snapshotFile.length() / 1024);
+
+            StorageLoadBenchmark.report("  Json", () -> storage.loadFile(jsonFile).getSize());
+            StorageLoadBenchmark.report("  binary snapshot", () -> BinarySnapshot.read(snapshotFile).size());
+            jsonFile.delete();
+            snapshotFile.delete();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.storage.Storage;
+import chronologer.task.Deadline;
+import chronologer.task.Event;
+import chronologer.task.Task;
+import chronologer.task.TaskList;
+import chronologer.task.Todo;
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares the time and peak heap needed to load large save files through the previous whole-string Gson
+ * path and through the streaming loader used by Storage.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class StorageLoadBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs the benchmark, printing one line per file size and loading path.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        for (int size : SIZES) {
+            ArrayList<Task> listOfTasks = generateTasks(size);
+            File legacyFile = File.createTempFile("chronologer-bench", ".json");
+            legacyFile.deleteOnExit();
+            saveReflectively(legacyFile, listOfTasks);
+            File file = File.createTempFile("chronologer-bench", ".json");
+            file.deleteOnExit();
+            Storage storage = new Storage(file);
+            storage.saveFile(listOfTasks);
+            System.out.printf("%,d tasks (%,d KB reflective, %,d KB current)%n", size, legacyFile.length() / 1024,
+                file.length() / 1024);
+
+            report("  previous loader", () -> loadWithStringBuilder(legacyFile).getSize());
+            report("  streaming loader", () -> storage.loadFile(legacyFile).getSize());
+            report("  current format", () -> storage.loadFile(file).getSize());
+            legacyFile.delete();
+            file.delete();
+        }
+    }
+
+    static ArrayList<Task> generateTasks(int size) {
+        ArrayList<Task> listOfTasks = new ArrayList<>(size);
+        LocalDateTime start = LocalDateTime.of(2019, 8, 12, 8, 0);
+        for (int i = 0; i < size; i++) {
+            LocalDateTime date = start.plusMinutes(37L * i);
+            Task task;
+            switch (i % 4) {
+            case 0:
+                task = new Deadline("assignment " + i, date);
+                break;
+            case 1:
+                task = new Event("meeting " + i, date, date.plusHours(2));
+                break;
+            case 2:
+                task = new Todo("read chapter " + i, 3);
+                break;
+            default:
+                task = new Todo("revise " + i, date, date.plusHours(1));
+                break;
+            }
+            task.setLocation("COM" + (i % 3));
+            task.setComment(i % 5 == 0 ? "bring laptop" : "");
+            listOfTasks.add(task);
+        }
+        return listOfTasks;
+    }
+
+    /**
+     * Saves the list in the reflective format Storage wrote before tasks had their own type adapter.
+     */
+    static void saveReflectively(File file, ArrayList<Task> listOfTasks) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file)))) {
+            new Gson().toJson(listOfTasks, writer);
+        }
+    }
+
+    /**
+     * Loads the file the way Storage did before, reading it into one string and deserializing every task
+     * by reflection.
+     */
+    static TaskList loadWithStringBuilder(File file) throws IOException {
+        try (BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(new FileInputStream(file)))) {
+            StringBuilder builder = new StringBuilder();
+            String line;
+            while ((line = bufferedReader.readLine()) != null) {
+                builder.append(line);
+            }
+            Gson gson = new Gson();
+            ArrayList<Task> listOfTasks = new ArrayList<>();
+            for (JsonElement element : JsonParser.parseString(builder.toString()).getAsJsonArray()) {
+                JsonObject object = element.getAsJsonObject();
+                listOfTasks.add(gson.fromJson(object, taskClass(object.get("type").getAsString())));
+            }
+            return new TaskList(listOfTasks);
+        }
+    }
+
+    private static Class<? extends Task> taskClass(String type) {
+        if ("DEADLINE".equals(type)) {
+            return Deadline.class;
+        } else if ("EVENT".equals(type)) {
+            return Event.class;
+        } else {
+            return Todo.class;
+        }
+    }
+
+    static void report(String label, Loader loader) throws IOException, ChronologerException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            loader.load();
+        }
+        long totalNanos = 0;
+        long peakBytes = 0;
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            System.gc();
+            long baseline = resetPeakHeap();
+            long start = System.nanoTime();
+            loader.load();
+            totalNanos += System.nanoTime() - start;
+            peakBytes = Math.max(peakBytes, peakHeap() - baseline);
+        }
+        System.out.printf("%-22s %8.1f ms %8.1f MB peak heap%n", label,
+            totalNanos / 1e6 / MEASURED_ROUNDS, peakBytes / 1024.0 / 1024.0);
+    }
+
+    private static long resetPeakHeap() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * A single load of a save file, timed by the benchmark.
+     */
+    interface Loader {
+        int load() throws IOException, ChronologerException;
+    }
+}
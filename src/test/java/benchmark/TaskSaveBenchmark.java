@@ -0,0 +1,47 @@
+package benchmark;
+
+import chronologer.exception.ChronologerException;
+import chronologer.storage.Storage;
+import chronologer.task.Task;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Compares the time and peak heap needed to save large task lists by reflection and through the task type
+ * adapter used by Storage.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+public class TaskSaveBenchmark {
+
+    private static final int[] SIZES = {10_000, 100_000};
+
+    /**
+     * Runs the benchmark, printing one line per list size and saving path.
+     *
+     * @param args Unused
+     */
+    public static void main(String[] args) throws IOException, ChronologerException {
+        for (int size : SIZES) {
+            ArrayList<Task> listOfTasks = StorageLoadBenchmark.generateTasks(size);
+            File file = File.createTempFile("chronologer-bench", ".json");
+            file.deleteOnExit();
+            Storage storage = new Storage(file);
+            System.out.printf("%,d tasks%n", size);
+
+            StorageLoadBenchmark.report("  reflective save", () -> {
+                StorageLoadBenchmark.saveReflectively(file, listOfTasks);
+                return listOfTasks.size();
+            });
+            StorageLoadBenchmark.report("  adapter save", () -> {
+                storage.saveFile(listOfTasks);
+                return listOfTasks.size();
+            });
+            file.delete();
+        }
+    }
+}
@@ -153,4 +153,36 @@ public class ScheduleParserTest {
             new ScheduleParser("schedule 2 /by 12/10/2019", "schedule").parse();
         });
     }
+
+    @Test
+    void testParseSessions() throws ChronologerException, NoSuchFieldException, IllegalAccessException {
+        Command testCommand = new ScheduleParser("schedule 2 -r /by 10/11/2019 1200 /split 45 3", "schedule").parse();
+        Command expectedCommand = new TaskScheduleCommand((long) 2, deadlineDate).inSessions(45, 3);
+        assertEqualsTaskScheduleCommand(getTaskScheduleCommandFields(testCommand),
+                getTaskScheduleCommandFields(expectedCommand), testCommand, expectedCommand);
+        Field minimumSessionMinutes = TaskScheduleCommand.class.getDeclaredField("minimumSessionMinutes");
+        Field maximumSessionsPerDay = TaskScheduleCommand.class.getDeclaredField("maximumSessionsPerDay");
+        minimumSessionMinutes.setAccessible(true);
+        maximumSessionsPerDay.setAccessible(true);
+        Assertions.assertEquals(45L, minimumSessionMinutes.get(testCommand));
+        Assertions.assertEquals(3, maximumSessionsPerDay.get(testCommand));
+
+        testCommand = new ScheduleParser("schedule 2 /split", "schedule").parse();
+        Assertions.assertEquals(60L, minimumSessionMinutes.get(testCommand));
+        Assertions.assertEquals(2, maximumSessionsPerDay.get(testCommand));
+        Assertions.assertNull(minimumSessionMinutes.get(new ScheduleParser("schedule 2", "schedule").parse()));
+    }
+
+    @Test
+    void testExceptionsForInvalidSessions() {
+        Assertions.assertThrows(ChronologerException.class, () -> {
+            new ScheduleParser("schedule 2 /by 1 /split 45", "schedule").parse();
+        });
+        Assertions.assertThrows(ChronologerException.class, () -> {
+            new ScheduleParser("schedule 2 /by 1 /split a 2", "schedule").parse();
+        });
+        Assertions.assertThrows(ChronologerException.class, () -> {
+            new ScheduleParser("schedule 2 /by 1 /split 45 0", "schedule").parse();
+        });
+    }
 }
@@ -0,0 +1,52 @@
+package chronologer.storage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+//@@author fauzt
+/**
+ * Tests that a write failing part way through leaves the original file and no temporary file behind.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class AtomicFileWriterTest {
+
+    private File file;
+    private File tempFile;
+
+    @BeforeEach
+    void setup() {
+        file = new File(System.getProperty("user.dir") + "/src/test/AtomicFileWriterTest");
+        tempFile = new File(file.getPath() + ".tmp");
+        file.delete();
+        tempFile.delete();
+    }
+
+    @Test
+    void testFailedWriteKeepsPreviousFile() throws IOException {
+        AtomicFileWriter.write(file, "kept".getBytes(StandardCharsets.UTF_8), false);
+
+        Assertions.assertThrows(IOException.class, () -> AtomicFileWriter.write(file, outputStream -> {
+            outputStream.write("partial".getBytes(StandardCharsets.UTF_8));
+            outputStream.flush();
+            throw new IOException("Crash while writing");
+        }, true));
+
+        Assertions.assertFalse(tempFile.exists());
+        Assertions.assertEquals("kept", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void teardown() {
+        file.delete();
+        tempFile.delete();
+    }
+}
@@ -0,0 +1,110 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+//@@author fauzt
+/**
+ * Tests that free slots are cut down to the working hours, the sleep window and the blocked dates of the user.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class AvailabilityTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2019, 9, 30, 0, 0);
+    private static final long MONDAY_EPOCH_DAY = MONDAY.toLocalDate().toEpochDay();
+
+    private static void assertSlot(FreeSlot freeSlot, LocalDateTime startDate, LocalDateTime endDate) {
+        Assertions.assertEquals(startDate, freeSlot.getStartDate());
+        Assertions.assertEquals(endDate, freeSlot.getEndDate());
+    }
+
+    @Test
+    void testAvailableMinutesOfDays() {
+        Availability availability = Availability.ALWAYS.withWorkingHours(DayOfWeek.MONDAY, 9 * 60, 18 * 60)
+            .withSleep(23 * 60, 7 * 60);
+        Assertions.assertArrayEquals(new int[] {9 * 60, 18 * 60}, availability.availableMinutesOf(MONDAY_EPOCH_DAY));
+        Assertions.assertArrayEquals(new int[] {7 * 60, 23 * 60},
+            availability.availableMinutesOf(MONDAY_EPOCH_DAY + 1));
+
+        availability = availability.withSleep(60, 6 * 60).withBlockedDate(MONDAY.toLocalDate().plusDays(2));
+        Assertions.assertArrayEquals(new int[] {0, 60, 6 * 60, 24 * 60},
+            availability.availableMinutesOf(MONDAY_EPOCH_DAY + 1));
+        Assertions.assertArrayEquals(new int[0], availability.availableMinutesOf(MONDAY_EPOCH_DAY + 2));
+        Assertions.assertArrayEquals(new int[0], availability.withWorkingHours(DayOfWeek.SUNDAY, 0, 0)
+            .availableMinutesOf(MONDAY_EPOCH_DAY + 6));
+
+        Assertions.assertTrue(Availability.ALWAYS.isAlways());
+        Assertions.assertTrue(availability.withoutSleep().withoutWorkingHours(DayOfWeek.MONDAY)
+            .withoutBlockedDate(MONDAY.toLocalDate().plusDays(2)).isAlways());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Availability.ALWAYS.withWorkingHours(DayOfWeek.MONDAY, 18 * 60, 9 * 60));
+    }
+
+    @Test
+    void testFreeSlotsWithinWorkingHours() {
+        Availability availability = Availability.ALWAYS.withWorkingHours(DayOfWeek.MONDAY, 9 * 60, 18 * 60)
+            .withWorkingHours(DayOfWeek.TUESDAY, 9 * 60, 18 * 60);
+        BusyTimeline timeline = BusyTimeline.of(Collections.singletonList(
+            new Event("Lecture", MONDAY.withHour(10), MONDAY.withHour(12))), availability);
+        LocalDateTime to = MONDAY.plusDays(1).withHour(12);
+        ArrayList<FreeSlot> freeSlots = timeline.findFreeSlots(MONDAY.withHour(8), to, 0);
+        Assertions.assertEquals(3, freeSlots.size());
+        assertSlot(freeSlots.get(0), MONDAY.withHour(9), MONDAY.withHour(10));
+        assertSlot(freeSlots.get(1), MONDAY.withHour(12), MONDAY.withHour(18));
+        assertSlot(freeSlots.get(2), MONDAY.plusDays(1).withHour(9), to);
+        Assertions.assertSame(to, freeSlots.get(2).getEndDate());
+        Assertions.assertEquals(1, timeline.findFreeSlots(MONDAY.withHour(8), to, 4 * 60).size());
+    }
+
+    @Test
+    void testFreeSlotsAcrossMidnight() {
+        Availability availability = Availability.ALWAYS.withSleep(60, 6 * 60);
+        BusyTimeline timeline = BusyTimeline.of(new ArrayList<>(), availability);
+        ArrayList<FreeSlot> freeSlots = timeline.findFreeSlots(MONDAY.withHour(20), MONDAY.plusDays(1).withHour(8),
+            0);
+        Assertions.assertEquals(2, freeSlots.size());
+        assertSlot(freeSlots.get(0), MONDAY.withHour(20), MONDAY.plusDays(1).withHour(1));
+        Assertions.assertEquals(5 * 60, freeSlots.get(0).getMinutes());
+        assertSlot(freeSlots.get(1), MONDAY.plusDays(1).withHour(6), MONDAY.plusDays(1).withHour(8));
+    }
+
+    @Test
+    void testFreeSlotsWithoutEnd() {
+        LocalDate tuesday = MONDAY.toLocalDate().plusDays(1);
+        BusyTimeline timeline = BusyTimeline.of(new ArrayList<>(), Availability.ALWAYS.withBlockedDate(tuesday));
+        ArrayList<FreeSlot> freeSlots = timeline.findFreeSlots(MONDAY.withHour(20), null, 0);
+        Assertions.assertEquals(2, freeSlots.size());
+        assertSlot(freeSlots.get(0), MONDAY.withHour(20), MONDAY.plusDays(1));
+        assertSlot(freeSlots.get(1), MONDAY.plusDays(2), null);
+
+        Availability workingHours = Availability.ALWAYS;
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            workingHours = workingHours.withWorkingHours(dayOfWeek, 9 * 60, 17 * 60);
+        }
+        timeline = BusyTimeline.of(Arrays.asList(new Event("Lecture", MONDAY.withHour(9), MONDAY.withHour(16))),
+            workingHours);
+        freeSlots = timeline.findFreeSlots(MONDAY.withHour(8), null, 2 * 60);
+        Assertions.assertEquals(1, freeSlots.size());
+        assertSlot(freeSlots.get(0), MONDAY.plusDays(1).withHour(9), MONDAY.plusDays(1).withHour(17));
+        Assertions.assertTrue(timeline.findFreeSlots(MONDAY.withHour(8), null, 10 * 60).isEmpty());
+    }
+
+    @Test
+    void testDescription() {
+        Availability availability = Availability.ALWAYS.withWorkingHours(DayOfWeek.MONDAY, 9 * 60, 24 * 60)
+            .withWorkingHours(DayOfWeek.SUNDAY, 0, 0).withSleep(23 * 60 + 30, 7 * 60)
+            .withBlockedDate(LocalDate.of(2019, 12, 25)).withBlockedDate(LocalDate.of(2019, 12, 24));
+        Assertions.assertEquals("Monday: 0900-2400\nTuesday: any time\nWednesday: any time\nThursday: any time\n"
+            + "Friday: any time\nSaturday: any time\nSunday: off\nSleep: 2330-0700\n"
+            + "Blocked dates: 24/12/2019, 25/12/2019\n", availability.toString());
+    }
+}
@@ -0,0 +1,47 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+//@@author fauzt
+/**
+ * Tests finding the range in which two versions of a list differ.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class ChangedRangeTest {
+
+    private static ChangedRange between(List<String> oldList, List<String> newList) {
+        return ChangedRange.between(oldList.size(), newList.size(),
+            (oldIndex, newIndex) -> oldList.get(oldIndex).equals(newList.get(newIndex)));
+    }
+
+    @Test
+    void testReplacedMiddle() {
+        ChangedRange range = between(Arrays.asList("a", "b", "c", "d"), Arrays.asList("a", "x", "y", "z", "d"));
+        Assertions.assertEquals(1, range.getStart());
+        Assertions.assertEquals(3, range.getOldEnd());
+        Assertions.assertEquals(4, range.getNewEnd());
+        Assertions.assertEquals(2, range.getRemovedCount());
+        Assertions.assertEquals(3, range.getInsertedCount());
+    }
+
+    @Test
+    void testRepeatedElementIsNotMatchedTwice() {
+        ChangedRange range = between(Arrays.asList("a", "a"), Arrays.asList("a", "a", "a"));
+        Assertions.assertEquals(2, range.getStart());
+        Assertions.assertEquals(0, range.getRemovedCount());
+        Assertions.assertEquals(1, range.getInsertedCount());
+    }
+
+    @Test
+    void testUnchangedList() {
+        ChangedRange range = between(Arrays.asList("a", "b"), Arrays.asList("a", "b"));
+        Assertions.assertEquals(0, range.getRemovedCount());
+        Assertions.assertEquals(0, range.getInsertedCount());
+    }
+}
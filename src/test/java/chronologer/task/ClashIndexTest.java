@@ -0,0 +1,88 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Random;
+
+//@@author fauzt
+/**
+ * Tests that clash checks answered from the index match a scan over every task.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class ClashIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 8, 12, 0, 0);
+
+    private static boolean isClashByScan(ArrayList<Task> listOfTasks, Task taskToCheck) {
+        for (Task task : listOfTasks) {
+            if (task.isClash(taskToCheck)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static LocalDateTime randomDate(Random random) {
+        return START.plusHours(random.nextInt(24 * 14));
+    }
+
+    private static Task randomTask(Random random) {
+        LocalDateTime date = randomDate(random);
+        switch (random.nextInt(4)) {
+        case 0:
+            return new Deadline("deadline", date);
+        case 1:
+            return new Todo("todo", date, date.plusHours(1 + random.nextInt(3)));
+        default:
+            return new Event("event", date, date.plusHours(1 + random.nextInt(3)));
+        }
+    }
+
+    @Test
+    void testIndexMatchesScanThroughEdits() {
+        Random random = new Random(11);
+        TaskList tasks = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || tasks.getSize() == 0) {
+                tasks.add(randomTask(random));
+            } else if (operation < 7) {
+                tasks.delete(random.nextInt(tasks.getSize()));
+            } else if (operation < 9) {
+                Task task = tasks.getTasks().get(random.nextInt(tasks.getSize()));
+                LocalDateTime date = randomDate(random);
+                tasks.postpone(task, date, task.endDate == null ? null : date.plusHours(2));
+            } else {
+                ArrayList<Task> updatedListOfTasks = new ArrayList<>(tasks.getTasks());
+                updatedListOfTasks.remove(random.nextInt(updatedListOfTasks.size()));
+                updatedListOfTasks.add(random.nextInt(updatedListOfTasks.size() + 1), randomTask(random));
+                tasks.updateListOfTasks(updatedListOfTasks);
+            }
+
+            Task taskToCheck = randomTask(random);
+            Assertions.assertEquals(isClashByScan(tasks.getTasks(), taskToCheck), tasks.isClash(taskToCheck),
+                "operation " + i + " checking " + taskToCheck);
+        }
+    }
+
+    @Test
+    void testTaskAddedTwiceStaysIndexedUntilBothAreRemoved() {
+        Event event = new Event("lecture", START, START.plusHours(2));
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(event);
+        listOfTasks.add(event);
+        TaskList tasks = new TaskList(listOfTasks);
+        Deadline deadline = new Deadline("quiz", START.plusHours(1));
+
+        Assertions.assertTrue(tasks.isClash(deadline));
+        tasks.delete(0);
+        Assertions.assertTrue(tasks.isClash(deadline));
+        tasks.delete(0);
+        Assertions.assertFalse(tasks.isClash(deadline));
+    }
+}
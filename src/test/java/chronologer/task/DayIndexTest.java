@@ -0,0 +1,119 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Random;
+
+//@@author fauzt
+/**
+ * Tests that schedules read from the calendar index match a scan over every task.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class DayIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 8, 12, 0, 0);
+
+    private static ArrayList<Task> scheduleByScan(ArrayList<Task> listOfTasks, LocalDate firstDay, LocalDate lastDay) {
+        ArrayList<Task> scheduledTasks = new ArrayList<>();
+        for (Task task : listOfTasks) {
+            if (task.startDate == null) {
+                continue;
+            }
+            LocalDate startDay = task.startDate.toLocalDate();
+            LocalDate endDay = task.endDate == null || task.endDate.toLocalDate().isBefore(startDay)
+                ? startDay : task.endDate.toLocalDate();
+            if (!startDay.isAfter(lastDay) && !endDay.isBefore(firstDay)) {
+                scheduledTasks.add(task);
+            }
+        }
+        scheduledTasks.sort(Comparator.comparing(task -> task.startDate));
+        return scheduledTasks;
+    }
+
+    /**
+     * Checks that both schedules hold the same tasks as often and in the same order of start dates. Tasks
+     * starting at the same time may be listed in either order.
+     */
+    private static void assertSameSchedule(ArrayList<Task> expected, ArrayList<Task> actual, String message) {
+        Assertions.assertEquals(expected.size(), actual.size(), message);
+        IdentityHashMap<Task, Integer> counts = new IdentityHashMap<>();
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).startDate, actual.get(i).startDate, message);
+            counts.merge(expected.get(i), 1, Integer::sum);
+            counts.merge(actual.get(i), -1, Integer::sum);
+        }
+        for (int count : counts.values()) {
+            Assertions.assertEquals(0, count, message);
+        }
+    }
+
+    private static LocalDateTime randomDate(Random random) {
+        return START.plusHours(random.nextInt(24 * 14));
+    }
+
+    private static Task randomTask(Random random) {
+        LocalDateTime date = randomDate(random);
+        switch (random.nextInt(5)) {
+        case 0:
+            return new Deadline("deadline", date);
+        case 1:
+            return new Todo("todo", date, date.plusHours(1 + random.nextInt(30)));
+        case 2:
+            return new Todo("todo", 2);
+        default:
+            return new Event("event", date, date.plusHours(1 + random.nextInt(60)));
+        }
+    }
+
+    @Test
+    void testIndexMatchesScanThroughEdits() {
+        Random random = new Random(12);
+        TaskList tasks = new TaskList(new ArrayList<>());
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 5 || tasks.getSize() == 0) {
+                tasks.add(randomTask(random));
+            } else if (operation < 7) {
+                tasks.delete(random.nextInt(tasks.getSize()));
+            } else if (operation < 9) {
+                Task task = tasks.getTasks().get(random.nextInt(tasks.getSize()));
+                LocalDateTime date = randomDate(random);
+                tasks.postpone(task, date, task.endDate == null ? null : date.plusHours(random.nextInt(50)));
+            } else {
+                ArrayList<Task> updatedListOfTasks = new ArrayList<>(tasks.getTasks());
+                updatedListOfTasks.remove(random.nextInt(updatedListOfTasks.size()));
+                updatedListOfTasks.add(random.nextInt(updatedListOfTasks.size() + 1), randomTask(random));
+                tasks.updateListOfTasks(updatedListOfTasks);
+            }
+
+            LocalDate day = randomDate(random).toLocalDate();
+            assertSameSchedule(scheduleByScan(tasks.getTasks(), day, day), tasks.schedule(day),
+                "operation " + i + " on " + day);
+            LocalDate lastDay = day.plusDays(random.nextInt(7));
+            assertSameSchedule(scheduleByScan(tasks.getTasks(), day, lastDay), tasks.schedule(day, lastDay),
+                "operation " + i + " from " + day + " to " + lastDay);
+        }
+    }
+
+    @Test
+    void testDatesGivenToUndatedTaskAreIndexed() {
+        Todo todo = new Todo("read", 2);
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(todo);
+        TaskList tasks = new TaskList(listOfTasks);
+        Assertions.assertTrue(tasks.schedule(START.toLocalDate()).isEmpty());
+
+        tasks.postpone(todo, START.plusHours(20), START.plusHours(30));
+        Assertions.assertEquals(1, tasks.schedule(START.toLocalDate()).size());
+        Assertions.assertEquals(1, tasks.schedule(START.toLocalDate().plusDays(1)).size());
+        Assertions.assertEquals(1, tasks.schedule(START.toLocalDate(), START.toLocalDate().plusDays(1)).size());
+    }
+}
@@ -0,0 +1,74 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+//@@author fauzt
+/**
+ * Tests that free slots are found between the merged busy periods of every timed task at minute resolution.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class FreeSlotTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2019, 10, 1, 8, 0);
+    private static final LocalDateTime TO = FROM.plusHours(12);
+
+    private static TaskList listOf(Task... tasks) {
+        return new TaskList(new ArrayList<>(Arrays.asList(tasks)));
+    }
+
+    private static void assertSlot(FreeSlot freeSlot, LocalDateTime startDate, LocalDateTime endDate) {
+        Assertions.assertEquals(startDate, freeSlot.getStartDate());
+        Assertions.assertEquals(endDate, freeSlot.getEndDate());
+    }
+
+    @Test
+    void testOverlappingEventsAreMerged() {
+        TaskList tasks = listOf(new Event("Lecture", FROM.plusHours(1), FROM.plusHours(3)),
+            new Event("Lab", FROM.plusHours(2), FROM.plusHours(4)),
+            new Event("Tutorial", FROM.plusHours(2), FROM.plusHours(2).plusMinutes(30)),
+            new Event("Meeting", FROM.plusHours(5).plusMinutes(30), FROM.plusHours(6)));
+        ArrayList<FreeSlot> freeSlots = tasks.findFreeSlots(FROM, TO, 0);
+
+        Assertions.assertEquals(3, freeSlots.size());
+        assertSlot(freeSlots.get(0), FROM, FROM.plusHours(1));
+        assertSlot(freeSlots.get(1), FROM.plusHours(4), FROM.plusHours(5).plusMinutes(30));
+        Assertions.assertEquals(90, freeSlots.get(1).getMinutes());
+        assertSlot(freeSlots.get(2), FROM.plusHours(6), TO);
+        Assertions.assertEquals(2, tasks.findFreeSlots(FROM, TO, 90).size());
+        Assertions.assertEquals(1, tasks.findFreeSlots(FROM, TO, 91).size());
+    }
+
+    @Test
+    void testTodoPeriodsAndDeadlinesKeepTheUserBusy() {
+        Todo revision = new Todo("Revise", FROM.plusHours(1), FROM.plusHours(2));
+        Deadline report = new Deadline("Lab report", FROM.plusHours(4));
+        TaskList tasks = listOf(revision, report);
+        ArrayList<FreeSlot> freeSlots = tasks.findFreeSlots(FROM, TO, 0);
+
+        Assertions.assertEquals(3, freeSlots.size());
+        assertSlot(freeSlots.get(1), FROM.plusHours(2), FROM.plusHours(4).minusMinutes(30));
+        report.setDone(true);
+        revision.setDone(true);
+        Assertions.assertEquals(1, tasks.findFreeSlots(FROM, TO, 0).size());
+    }
+
+    @Test
+    void testSearchWithoutAnEndEndsWithAnOpenSlot() {
+        TaskList tasks = listOf(new Event("Lecture", FROM.minusHours(1), FROM.plusHours(1)),
+            new Event("Camp", FROM.plusDays(40), FROM.plusDays(41)));
+        ArrayList<FreeSlot> freeSlots = tasks.findFreeSlots(FROM, null, 60);
+
+        Assertions.assertEquals(2, freeSlots.size());
+        assertSlot(freeSlots.get(0), FROM.plusHours(1), FROM.plusDays(40));
+        Assertions.assertTrue(freeSlots.get(1).isOpenEnded());
+        Assertions.assertEquals(FROM.plusDays(41), freeSlots.get(1).getStartDate());
+        Assertions.assertTrue(listOf().findFreeSlots(FROM, null, 60).get(0).isOpenEnded());
+    }
+}
@@ -0,0 +1,151 @@
+package chronologer.task;
+
+import chronologer.exception.ChronologerException;
+import chronologer.parser.ParserFactory;
+import chronologer.storage.ChronologerStateList;
+import chronologer.storage.Storage;
+import chronologer.ui.UiMessageHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests that tasks keep their ids as the list changes, and that commands can address tasks by id.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class IdIndexTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2019, 10, 1, 10, 0);
+
+    private final File file = new File(System.getProperty("user.dir") + "/src/test/IdList");
+    private final File placeholder = new File(System.getProperty("user.dir") + "/src/test/States");
+
+    private static TaskList createTasks() {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(new Deadline("Lab report", DATE));
+        listOfTasks.add(new Event("Lecture", DATE, DATE.plusHours(2)));
+        listOfTasks.add(new Todo("Read chapter 3"));
+        return new TaskList(listOfTasks);
+    }
+
+    @Test
+    void testIdsStayWithTheirTasks() {
+        TaskList tasks = createTasks();
+        Task lecture = tasks.getTasks().get(1);
+        long id = lecture.getId();
+        Assertions.assertTrue(id > 0);
+        Assertions.assertSame(lecture, tasks.getById(id));
+
+        tasks.delete(0);
+        Todo todo = new Todo("Tutorial");
+        tasks.add(todo);
+        Assertions.assertEquals(id, lecture.getId());
+        Assertions.assertEquals(0, tasks.indexOfId(id));
+        Assertions.assertEquals(4, todo.getId());
+        Assertions.assertSame(todo, tasks.deleteById(todo.getId()));
+        Assertions.assertNull(tasks.getById(todo.getId()));
+        Assertions.assertEquals(-1, tasks.indexOfId(todo.getId()));
+    }
+
+    @Test
+    void testStoredIdsAreKeptAndDuplicatesReplaced() {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        for (long id : new long[] {0, 7, 7, 2}) {
+            Todo todo = new Todo("Task " + id);
+            todo.id = id;
+            listOfTasks.add(todo);
+        }
+        TaskList tasks = new TaskList(listOfTasks);
+        Assertions.assertEquals(8, listOfTasks.get(0).getId());
+        Assertions.assertEquals(7, listOfTasks.get(1).getId());
+        Assertions.assertEquals(9, listOfTasks.get(2).getId());
+        Assertions.assertEquals(2, listOfTasks.get(3).getId());
+        Assertions.assertSame(listOfTasks.get(1), tasks.getById(7));
+    }
+
+    @Test
+    void testRestoredCopiesKeepTheIdsOfTheTasksTheyReplace() {
+        TaskList tasks = createTasks();
+        ArrayList<Task> restoredTasks = new ArrayList<>();
+        for (Task task : tasks.getTasks()) {
+            restoredTasks.add(TaskRecord.of(task).toTask());
+        }
+        long id = tasks.getTasks().get(2).getId();
+        tasks.updateListOfTasks(restoredTasks);
+        Assertions.assertEquals(id, restoredTasks.get(2).getId());
+        Assertions.assertSame(restoredTasks.get(2), tasks.getById(id));
+    }
+
+    @Test
+    void testCommandsAcceptAnIdInPlaceOfAnIndex() throws ChronologerException {
+        TaskList tasks = createTasks();
+        Storage storage = new Storage(file);
+        ChronologerStateList history = new ChronologerStateList(placeholder, placeholder, placeholder);
+        Task todo = tasks.getTasks().get(2);
+
+        tasks.delete(0);
+        ParserFactory.parse("edit #" + todo.getId() + " Read chapter 4").execute(tasks, storage, history);
+        ParserFactory.parse("done #" + todo.getId()).execute(tasks, storage, history);
+        Assertions.assertEquals("Read chapter 4", todo.getDescription());
+        Assertions.assertTrue(todo.isDone());
+        Assertions.assertFalse(tasks.getTasks().get(0).isDone());
+
+        ParserFactory.parse("delete #" + todo.getId()).execute(tasks, storage, history);
+        Assertions.assertEquals(1, tasks.getSize());
+        Assertions.assertThrows(ChronologerException.class, () ->
+            ParserFactory.parse("delete #" + todo.getId()).execute(tasks, storage, history));
+        Assertions.assertThrows(ChronologerException.class, () -> ParserFactory.parse("delete #abc"));
+    }
+
+    @Test
+    void testIndexOfIdFollowsDeletionsAndReplacements() {
+        TaskList tasks = createTasks();
+        Task lecture = tasks.getTasks().get(1);
+        Task todo = tasks.getTasks().get(2);
+        Task deadline = tasks.delete(0);
+        Assertions.assertEquals(0, tasks.indexOfId(lecture.getId()));
+        Assertions.assertEquals(1, tasks.indexOfId(todo.getId()));
+        Assertions.assertEquals(-1, tasks.indexOfId(deadline.getId()));
+
+        ArrayList<Task> restored = new ArrayList<>(tasks.getTasks());
+        restored.add(0, deadline);
+        tasks.updateListOfTasks(restored);
+        Assertions.assertEquals(0, tasks.indexOfId(deadline.getId()));
+        Assertions.assertEquals(2, tasks.indexOfId(todo.getId()));
+
+        tasks.getTasks().remove(0);
+        Assertions.assertEquals(1, tasks.indexOfId(todo.getId()));
+        Assertions.assertSame(todo, tasks.deleteById(todo.getId()));
+        Assertions.assertEquals(-1, tasks.indexOfId(todo.getId()));
+    }
+
+    @Test
+    void testListAndFindShowIds() throws ChronologerException {
+        TaskList tasks = createTasks();
+        Task lecture = tasks.getTasks().get(1);
+        tasks.delete(0);
+
+        ParserFactory.parse("list -r").execute(tasks, null, null);
+        String listed = UiMessageHandler.getOutputForGui();
+        Assertions.assertTrue(listed.contains("1.#" + lecture.getId() + " " + lecture.toString() + "\n"));
+        ParserFactory.parse("list").execute(tasks, null, null);
+        Assertions.assertTrue(UiMessageHandler.getOutputForGui().contains("1." + lecture.toString() + "\n"));
+
+        ParserFactory.parse("find -r chapter").execute(tasks, null, null);
+        Task todo = tasks.getTasks().get(1);
+        Assertions.assertTrue(UiMessageHandler.getOutputForGui()
+            .contains("1.#" + todo.getId() + " " + todo.toString() + "\n"));
+    }
+
+    @AfterEach
+    void teardown() {
+        file.delete();
+    }
+}
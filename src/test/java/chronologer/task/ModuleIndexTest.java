@@ -0,0 +1,71 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+//@@author fauzt
+/**
+ * Tests that the tasks and totals of a module follow the edits to the list.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class ModuleIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2019, 9, 30, 10, 0);
+    private static final LocalDate WEDNESDAY = LocalDate.of(2019, 10, 2);
+
+    @Test
+    void testTasksAreGroupedByModule() {
+        Deadline report = new Deadline("Lab report", MONDAY, "CS2113");
+        Event lecture = new Event("lecture", MONDAY.plusDays(2), MONDAY.plusDays(2).plusHours(2), "cs2113");
+        Event tutorial = new Event("tutorial", MONDAY, MONDAY.plusHours(1), "CS2101");
+        TaskList tasks = new TaskList(new ArrayList<>(Arrays.asList(report, tutorial, lecture, new Todo("Read"))));
+
+        Assertions.assertEquals(Arrays.asList(report, lecture), tasks.tasksOfModule("cs2113"));
+        Assertions.assertEquals(Arrays.asList(tutorial), tasks.tasksOfModule("CS2101"));
+        Assertions.assertTrue(tasks.tasksOfModule("CS1010").isEmpty());
+        Assertions.assertEquals(1, tasks.countPendingDeadlines("CS2113"));
+        Assertions.assertEquals(120, tasks.countEventMinutesInWeek("CS2113", WEDNESDAY));
+        Assertions.assertEquals(0, tasks.countEventMinutesInWeek("CS2113", WEDNESDAY.plusWeeks(1)));
+    }
+
+    @Test
+    void testTotalsFollowEdits() {
+        Deadline report = new Deadline("Lab report", MONDAY, "CS2113");
+        Event camp = new Event("Camp", MONDAY.plusDays(6), MONDAY.plusDays(7).plusHours(1), "CS2113");
+        TaskList tasks = new TaskList(new ArrayList<>(Arrays.asList(report, camp)));
+        Assertions.assertEquals(14 * 60, tasks.countEventMinutesInWeek("CS2113", WEDNESDAY));
+        Assertions.assertEquals(11 * 60, tasks.countEventMinutesInWeek("CS2113", WEDNESDAY.plusWeeks(1)));
+
+        tasks.markAsDone(0);
+        Assertions.assertEquals(0, tasks.countPendingDeadlines("CS2113"));
+        camp.setStartDate(MONDAY.plusDays(7));
+        Assertions.assertEquals(0, tasks.countEventMinutesInWeek("CS2113", WEDNESDAY));
+        Assertions.assertEquals(60, tasks.countEventMinutesInWeek("CS2113", WEDNESDAY.plusWeeks(1)));
+        camp.setModCode("CS2101");
+        Assertions.assertEquals(Arrays.asList(report), tasks.tasksOfModule("CS2113"));
+        Assertions.assertEquals(60, tasks.countEventMinutesInWeek("CS2101", WEDNESDAY.plusWeeks(1)));
+        tasks.delete(1);
+        Assertions.assertTrue(tasks.tasksOfModule("CS2101").isEmpty());
+    }
+
+    @Test
+    void testNextExamIsTheSoonestPendingExam() {
+        Event midterm = new Event("exam", MONDAY, MONDAY.plusHours(2), "CS2113");
+        Event finals = new Event("exam", MONDAY.plusWeeks(8), MONDAY.plusWeeks(8).plusHours(2), "CS2113");
+        Event lecture = new Event("lecture", MONDAY.plusDays(1), MONDAY.plusDays(1).plusHours(2), "CS2113");
+        TaskList tasks = new TaskList(new ArrayList<>(Arrays.asList(finals, lecture, midterm)));
+
+        Assertions.assertSame(midterm, tasks.findNextExam("CS2113", MONDAY.minusDays(1)));
+        Assertions.assertSame(finals, tasks.findNextExam("CS2113", MONDAY.plusMinutes(1)));
+        finals.setDone(true);
+        Assertions.assertNull(tasks.findNextExam("CS2113", MONDAY.plusMinutes(1)));
+        Assertions.assertNull(tasks.findNextExam("CS1010", MONDAY));
+    }
+}
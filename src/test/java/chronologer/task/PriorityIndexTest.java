@@ -0,0 +1,71 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+//@@author fauzt
+/**
+ * Tests that the tasks of a day are listed by priority and then by start date, and follow edits to the list.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class PriorityIndexTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2019, 10, 1, 9, 0);
+    private static final LocalDate DAY = DATE.toLocalDate();
+
+    private static Task withPriority(Task task, Priority priority) {
+        task.setPriority(priority);
+        return task;
+    }
+
+    @Test
+    void testTasksAreOrderedByPriorityThenStart() {
+        Task lateHigh = withPriority(new Deadline("Quiz", DATE.plusHours(5)), Priority.HIGH);
+        Task earlyMedium = withPriority(new Event("Lecture", DATE, DATE.plusHours(2)), Priority.MEDIUM);
+        Task earlyHigh = withPriority(new Deadline("Lab report", DATE.plusHours(1)), Priority.HIGH);
+        Task low = withPriority(new Deadline("Reading", DATE), Priority.LOW);
+        TaskList tasks = new TaskList(new ArrayList<>(Arrays.asList(lateHigh, earlyMedium, low, earlyHigh,
+            new Todo("Undated"))));
+
+        Assertions.assertEquals(Arrays.asList(earlyHigh, lateHigh, earlyMedium),
+            tasks.prioritizedTasks(DAY, Priority.MEDIUM));
+        Assertions.assertEquals(Arrays.asList(earlyHigh, lateHigh, earlyMedium, low),
+            tasks.prioritizedTasks(DAY, Priority.LOW));
+        Assertions.assertEquals(Arrays.asList(earlyHigh, lateHigh), tasks.prioritizedTasks(DAY, Priority.HIGH));
+        Assertions.assertEquals(Arrays.asList(earlyHigh.toString(), lateHigh.toString(), earlyMedium.toString()),
+            tasks.obtainPriorityList("01/10/2019"));
+    }
+
+    @Test
+    void testTasksSpanningDaysAreListedOnEachDay() {
+        Task event = withPriority(new Event("Camp", DATE, DATE.plusDays(2)), Priority.HIGH);
+        TaskList tasks = new TaskList(new ArrayList<>(Arrays.asList(event)));
+
+        Assertions.assertEquals(Arrays.asList(event), tasks.prioritizedTasks(DAY.plusDays(1), Priority.MEDIUM));
+        Assertions.assertEquals(1, tasks.obtainPriorityList(DAY.plusDays(2)).size());
+        Assertions.assertTrue(tasks.obtainPriorityList(DAY.plusDays(3)).isEmpty());
+    }
+
+    @Test
+    void testEditsRefileTasks() {
+        Task deadline = withPriority(new Deadline("Quiz", DATE), Priority.HIGH);
+        TaskList tasks = new TaskList(new ArrayList<>(Arrays.asList(deadline)));
+        Assertions.assertEquals(1, tasks.prioritizedTasks(DAY, Priority.HIGH).size());
+
+        deadline.setPriority(Priority.LOW);
+        Assertions.assertTrue(tasks.prioritizedTasks(DAY, Priority.MEDIUM).isEmpty());
+        deadline.setStartDate(DATE.plusDays(1));
+        Assertions.assertTrue(tasks.prioritizedTasks(DAY, Priority.LOW).isEmpty());
+        Assertions.assertEquals(Arrays.asList(deadline), tasks.prioritizedTasks(DAY.plusDays(1), Priority.LOW));
+
+        tasks.delete(0);
+        Assertions.assertTrue(tasks.prioritizedTasks(DAY.plusDays(1), Priority.LOW).isEmpty());
+    }
+}
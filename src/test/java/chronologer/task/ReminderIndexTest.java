@@ -0,0 +1,79 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+//@@author fauzt
+/**
+ * Tests that the reminder and undated task views follow the time and the edits to the list.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class ReminderIndexTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2019, 10, 1, 9, 0);
+
+    @Test
+    void testRemindersTriggerAsTimePasses() {
+        Deadline quiz = new Deadline("Quiz", DATE.plusDays(2));
+        Deadline report = new Deadline("Lab report", DATE.plusDays(1));
+        ReminderIndex index = new ReminderIndex();
+        index.add(quiz);
+        index.add(report);
+
+        Assertions.assertEquals(Collections.emptyList(), index.triggeredAt(DATE.minusDays(3)));
+        Assertions.assertEquals(Arrays.asList(report), index.triggeredAt(DATE.plusMinutes(1)));
+        Assertions.assertEquals(Arrays.asList(report, quiz), index.triggeredAt(DATE.plusDays(1).plusHours(1)));
+        Assertions.assertEquals(Arrays.asList(report), index.triggeredAt(DATE.plusMinutes(1)));
+        Assertions.assertEquals(Collections.emptyList(), index.triggeredAt(DATE));
+    }
+
+    @Test
+    void testRemindersFollowEdits() {
+        Deadline quiz = new Deadline("Quiz", DATE);
+        ReminderIndex index = new ReminderIndex();
+        index.add(quiz);
+        Assertions.assertEquals(Arrays.asList(quiz), index.triggeredAt(DATE));
+
+        quiz.setDone(true);
+        index.update(quiz);
+        Assertions.assertTrue(index.triggeredAt(DATE).isEmpty());
+        quiz.setDone(false);
+        quiz.setReminder(0);
+        index.update(quiz);
+        Assertions.assertTrue(index.triggeredAt(DATE).isEmpty());
+        Assertions.assertEquals(Arrays.asList(quiz), index.triggeredAt(DATE.plusMinutes(1)));
+        quiz.setIgnored(true);
+        index.update(quiz);
+        Assertions.assertTrue(index.triggeredAt(DATE.plusMinutes(1)).isEmpty());
+
+        Deadline report = new Deadline("Lab report", DATE);
+        index.add(report);
+        Assertions.assertEquals(Arrays.asList(report), index.triggeredAt(DATE.plusMinutes(1)));
+        index.remove(report);
+        Assertions.assertTrue(index.triggeredAt(DATE.plusMinutes(1)).isEmpty());
+    }
+
+    @Test
+    void testListViewsFollowTheList() {
+        Todo read = new Todo("Read");
+        Deadline report = new Deadline("Lab report", LocalDateTime.now().plusHours(1));
+        TaskList tasks = new TaskList(new ArrayList<>(Arrays.asList(read, report, new Todo("Revise", 3))));
+        Assertions.assertEquals(Arrays.asList("Read", "Revise"), tasks.obtainTasksWithoutDates());
+        Assertions.assertEquals(1, tasks.fetchReminders().size());
+
+        tasks.add(new Todo("Practise"));
+        read.setStartDate(DATE);
+        Assertions.assertEquals(Arrays.asList("Revise", "Practise"), tasks.obtainTasksWithoutDates());
+        tasks.markAsDone(1);
+        Assertions.assertTrue(tasks.fetchReminders().isEmpty());
+        tasks.delete(2);
+        Assertions.assertEquals(Arrays.asList("Practise"), tasks.obtainTasksWithoutDates());
+    }
+}
@@ -0,0 +1,52 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+//@@author fauzt
+/**
+ * Tests the kinds of tasks and the epoch minutes cached for their dates.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class TaskKindTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2019, 10, 1, 10, 0);
+
+    @Test
+    void testKindsKeepTheTypeNamesOfTheSaveFile() {
+        Assertions.assertEquals(TaskKind.DEADLINE, new Deadline("Lab report", DATE).getKind());
+        Assertions.assertEquals("TODO PERIOD", new Todo("Read", DATE, DATE.plusHours(1)).getType());
+        Assertions.assertEquals(TaskKind.TODO_DURATION, TaskKind.of("TODO DURATION"));
+        Assertions.assertNull(TaskKind.of("UNKNOWN"));
+        Assertions.assertEquals(TaskKind.EVENT, TaskRecord.of(new Event("Lecture", DATE, DATE)).toTask().getKind());
+    }
+
+    @Test
+    void testMinutesFollowTheDates() {
+        Event event = new Event("Lecture", DATE, DATE.plusHours(2));
+        long startMinute = event.getStartMinute();
+        Assertions.assertEquals(DATE.plusHours(2), LocalDateTime.ofEpochSecond(event.getEndMinute() * 60, 0,
+            ZoneOffset.UTC));
+
+        event.setStartDate(DATE.plusMinutes(30));
+        Assertions.assertEquals(startMinute + 30, event.getStartMinute());
+        event.startDate = DATE.minusMinutes(1);
+        Assertions.assertEquals(startMinute - 1, event.getStartMinute());
+        Assertions.assertEquals(Task.NO_MINUTE, new Todo("Read").getStartMinute());
+    }
+
+    @Test
+    void testClashesCompareMinutes() {
+        Event event = new Event("Lecture", DATE, DATE.plusHours(2));
+        Assertions.assertTrue(event.isClash(new Deadline("Quiz", DATE.plusHours(1))));
+        Assertions.assertFalse(event.isClash(new Deadline("Quiz", DATE.plusHours(2))));
+        Assertions.assertTrue(new Deadline("Quiz", DATE).isClash(new Deadline("Test", DATE)));
+        Assertions.assertTrue(new Deadline("Quiz", DATE.plusHours(1)).isClash(event));
+        Assertions.assertFalse(event.isClash(new Event("Tutorial", DATE.plusHours(2), DATE.plusHours(3))));
+    }
+}
@@ -0,0 +1,47 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests that the strings rendered for a task are reused until the task is modified.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class TaskRenderTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2019, 10, 1, 9, 5);
+
+    @Test
+    void testDisplayStringIsReusedUntilModified() {
+        Deadline deadline = new Deadline("Lab report", DATE, "CS2113");
+        String rendered = deadline.toString();
+        Assertions.assertSame(rendered, deadline.toString());
+
+        deadline.setDone(true);
+        Assertions.assertNotSame(rendered, deadline.toString());
+        Assertions.assertTrue(deadline.toString().contains(deadline.getStatusIcon()));
+        deadline.setComment("bring the datasheet");
+        Assertions.assertTrue(deadline.toString().endsWith("Note to self: bring the datasheet"));
+    }
+
+    @Test
+    void testScheduleLabelsFollowEdits() {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        Event event = new Event("Lecture", DATE, DATE.plusHours(2), "CS2101");
+        listOfTasks.add(event);
+        TaskList tasks = new TaskList(listOfTasks);
+        Assertions.assertEquals("CS2101 Lecture\nS: 0905 E: 1105", tasks.scheduleForDay(DATE.toLocalDate()).get(0));
+        Assertions.assertSame(event.getScheduleLabel(), tasks.scheduleForDay(DATE.toLocalDate()).get(0));
+
+        tasks.editTaskDescription(0, "Seminar");
+        Assertions.assertEquals("CS2101 Seminar\nS: 0905 E: 1105", tasks.scheduleForDay(DATE.toLocalDate()).get(0));
+        Assertions.assertEquals("Read\n", new Todo("Read").getScheduleLabel());
+        Assertions.assertEquals("Quiz\nD: 0905", new Deadline("Quiz", DATE).getScheduleLabel());
+    }
+}
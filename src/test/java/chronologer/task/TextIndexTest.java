@@ -0,0 +1,76 @@
+package chronologer.task;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+//@@author fauzt
+/**
+ * Tests finding tasks through the inverted index as they are added, edited and deleted.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class TextIndexTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2019, 10, 1, 10, 0);
+
+    private static TaskList createTasks() {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(new Deadline("Lab report", DATE, "CS2113"));
+        listOfTasks.add(new Event("Lecture", DATE, DATE.plusHours(2), "CS2101"));
+        listOfTasks.add(new Todo("Read chapter 3"));
+        return new TaskList(listOfTasks);
+    }
+
+    @Test
+    void testTermsAreMatchedByPrefixIgnoringCase() {
+        TaskList tasks = createTasks();
+        Assertions.assertEquals(1, tasks.find("lab").size());
+        Assertions.assertEquals(1, tasks.find("LEC").size());
+        Assertions.assertEquals(2, tasks.find("cs21").size());
+        Assertions.assertEquals(0, tasks.find("port").size());
+        Assertions.assertEquals(0, tasks.find("  ").size());
+    }
+
+    @Test
+    void testEveryTermHasToMatch() {
+        TaskList tasks = createTasks();
+        Assertions.assertEquals("Lecture", tasks.find("cs lec").get(0).getDescription());
+        Assertions.assertEquals(1, tasks.find("cs lec").size());
+        Assertions.assertEquals(0, tasks.find("lab lecture").size());
+    }
+
+    @Test
+    void testEditsAndDeletionsAreIndexed() {
+        TaskList tasks = createTasks();
+        Assertions.assertEquals(0, tasks.find("tutorial").size());
+
+        tasks.editTaskDescription(1, "Tutorial");
+        tasks.editTaskComment(0, "bring the datasheet");
+        tasks.addLocation(2, "Central Library");
+        Assertions.assertEquals(1, tasks.find("tutorial").size());
+        Assertions.assertEquals(0, tasks.find("lecture").size());
+        Assertions.assertEquals("Lab report", tasks.find("datasheet").get(0).getDescription());
+        Assertions.assertEquals(1, tasks.find("library read").size());
+
+        tasks.delete(0);
+        Assertions.assertEquals(0, tasks.find("datasheet").size());
+        Assertions.assertEquals(1, tasks.find("cs").size());
+    }
+
+    @Test
+    void testResultsFollowTheOrderOfTheList() {
+        TaskList tasks = createTasks();
+        Todo todo = new Todo("Read notes");
+        tasks.add(todo);
+        tasks.add(todo);
+        ArrayList<Task> foundTasks = tasks.find("read");
+        Assertions.assertEquals(3, foundTasks.size());
+        Assertions.assertEquals("Read chapter 3", foundTasks.get(0).getDescription());
+        Assertions.assertSame(todo, foundTasks.get(2));
+        Assertions.assertEquals(3, TaskList.findAmong(tasks.getTasks(), "READ").size());
+    }
+}
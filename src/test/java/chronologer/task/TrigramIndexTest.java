@@ -0,0 +1,101 @@
+package chronologer.task;
+
+import chronologer.exception.ChronologerException;
+import chronologer.parser.ParserFactory;
+import chronologer.ui.UiMessageHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+//@@author fauzt
+/**
+ * Tests finding tasks by keywords that are misspelt or only part of a word.
+ *
+ * @author Fauzan Adipratama
+ * @version v1.0
+ */
+class TrigramIndexTest {
+
+    private static final String LETTERS = "abcdeilmnorst";
+
+    private static String randomWord(Random random, int minLength) {
+        StringBuilder word = new StringBuilder();
+        int length = minLength + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+        }
+        return word.toString();
+    }
+
+    private static String misspell(Random random, String word) {
+        StringBuilder misspeltWord = new StringBuilder(word);
+        int position = random.nextInt(word.length());
+        switch (random.nextInt(3)) {
+        case 0:
+            misspeltWord.deleteCharAt(position);
+            break;
+        case 1:
+            misspeltWord.insert(position, LETTERS.charAt(random.nextInt(LETTERS.length())));
+            break;
+        default:
+            misspeltWord.setCharAt(position, LETTERS.charAt(random.nextInt(LETTERS.length())));
+            break;
+        }
+        return misspeltWord.toString();
+    }
+
+    @Test
+    void testIndexFindsEveryTaskTheScanFinds() {
+        Random random = new Random(14);
+        TaskList tasks = new TaskList(new ArrayList<>());
+        ArrayList<String> usedWords = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            String description = randomWord(random, 1) + " " + randomWord(random, 3);
+            usedWords.add(description.split(" ")[1]);
+            tasks.add(new Todo(description));
+            if (i % 5 == 0) {
+                tasks.delete(random.nextInt(tasks.getSize()));
+            }
+            if (i % 7 == 0 && tasks.getSize() > 0) {
+                tasks.editTaskComment(random.nextInt(tasks.getSize()), randomWord(random, 2));
+            }
+
+            String query = i % 3 == 0 ? randomWord(random, 1)
+                : misspell(random, usedWords.get(random.nextInt(usedWords.size())));
+            Assertions.assertEquals(TaskList.findSimilarAmong(tasks.getTasks(), query), tasks.findSimilar(query),
+                "query " + query);
+        }
+    }
+
+    @Test
+    void testMisspeltKeywordsFindTasksClosestFirst() {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(new Todo("Lectern repair"));
+        listOfTasks.add(new Todo("Lecture notes CS2113"));
+        listOfTasks.add(new Todo("Prelecture quiz CS2101"));
+        listOfTasks.add(new Todo("Tutorial"));
+        TaskList tasks = new TaskList(listOfTasks);
+
+        ArrayList<Task> foundTasks = tasks.findSimilar("lecture");
+        Assertions.assertEquals(3, foundTasks.size());
+        Assertions.assertEquals("Lecture notes CS2113", foundTasks.get(0).getDescription());
+        Assertions.assertEquals("Prelecture quiz CS2101", foundTasks.get(1).getDescription());
+        Assertions.assertEquals("Lecture notes CS2113", tasks.findSimilar("lectrue").get(0).getDescription());
+        Assertions.assertEquals(1, tasks.findSimilar("lectre cs2131").size());
+        Assertions.assertEquals(0, tasks.findSimilar("seminar").size());
+    }
+
+    @Test
+    void testFindCommandMatchesSimilarWords() throws ChronologerException {
+        ArrayList<Task> listOfTasks = new ArrayList<>();
+        listOfTasks.add(new Todo("Tutorial sheet"));
+        TaskList tasks = new TaskList(listOfTasks);
+
+        ParserFactory.parse("find tutorail").execute(tasks, null, null);
+        Assertions.assertFalse(UiMessageHandler.getOutputForGui().contains("Tutorial sheet"));
+        ParserFactory.parse("find ~tutorail").execute(tasks, null, null);
+        Assertions.assertTrue(UiMessageHandler.getOutputForGui().contains("Tutorial sheet"));
+    }
+}